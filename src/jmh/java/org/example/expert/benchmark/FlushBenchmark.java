@@ -0,0 +1,135 @@
+package org.example.expert.benchmark;
+
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.weather.converter.WeatherCodeConverter;
+import org.example.expert.domain.weather.converter.WeatherCodes;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.resource.beans.container.spi.BeanContainer;
+import org.hibernate.resource.beans.container.spi.ContainedBean;
+import org.hibernate.resource.beans.spi.BeanInstanceProducer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 많은 엔티티를 읽은 트랜잭션의 flush 비용
+ * - loadOnly: 조회만, loadAndFlush: 조회 + 1건 수정 후 flush → 차이가 dirty check 비용
+ * - 향상 적용/미적용 비교: ./gradlew jmh 와 ./gradlew jmh -PhibernateEnhance=false
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FlushBenchmark {
+
+    @Param({"1000", "10000"})
+    private int todoCount;
+
+    private SessionFactory sessionFactory;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Spring 없이 부트스트랩하므로 날씨 컨버터는 고정 사전으로 직접 생성해 넘김
+        Configuration configuration = new Configuration();
+        configuration.getProperties().put(AvailableSettings.BEAN_CONTAINER,
+                new ConverterBeanContainer(new WeatherCodeConverter(WeatherCodes.of(Map.of("Sunny", (short) 1)))));
+        sessionFactory = configuration
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:flush;DB_CLOSE_DELAY=-1")
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, "500")
+                .addAnnotatedClass(User.class)
+                .addAnnotatedClass(Todo.class)
+                .addAnnotatedClass(Comment.class)
+                .addAnnotatedClass(Manager.class)
+                .buildSessionFactory();
+
+        sessionFactory.inTransaction(session -> {
+            User user = new User("bench@ex.com", "pw", UserRole.USER);
+            session.persist(user);
+            for (int i = 0; i < todoCount; i++) {
+                session.persist(new Todo("title" + i, "contents" + i, "Sunny", user));
+                if (i % 500 == 0) {
+                    session.flush();
+                    session.clear();
+                    user = session.getReference(User.class, user.getId());
+                }
+            }
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public List<Todo> loadOnly() {
+        try (Session session = sessionFactory.openSession()) {
+            session.beginTransaction();
+            List<Todo> todos = loadTodos(session);
+            session.getTransaction().rollback();
+            return todos;
+        }
+    }
+
+    @Benchmark
+    public List<Todo> loadAndFlush() {
+        try (Session session = sessionFactory.openSession()) {
+            session.beginTransaction();
+            List<Todo> todos = loadTodos(session);
+            // 지연 로딩 본문을 읽지 않고 값을 덮어씀 (향상 적용 시에만 본문 SELECT가 추가되어 비교가 어긋나지 않도록)
+            todos.get(0).update("changed", "changed contents");
+            session.flush();
+            session.getTransaction().rollback();
+            return todos;
+        }
+    }
+
+    private List<Todo> loadTodos(Session session) {
+        return session.createSelectionQuery("from Todo t join fetch t.user", Todo.class).getResultList();
+    }
+
+    // WeatherCodeConverter만 미리 만든 인스턴스로, 나머지는 Hibernate 기본 생성
+    private record ConverterBeanContainer(WeatherCodeConverter weatherCodeConverter) implements BeanContainer {
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <B> ContainedBean<B> getBean(Class<B> beanType, LifecycleOptions lifecycleOptions,
+                                            BeanInstanceProducer fallbackProducer) {
+            B instance = beanType == WeatherCodeConverter.class
+                    ? (B) weatherCodeConverter
+                    : fallbackProducer.produceBeanInstance(beanType);
+            return contained(beanType, instance);
+        }
+
+        @Override
+        public <B> ContainedBean<B> getBean(String name, Class<B> beanType, LifecycleOptions lifecycleOptions,
+                                            BeanInstanceProducer fallbackProducer) {
+            return contained(beanType, fallbackProducer.produceBeanInstance(name, beanType));
+        }
+
+        @Override
+        public void stop() {
+        }
+
+        private static <B> ContainedBean<B> contained(Class<B> beanType, B instance) {
+            return new ContainedBean<>() {
+                public B getBeanInstance() {
+                    return instance;
+                }
+
+                public Class<B> getBeanClass() {
+                    return beanType;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package org.example.expert.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.web.PagedModel;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 할 일 100건 페이지(PagedModel<TodoResponse>) JSON 직렬화 비용
+ * - reflective: 기본 ObjectMapper, 호출마다 writeValueAsBytes (MVC 기본 경로와 같음)
+ * - blackbird: JacksonConfig와 같은 설정(Blackbird), 호출마다 writeValueAsBytes (적용 후 MVC 경로)
+ * - blackbirdWriter: Blackbird + 미리 만든 ObjectWriter 재사용 (writer 생성 비용까지 뺀 하한)
+ * - 결과는 아직 기록되지 않음: reflective 대비 blackbird가 느리거나 같다면 app.jackson.blackbird.enabled=false로 끄기
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonSerializationBenchmark {
+
+    private PagedModel<TodoResponse> page;
+    private ObjectMapper reflectiveMapper;
+    private ObjectMapper blackbirdMapper;
+    private ObjectWriter blackbirdWriter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.of(2024, 6, 1, 12, 0);
+        List<TodoResponse> todos = new ArrayList<>(100);
+        for (long i = 1; i <= 100; i++) {
+            todos.add(new TodoResponse(i, "title " + i, "오늘 할 일 " + i + ": 장보기, 운동, 보고서 작성", "Sunny",
+                    new UserResponse(i % 10 + 1, "user" + (i % 10 + 1) + "@ex.com"),
+                    1L, 2, 1, now.minusHours(i), now.minusMinutes(i)));
+        }
+        page = new PagedModel<>(new PageImpl<>(todos, PageRequest.of(0, 100), 1000));
+
+        reflectiveMapper = baseMapper();
+        blackbirdMapper = baseMapper().registerModule(new BlackbirdModule());
+        blackbirdWriter = blackbirdMapper.writerFor(blackbirdMapper.getTypeFactory()
+                .constructParametricType(PagedModel.class, TodoResponse.class));
+    }
+
+    @Benchmark
+    public byte[] reflective() throws Exception {
+        return reflectiveMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] blackbird() throws Exception {
+        return blackbirdMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] blackbirdWriter() throws Exception {
+        return blackbirdWriter.writeValueAsBytes(page);
+    }
+
+    // Boot 기본 설정과 같은 날짜 처리 (ISO 문자열)
+    private static ObjectMapper baseMapper() {
+        return new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+}
@@ -0,0 +1,50 @@
+package org.example.expert.benchmark;
+
+import org.example.expert.config.RateLimiter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 수 제한 판단(RateLimiter.tryAcquire) 비용, 목표는 요청당 1µs 미만
+ * - 결과는 아직 기록되지 않음 (목표 충족 여부 미확인)
+ * - 버킷 판단만 측정하며 RateLimitInterceptor의 경로 그룹 매칭/헤더 기록 비용은 포함하지 않음
+ * - 사용자 users명에게 요청을 고르게 분산, 한도는 넉넉히 두어 CAS 갱신 경로를 측정
+ * - hotUser: 모든 스레드가 같은 사용자 → 같은 버킷에 CAS 경합
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RateLimiterBenchmark {
+
+    @Param({"16"})
+    private int stripes;
+
+    @Param({"10000"})
+    private int users;
+
+    private RateLimiter limiter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        limiter = new RateLimiter("bench", 1_000_000, TimeUnit.SECONDS.toNanos(1), stripes, TimeUnit.MINUTES.toNanos(10));
+        long now = System.nanoTime();
+        for (long user = 1; user <= users; user++) {
+            limiter.tryAcquire(user, now);  // 버킷 미리 생성
+        }
+    }
+
+    @Benchmark
+    @Threads(8)
+    public RateLimiter.Decision spreadUsers() {
+        long user = ThreadLocalRandom.current().nextInt(users) + 1;
+        return limiter.tryAcquire(user, System.nanoTime());
+    }
+
+    @Benchmark
+    @Threads(8)
+    public RateLimiter.Decision hotUser() {
+        return limiter.tryAcquire(1L, System.nanoTime());
+    }
+}
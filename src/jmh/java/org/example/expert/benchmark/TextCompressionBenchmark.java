@@ -0,0 +1,60 @@
+package org.example.expert.benchmark;
+
+import org.example.expert.domain.common.converter.CompressedTextConverter;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CompressedTextConverter CPU 비용 대비 절감 바이트
+ * - write: 압축(저장 시), read: 해제(조회 시)
+ * - 절감률은 Setup에서 한 번 출력 (원문 UTF-8 바이트 → 저장 바이트)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TextCompressionBenchmark {
+
+    private static final String[] WORDS = {
+            "회의", "보고서", "작성", "검토", "일정", "장보기", "운동", "meeting", "review", "deploy",
+            "release", "bug", "fix", "오후", "오전", "완료", "진행", "중", "요청", "확인"
+    };
+
+    @Param({"1024", "16384", "65536"})
+    private int length;
+
+    private CompressedTextConverter converter;
+    private String text;
+    private String stored;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        converter = new CompressedTextConverter(true, 0);
+
+        // 단어를 무작위로 이어 붙인 실제 메모와 비슷한 텍스트
+        Random random = new Random(42);
+        StringBuilder builder = new StringBuilder(length);
+        while (builder.length() < length) {
+            builder.append(WORDS[random.nextInt(WORDS.length)]).append(random.nextInt(10) == 0 ? ". " : " ");
+        }
+        text = builder.substring(0, length);
+        stored = converter.convertToDatabaseColumn(text);
+
+        int original = text.getBytes(StandardCharsets.UTF_8).length;
+        int compressed = stored.getBytes(StandardCharsets.UTF_8).length;
+        System.out.printf("%n[length=%d] %d bytes -> %d bytes (%.1f%% 절감)%n",
+                length, original, compressed, 100.0 * (original - compressed) / original);
+    }
+
+    @Benchmark
+    public String write() {
+        return converter.convertToDatabaseColumn(text);
+    }
+
+    @Benchmark
+    public String read() {
+        return converter.convertToEntityAttribute(stored);
+    }
+}
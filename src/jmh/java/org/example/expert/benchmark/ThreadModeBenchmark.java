@@ -0,0 +1,146 @@
+package org.example.expert.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.example.expert.ExpertApplication;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tomcat 요청 처리 스레드 모드별 처리량 (플랫폼 스레드 풀 vs 가상 스레드)
+ * - weatherBound: POST /todos, 날씨 API 스텁이 weatherLatencyMs 만큼 지연 → 요청 스레드가 원격 I/O를 기다림
+ * - dbBound: GET /todos, JPA 조회만 수행 (커넥션 풀 크기가 상한)
+ * - 동시 클라이언트(@Threads)는 Tomcat 기본 최대 스레드(200)보다 많게 둠
+ * - 가상 스레드 고정 확인: jmh { jvmArgsAppend = ['-Djdk.tracePinnedThreads=short'] }
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ThreadModeBenchmark {
+
+    private static final int CLIENTS = 400;
+
+    @Param({"false", "true"})
+    private boolean virtualThreads;
+
+    @Param({"50"})
+    private int weatherLatencyMs;
+
+    private HttpServer weatherStub;
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private String baseUrl;
+    private String authorization;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        weatherStub = startWeatherStub();
+
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        context = new SpringApplicationBuilder(ExpertApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "spring.datasource.url=jdbc:h2:mem:thread-mode;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "jwt.secret.key=" + Base64.getEncoder().encodeToString(secret),
+                        "app.weather.base-url=http://localhost:" + weatherStub.getAddress().getPort(),
+                        "logging.level.root=WARN")
+                .run();
+        baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+
+        HttpResponse<String> signup = send(HttpRequest.newBuilder(URI.create(baseUrl + "/auth/signup"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"email\":\"bench@ex.com\",\"password\":\"Password1\",\"userRole\":\"USER\"}"))
+                .build());
+        authorization = "Bearer " + new ObjectMapper().readTree(signup.body()).get("bearerToken").asText();
+
+        // 목록 조회 대상 데이터
+        for (int i = 0; i < 100; i++) {
+            saveTodo();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        weatherStub.stop(0);
+    }
+
+    @Benchmark
+    @Threads(CLIENTS)
+    public int weatherBound() throws Exception {
+        return saveTodo();
+    }
+
+    @Benchmark
+    @Threads(CLIENTS)
+    public int dbBound() throws Exception {
+        return send(HttpRequest.newBuilder(URI.create(baseUrl + "/todos?page=1&size=10"))
+                .header("Authorization", authorization)
+                .GET()
+                .build()).statusCode();
+    }
+
+    private int saveTodo() throws Exception {
+        return send(HttpRequest.newBuilder(URI.create(baseUrl + "/todos"))
+                .header("Authorization", authorization)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"title\":\"title\",\"contents\":\"contents\"}"))
+                .build()).statusCode();
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws Exception {
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 400) {
+            throw new IllegalStateException(request.uri() + " → " + response.statusCode() + " " + response.body());
+        }
+        return response;
+    }
+
+    // WeatherClient가 호출하는 날씨 API 대역 (오늘 날짜 한 건, 지정한 지연 후 응답)
+    private HttpServer startWeatherStub() throws IOException {
+        String today = LocalDate.now().format(DateTimeFormatter.ofPattern("MM-dd"));
+        byte[] body = ("[{\"date\":\"" + today + "\",\"weather\":\"Sunny\"}]").getBytes(StandardCharsets.UTF_8);
+
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/f-api/weather.json", exchange -> {
+            try {
+                Thread.sleep(weatherLatencyMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        return server;
+    }
+}
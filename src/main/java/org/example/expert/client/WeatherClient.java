@@ -2,6 +2,7 @@ package org.example.expert.client;
 
 import org.example.expert.client.dto.WeatherDto;
 import org.example.expert.domain.common.exception.ServerException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -10,20 +11,98 @@ import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
 
 @Component
 public class WeatherClient {
 
+    // 날씨 API의 날짜 형식 (DateTimeFormatter는 불변/스레드 안전하므로 공유)
+    private static final DateTimeFormatter MONTH_DAY = DateTimeFormatter.ofPattern("MM-dd");
+
     private final RestTemplate restTemplate;
+    private final String baseUrl;
+    private final Duration snapshotTtl;
+
+    // 스냅샷 갱신 중 API 호출을 기다리므로 synchronized 대신 사용 (가상 스레드가 캐리어 스레드를 고정하지 않음)
+    private final ReentrantLock snapshotLock = new ReentrantLock();
+
+    // 날짜(MM-dd) → 날씨 스냅샷, 대량 처리용 (snapshotTtl 동안 재사용)
+    private volatile Map<String, String> snapshot;
+    private volatile long snapshotLoadedAt;
 
-    public WeatherClient(RestTemplateBuilder builder) {
-        this.restTemplate = builder.build();
+    public WeatherClient(RestTemplateBuilder builder,
+                         @Value("${app.weather.base-url:https://f-api.github.io}") String baseUrl,
+                         @Value("${app.weather.connect-timeout:2s}") Duration connectTimeout,
+                         @Value("${app.weather.read-timeout:3s}") Duration readTimeout,
+                         @Value("${app.weather.snapshot-ttl:1h}") Duration snapshotTtl) {
+        // 응답이 없는 API에 스레드가 무기한 묶이지 않도록 제한 시간 지정
+        this.restTemplate = builder
+                .setConnectTimeout(connectTimeout)
+                .setReadTimeout(readTimeout)
+                .build();
+        this.baseUrl = baseUrl;
+        this.snapshotTtl = snapshotTtl;
     }
 
     public String getTodayWeather() {
         // 날씨 API 호출하여 날씨 데이터 배열을 가져옴
+        WeatherDto[] weatherArray = fetchWeathers();
+
+        // 오늘 날짜를 가져옴
+        String today = getCurrentDate();
+
+        // 날씨 데이터에서 오늘에 해당하는 날씨 정보 찾기
+        for (WeatherDto weatherDto : weatherArray) {
+            if (today.equals(weatherDto.getDate())) {
+                return weatherDto.getWeather();     // 오늘에 해당하는 날씨 반환
+            }
+        }
+
+        // 오늘에 해당하는 날씨 데이터가 없으면 예외 발생
+        throw new ServerException("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+    }
+
+    /**
+     * 캐시된 스냅샷에서 특정 날짜의 날씨 조회 (대량 가져오기 등 건마다 API를 호출할 수 없는 경우)
+     * - 스냅샷이 없거나 만료된 경우에만 API를 한 번 호출
+     */
+    public String getWeatherFromSnapshot(LocalDate date) {
+        String weather = getSnapshot().get(date.format(MONTH_DAY));
+        if (weather == null) {
+            throw new ServerException(date + "에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+        }
+        return weather;
+    }
+
+    private Map<String, String> getSnapshot() {
+        Map<String, String> current = snapshot;
+        if (current != null && System.currentTimeMillis() - snapshotLoadedAt < snapshotTtl.toMillis()) {
+            return current;
+        }
+        snapshotLock.lock();
+        try {
+            if (snapshot == null || System.currentTimeMillis() - snapshotLoadedAt >= snapshotTtl.toMillis()) {
+                Map<String, String> loaded = new HashMap<>();
+                for (WeatherDto weatherDto : fetchWeathers()) {
+                    if (weatherDto.getDate() != null && weatherDto.getWeather() != null) {
+                        loaded.put(weatherDto.getDate(), weatherDto.getWeather());
+                    }
+                }
+                snapshot = Map.copyOf(loaded);
+                snapshotLoadedAt = System.currentTimeMillis();
+            }
+            return snapshot;
+        } finally {
+            snapshotLock.unlock();
+        }
+    }
+
+    private WeatherDto[] fetchWeathers() {
         ResponseEntity<WeatherDto[]> responseEntity =
                 restTemplate.getForEntity(buildWeatherApiUri(), WeatherDto[].class);
 
@@ -39,24 +118,12 @@ public class WeatherClient {
         if (weatherArray == null || weatherArray.length == 0) {
             throw new ServerException("날씨 데이터가 없습니다.");
         }
-
-        // 오늘 날짜를 가져옴
-        String today = getCurrentDate();
-
-        // 날씨 데이터에서 오늘에 해당하는 날씨 정보 찾기
-        for (WeatherDto weatherDto : weatherArray) {
-            if (today.equals(weatherDto.getDate())) {
-                return weatherDto.getWeather();     // 오늘에 해당하는 날씨 반환
-            }
-        }
-
-        // 오늘에 해당하는 날씨 데이터가 없으면 예외 발생
-        throw new ServerException("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+        return weatherArray;
     }
 
     private URI buildWeatherApiUri() {
         return UriComponentsBuilder
-                .fromUriString("https://f-api.github.io")
+                .fromUriString(baseUrl)
                 .path("/f-api/weather.json")
                 .encode()
                 .build()
@@ -64,7 +131,6 @@ public class WeatherClient {
     }
 
     private String getCurrentDate() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM-dd");
-        return LocalDate.now().format(formatter);
+        return LocalDate.now().format(MONTH_DAY);
     }
 }
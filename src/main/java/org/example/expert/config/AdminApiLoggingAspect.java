@@ -31,14 +31,17 @@ public class AdminApiLoggingAspect {
     private final ObjectMapper objectMapper;    // JSON 직렬화를 위한 Jackson ObjectMapper
 
     /**
-     * 두 관리자 API 메서드를 대상으로 Around advice 실행
+     * 관리자 API 메서드를 대상으로 Around advice 실행
      * - 메서드 실행 전: 요청 정보 로깅
      * - 메서드 실행 후: 응답 정보 로깅
      * - 예외 발생 시: 에러 정보 로깅
      */
     @Around(
             "execution(* org.example.expert.domain.comment.controller.CommentAdminController.deleteComment(..)) || " +
-                    "execution(* org.example.expert.domain.user.controller.UserAdminController.changeUserRole(..))"
+                    "execution(* org.example.expert.domain.comment.controller.CommentAdminController.deleteComments(..)) || " +
+                    "execution(* org.example.expert.domain.user.controller.UserAdminController.changeUserRole(..)) || " +
+                    "execution(* org.example.expert.domain.todo.controller.TodoAdminController.deleteTodos(..)) || " +
+                    "execution(* org.example.expert.domain.todo.controller.TodoAdminController.importTodos(..))"
     )
     public Object logAdminApi(ProceedingJoinPoint pjp) throws Throwable {
         long startedAt = System.currentTimeMillis();    // 실행 시작 시각(ms)
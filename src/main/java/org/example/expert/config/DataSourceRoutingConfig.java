@@ -0,0 +1,64 @@
+package org.example.expert.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * app.datasource.routing.enabled=true 일 때만 활성화
+ * - 기본 DataSource 자동 설정 대신 primary/레플리카 풀을 직접 만들고 라우팅 DataSource로 묶음
+ */
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(DataSourceRoutingProperties.class)
+@ConditionalOnProperty(prefix = "app.datasource.routing", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    private final DataSourceRoutingProperties properties;
+
+    @Bean
+    public ReadWriteRoutingDataSource routingDataSource() {
+        DataSource primary = createPool("primary", properties.getPrimary());
+
+        List<DataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < properties.getReplicas().size(); i++) {
+            replicas.add(createPool("replica-" + i, properties.getReplicas().get(i)));
+        }
+        return new ReadWriteRoutingDataSource(primary, replicas, properties.getRouting().getPinAfterWrite());
+    }
+
+    // JPA/JdbcTemplate가 사용하는 DataSource: 실제 커넥션은 첫 쿼리 시점에 라우팅
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.routing.health-check-interval-ms:10000}")
+    public void checkReplicaHealth() {
+        routingDataSource().checkReplicaHealth(properties.getRouting().getHealthCheckTimeoutSeconds());
+    }
+
+    private DataSource createPool(String name, DataSourceRoutingProperties.Node node) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(node.getUrl())
+                .username(node.getUsername())
+                .password(node.getPassword())
+                .build();
+        dataSource.setPoolName(name);
+        dataSource.setMaximumPoolSize(node.getMaximumPoolSize());
+        return dataSource;
+    }
+}
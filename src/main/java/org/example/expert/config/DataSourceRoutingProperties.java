@@ -0,0 +1,45 @@
+package org.example.expert.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기/쓰기 분리 데이터소스 설정 (app.datasource.*)
+ * <pre>
+ * app.datasource.routing.enabled=true
+ * app.datasource.primary.url=jdbc:mysql://primary:3306/expert
+ * app.datasource.replicas[0].url=jdbc:mysql://replica-1:3306/expert
+ * app.datasource.routing.pin-after-write=3s   # 쓰기 직후 해당 유저의 읽기를 primary로 고정 (0이면 비활성)
+ * </pre>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.datasource")
+public class DataSourceRoutingProperties {
+
+    private Node primary = new Node();
+    private List<Node> replicas = new ArrayList<>();
+    private Routing routing = new Routing();
+
+    @Getter
+    @Setter
+    public static class Node {
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+    }
+
+    @Getter
+    @Setter
+    public static class Routing {
+        private boolean enabled;
+        private Duration pinAfterWrite = Duration.ZERO;
+        private int healthCheckTimeoutSeconds = 2;
+    }
+}
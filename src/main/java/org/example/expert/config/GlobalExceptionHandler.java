@@ -1,13 +1,18 @@
 package org.example.expert.config;
 
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
 import org.example.expert.domain.auth.exception.AuthException;
 import org.example.expert.domain.common.dto.ErrorResponse;
+import org.example.expert.domain.common.exception.ConflictException;
 import org.example.expert.domain.common.exception.ErrorCode;
+import org.example.expert.domain.common.exception.GatewayTimeoutException;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.PreconditionFailedException;
 import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.common.exception.TooManyRequestsException;
 import org.slf4j.MDC;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.http.*;
@@ -24,6 +29,7 @@ import org.springframework.web.servlet.resource.NoResourceFoundException;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
 
 import static java.util.stream.Collectors.toList;
 
@@ -42,6 +48,40 @@ public class GlobalExceptionHandler {
         return build(ErrorCode.AUTH_REQUIRED, ex.getMessage(), req, null);
     }
 
+    // If-Match 버전 불일치 → 412
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ErrorResponse> handlePreconditionFailed(PreconditionFailedException ex, HttpServletRequest req) {
+        return build(ErrorCode.PRECONDITION_FAILED, ex.getMessage(), req, null);
+    }
+
+    // 현재 상태와 맞지 않는 요청 (예: 보관된 할 일 수정) → 409
+    @ExceptionHandler(ConflictException.class)
+    public ResponseEntity<ErrorResponse> handleConflict(ConflictException ex, HttpServletRequest req) {
+        return build(ErrorCode.CONFLICT, ex.getMessage(), req, null);
+    }
+
+    // 사용자별 요청 수 제한 초과 → 429 (+ Retry-After)
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ErrorResponse> handleTooManyRequests(TooManyRequestsException ex, HttpServletRequest req,
+                                                               HttpServletResponse res) {
+        res.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()));
+        return build(ErrorCode.TOO_MANY_REQUESTS, ex.getMessage(), req, null);
+    }
+
+    // 외부 API / 비동기 처리 제한 시간 초과 → 504
+    @ExceptionHandler(GatewayTimeoutException.class)
+    public ResponseEntity<ErrorResponse> handleGatewayTimeout(GatewayTimeoutException ex, HttpServletRequest req) {
+        log.warn("GatewayTimeoutException: {}", ex.getMessage());
+        return build(ErrorCode.GATEWAY_TIMEOUT, ex.getMessage(), req, null);
+    }
+
+    // 비동기 작업 큐가 가득 참 → 503
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<ErrorResponse> handleRejectedExecution(RejectedExecutionException ex, HttpServletRequest req) {
+        log.warn("RejectedExecutionException: {}", ex.getMessage());
+        return build(ErrorCode.SERVICE_UNAVAILABLE, ErrorCode.SERVICE_UNAVAILABLE.defaultMessage, req, null);
+    }
+
     @ExceptionHandler(ServerException.class)
     public ResponseEntity<ErrorResponse> handleServer(ServerException ex, HttpServletRequest req) {
         log.error("ServerException", ex);
@@ -0,0 +1,104 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.jsr107.Eh107Configuration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Hibernate 2차 캐시 설정 (JCache + Ehcache, 프로세스 내 캐시)
+ * - 대상: Todo, User (READ_WRITE 전략 → 엔티티 변경 커밋 시 캐시도 함께 갱신)
+ * - 엔티티별 캐시는 최대 엔트리 수와 TTL로 제한
+ * - JPQL 벌크 UPDATE/DELETE는 Hibernate가 해당 엔티티 리전을 통째로 무효화함
+ *   (JdbcTemplate 등 Hibernate를 거치지 않는 쓰기는 직접 evict 필요)
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+    // 2차 캐시를 적용하는 엔티티 (리전 이름 = 엔티티 FQCN)
+    static final List<Class<?>> CACHED_ENTITIES = List.of(Todo.class, User.class);
+
+    @Value("${app.cache.entity.max-entries:10000}")
+    private long maxEntries;
+
+    @Value("${app.cache.entity.ttl:10m}")
+    private Duration ttl;
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager() {
+        CachingProvider provider = Caching.getCachingProvider(EhcacheCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(provider.getDefaultURI(), getClass().getClassLoader());
+
+        for (Class<?> entity : CACHED_ENTITIES) {
+            if (cacheManager.getCache(entity.getName()) == null) {
+                cacheManager.createCache(entity.getName(), Eh107Configuration.fromEhcacheCacheConfiguration(
+                        CacheConfigurationBuilder
+                                .newCacheConfigurationBuilder(Object.class, Object.class, ResourcePoolsBuilder.heap(maxEntries))
+                                .withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(ttl))
+                ));
+            }
+        }
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put("hibernate.cache.use_second_level_cache", true);
+            properties.put("hibernate.cache.region.factory_class", "jcache");
+            properties.put("hibernate.javax.cache.cache_manager", hibernateCacheManager);
+            properties.put("hibernate.javax.cache.missing_cache_strategy", "create-warn");
+            // 캐시 적중률 집계를 위해 통계 수집 (HibernateMetrics도 이 값을 사용)
+            properties.put("hibernate.generate_statistics", true);
+        };
+    }
+
+    // 엔티티 리전별 2차 캐시 적중률 게이지: hibernate.cache.hit.ratio{region=...}
+    @Bean
+    public MeterBinder secondLevelCacheHitRatio(EntityManagerFactory entityManagerFactory) {
+        return registry -> {
+            Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            for (Class<?> entity : CACHED_ENTITIES) {
+                String region = entity.getName();
+                Gauge.builder("hibernate.cache.hit.ratio", statistics, s -> hitRatio(s, region))
+                        .tag("region", region)
+                        .description("Second-level cache hit ratio")
+                        .register(registry);
+            }
+        };
+    }
+
+    private static double hitRatio(Statistics statistics, String region) {
+        CacheRegionStatistics regionStatistics;
+        try {
+            regionStatistics = statistics.getDomainDataRegionStatistics(region);
+        } catch (IllegalArgumentException e) {
+            return 0.0; // 2차 캐시가 비활성화되어 리전이 없는 경우
+        }
+        if (regionStatistics == null) {
+            return 0.0;
+        }
+        long hits = regionStatistics.getHitCount();
+        long total = hits + regionStatistics.getMissCount();
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+}
@@ -0,0 +1,75 @@
+package org.example.expert.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.idempotency.repository.IdempotencyStore;
+import org.example.expert.domain.idempotency.repository.InMemoryIdempotencyStore;
+import org.example.expert.domain.idempotency.repository.JdbcIdempotencyStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Clock;
+
+/**
+ * Idempotency-Key 처리 설정
+ * - 저장소: app.idempotency.store=memory(기본) | jdbc
+ * - IdempotencyFilter는 JwtFilter 다음에 실행 (사용자별로 키 구분)
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(IdempotencyProperties.class)
+@ConditionalOnProperty(prefix = "app.idempotency", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class IdempotencyConfig {
+
+    private final IdempotencyProperties properties;
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.idempotency", name = "store", havingValue = "memory", matchIfMissing = true)
+    public IdempotencyStore inMemoryIdempotencyStore() {
+        return new InMemoryIdempotencyStore(properties.getTtl(), properties.getMaxEntries(), System::nanoTime);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.idempotency", name = "store", havingValue = "jdbc")
+    public IdempotencyStore jdbcIdempotencyStore(JdbcTemplate jdbcTemplate) {
+        return new JdbcIdempotencyStore(jdbcTemplate, properties.getTtl(), properties.getLease(), Clock.systemDefaultZone());
+    }
+
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilter(IdempotencyStore idempotencyStore,
+                                                                       ObjectMapper objectMapper) {
+        FilterRegistrationBean<IdempotencyFilter> registrationBean = new FilterRegistrationBean<>();
+        registrationBean.setFilter(new IdempotencyFilter(idempotencyStore, objectMapper, properties));
+        registrationBean.addUrlPatterns("/*");
+        registrationBean.setOrder(FilterConfig.JWT_FILTER_ORDER + 1);
+
+        return registrationBean;
+    }
+
+    @Bean
+    public IdempotencyPurgeJob idempotencyPurgeJob(IdempotencyStore idempotencyStore) {
+        return new IdempotencyPurgeJob(idempotencyStore);
+    }
+
+    // 만료된 기록 삭제
+    @RequiredArgsConstructor
+    public static class IdempotencyPurgeJob {
+
+        private final IdempotencyStore store;
+
+        @Scheduled(fixedDelayString = "${app.idempotency.purge-interval-ms:600000}")
+        public void purge() {
+            int purged = store.purgeExpired();
+            if (purged > 0) {
+                log.debug("[IDEMPOTENCY] purged expired keys={}", purged);
+            }
+        }
+    }
+}
@@ -0,0 +1,296 @@
+package org.example.expert.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.ErrorResponse;
+import org.example.expert.domain.common.exception.ErrorCode;
+import org.example.expert.domain.idempotency.dto.IdempotencyRecord;
+import org.example.expert.domain.idempotency.dto.StoredResponse;
+import org.example.expert.domain.idempotency.repository.IdempotencyStore;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Idempotency-Key 헤더가 있는 POST 요청의 첫 응답을 저장해 재시도 시 그대로 반환
+ * - 키는 사용자(JwtFilter가 넣은 AuthUser id)별로 구분
+ * - 재시도는 컨트롤러/서비스를 거치지 않음 (날씨 조회, INSERT 재실행 없음), 응답 헤더 Idempotent-Replayed: true
+ * - 같은 노드에서 동시에 들어온 중복 요청은 먼저 온 요청의 결과를 기다렸다가 받음
+ * - 같은 키로 본문/경로가 다른 요청 → 422, 다른 노드에서 처리 중 → 409
+ * - 5xx / 409 / 429 등 다시 시도하면 달라질 수 있는 응답은 저장하지 않음
+ * - 선점마다 새 토큰 사용, 처리하는 동안 lease의 1/3 간격으로 선점을 갱신 → 오래 걸리는 요청도 다른 노드가 다시 실행하지 않음
+ */
+@Slf4j
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+    static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final Set<Integer> RETRYABLE_STATUSES = Set.of(408, 409, 425, 429);
+
+    private final IdempotencyStore store;
+    private final ObjectMapper objectMapper;
+    private final List<PathPattern> routes;
+    private final long waitTimeoutMs;
+    private final ScheduledExecutorService leaseRenewer;
+    private final long renewIntervalMs;
+    private final ConcurrentHashMap<String, InFlight> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyFilter(IdempotencyStore store, ObjectMapper objectMapper, IdempotencyProperties properties) {
+        this.store = store;
+        this.objectMapper = objectMapper;
+        this.routes = properties.getRoutes().stream().map(PathPatternParser.defaultInstance::parse).toList();
+        this.waitTimeoutMs = properties.getWaitTimeout().toMillis();
+        // 선점 갱신 전용 스레드 (빈으로 등록하면 @Scheduled 기본 스케줄러를 대체하므로 필터가 직접 소유)
+        this.leaseRenewer = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("idempotency-lease").daemon(true).factory());
+        this.renewIntervalMs = Math.max(1, properties.getLease().toMillis() / 3);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!HttpMethod.POST.matches(request.getMethod()) || request.getHeader(HEADER) == null) {
+            return true;
+        }
+        PathContainer path = PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+        return routes.stream().noneMatch(route -> route.matches(path));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!(request.getAttribute("authUser") instanceof AuthUser authUser)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        String idempotencyKey = request.getHeader(HEADER).trim();
+        if (idempotencyKey.isEmpty() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            writeError(response, ErrorCode.VALIDATION_ERROR, "Idempotency-Key는 1~255자여야 합니다.");
+            return;
+        }
+
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request);
+        String fingerprint = fingerprint(cachedRequest);
+        String key = authUser.getId() + ":" + idempotencyKey;
+
+        while (true) {
+            InFlight mine = new InFlight(fingerprint, new CompletableFuture<>());
+            InFlight running = inFlight.putIfAbsent(key, mine);
+            if (running != null) {
+                // 같은 노드에서 처리 중인 요청이 있으면 결과를 기다림 (실패로 끝나면 다시 선점 시도)
+                if (!running.fingerprint().equals(fingerprint)) {
+                    writeError(response, ErrorCode.IDEMPOTENCY_KEY_REUSED, ErrorCode.IDEMPOTENCY_KEY_REUSED.defaultMessage);
+                    return;
+                }
+                StoredResponse result;
+                try {
+                    result = running.result().get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+                } catch (TimeoutException | ExecutionException e) {
+                    writeError(response, ErrorCode.CONFLICT, "같은 Idempotency-Key의 요청이 처리 중입니다.");
+                    return;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    writeError(response, ErrorCode.CONFLICT, "같은 Idempotency-Key의 요청이 처리 중입니다.");
+                    return;
+                }
+                if (result != null) {
+                    replay(response, result);
+                    return;
+                }
+                continue;
+            }
+
+            StoredResponse result = null;
+            try {
+                result = handle(key, fingerprint, cachedRequest, response, filterChain);
+                return;
+            } finally {
+                inFlight.remove(key, mine);
+                mine.result().complete(result);
+            }
+        }
+    }
+
+    // 이 노드에서 선점한 요청 처리: 저장소 확인 → 처음이면 실행 후 저장, 아니면 저장된 응답 반환
+    private StoredResponse handle(String key, String fingerprint, HttpServletRequest request,
+                                  HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String token = UUID.randomUUID().toString();
+        IdempotencyRecord existing = store.reserve(key, fingerprint, token);
+        if (existing != null) {
+            if (!existing.fingerprint().equals(fingerprint)) {
+                writeError(response, ErrorCode.IDEMPOTENCY_KEY_REUSED, ErrorCode.IDEMPOTENCY_KEY_REUSED.defaultMessage);
+                return null;
+            }
+            if (!existing.isCompleted()) {
+                writeError(response, ErrorCode.CONFLICT, "같은 Idempotency-Key의 요청이 처리 중입니다.");
+                return null;
+            }
+            replay(response, existing.response());
+            return existing.response();
+        }
+
+        ContentCachingResponseWrapper cachedResponse = new ContentCachingResponseWrapper(response);
+        ScheduledFuture<?> renewal = scheduleRenewal(key, token);
+        try {
+            filterChain.doFilter(request, cachedResponse);
+        } catch (ServletException | IOException | RuntimeException e) {
+            store.release(key, token);
+            throw e;
+        } finally {
+            renewal.cancel(false);
+        }
+
+        StoredResponse result = null;
+        int status = cachedResponse.getStatus();
+        if (status < 500 && !RETRYABLE_STATUSES.contains(status)) {
+            result = new StoredResponse(status, cachedResponse.getContentType(), cachedResponse.getContentAsByteArray());
+            if (!store.complete(key, token, result)) {
+                log.warn("[IDEMPOTENCY] reservation lost before completion, response not stored key={}", key);
+                result = null;
+            }
+        } else {
+            store.release(key, token);
+        }
+        cachedResponse.copyBodyToResponse();
+        return result;
+    }
+
+    @Override
+    public void destroy() {
+        leaseRenewer.shutdownNow();
+    }
+
+    // 처리하는 동안 선점 유효 시간 연장, 선점을 잃으면 더 갱신하지 않음 (예약 작업은 예외를 던지면 이후 실행 중단)
+    private ScheduledFuture<?> scheduleRenewal(String key, String token) {
+        return leaseRenewer.scheduleAtFixedRate(() -> {
+            boolean renewed;
+            try {
+                renewed = store.renew(key, token);
+            } catch (RuntimeException e) {
+                log.warn("[IDEMPOTENCY] lease renewal failed, retrying next interval key={}", key, e);
+                return;
+            }
+            if (!renewed) {
+                log.warn("[IDEMPOTENCY] reservation lost while processing key={}", key);
+                throw new IllegalStateException("idempotency reservation lost: " + key);
+            }
+        }, renewIntervalMs, renewIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    private void replay(HttpServletResponse response, StoredResponse stored) throws IOException {
+        response.setStatus(stored.status());
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setContentLength(stored.body().length);
+        response.getOutputStream().write(stored.body());
+    }
+
+    // 메서드 + 경로 + 쿼리 + 본문의 SHA-256
+    private static String fingerprint(CachedBodyRequest request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((request.getMethod() + " " + request.getRequestURI() + "?" + request.getQueryString() + "\n")
+                    .getBytes(StandardCharsets.UTF_8));
+            digest.update(request.body);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void writeError(HttpServletResponse response, ErrorCode code, String message) throws IOException {
+        response.setStatus(code.status.value());
+        response.setContentType("application/json;charset=UTF-8");
+        var body = ErrorResponse.builder()
+                .code(code.name())
+                .message(message)
+                .build();
+        response.getWriter().write(objectMapper.writeValueAsString(body));
+    }
+
+    private record InFlight(String fingerprint, CompletableFuture<StoredResponse> result) {
+    }
+
+    // 지문 계산을 위해 본문을 먼저 읽어 두고, 컨트롤러에는 같은 바이트를 다시 제공
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            this.body = request.getInputStream().readAllBytes();
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            Charset charset = getCharacterEncoding() != null ? Charset.forName(getCharacterEncoding()) : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package org.example.expert.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Idempotency-Key 처리 (app.idempotency.*)
+ * <pre>
+ * app.idempotency.enabled=true
+ * app.idempotency.store=memory              # memory(단일 노드) | jdbc(idempotency_keys 테이블, 여러 노드)
+ * app.idempotency.ttl=24h                   # 첫 응답 보관 기간
+ * app.idempotency.max-entries=100000        # memory 저장소 최대 건수
+ * app.idempotency.wait-timeout=10s          # 같은 키의 요청이 처리 중일 때 기다리는 최대 시간
+ * app.idempotency.lease=10s                 # jdbc 저장소의 처리 중 선점 유효 시간, 처리 중에는 1/3 간격으로 갱신
+ *                                           (처리 노드 장애 시 이 시간 뒤 재시도 가능)
+ * app.idempotency.purge-interval-ms=600000  # 만료 기록 삭제 주기
+ * app.idempotency.routes=/todos,/todos/{todoId}/comments,/todos/{todoId}/managers   # POST 경로 패턴 (동기 응답 경로만)
+ * </pre>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.idempotency")
+public class IdempotencyProperties {
+
+    private boolean enabled = true;
+    private String store = "memory";
+    private Duration ttl = Duration.ofHours(24);
+    private int maxEntries = 100_000;
+    private Duration waitTimeout = Duration.ofSeconds(10);
+    private Duration lease = Duration.ofSeconds(10);
+    private List<String> routes = new ArrayList<>(List.of(
+            "/todos",
+            "/todos/{todoId}/comments",
+            "/todos/{todoId}/managers"
+    ));
+}
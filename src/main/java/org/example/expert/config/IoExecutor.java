@@ -0,0 +1,50 @@
+package org.example.expert.config;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 원격 호출 등 블로킹 I/O 전용 실행기
+ * <pre>
+ * app.async.io-pool-size=32          # 플랫폼 스레드 모드의 스레드 수
+ * app.async.io-queue-capacity=500    # 대기 큐, 가득 차면 RejectedExecutionException → 503
+ * </pre>
+ * - spring.threads.virtual.enabled=true 이면 작업마다 가상 스레드 (풀/큐 없음)
+ * - Executor 타입 빈으로 등록하면 Boot의 applicationTaskExecutor(MVC 비동기 처리용) 자동 설정이 빠지므로 감싸서 등록
+ */
+@Component
+public class IoExecutor implements DisposableBean {
+
+    private final ExecutorService executor;
+
+    public IoExecutor(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                      @Value("${app.async.io-pool-size:32}") int poolSize,
+                      @Value("${app.async.io-queue-capacity:500}") int queueCapacity) {
+        if (virtualThreads) {
+            this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("io-", 0).factory());
+        } else {
+            ThreadFactory threadFactory = Thread.ofPlatform().name("io-", 0).daemon(true).factory();
+            this.executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(queueCapacity), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+        }
+    }
+
+    public Executor executor() {
+        return executor;
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,61 @@
+package org.example.expert.config;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.common.dto.ErrorResponse;
+import org.example.expert.domain.common.dto.PageResponse;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.dto.response.TodoSummaryResponse;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.web.PagedModel;
+
+import java.util.List;
+
+/**
+ * 공유 ObjectMapper 설정 (MVC 메시지 컨버터, JwtFilter, AdminApiLoggingAspect 등 모두 같은 인스턴스 사용)
+ * - Blackbird: 게터/생성자 호출을 리플렉션 대신 LambdaMetafactory로 생성한 접근자로 대체
+ *   (이 코드베이스에서의 효과는 아직 측정 전 → JsonSerializationBenchmark 결과로 판단, 이득이 없으면 app.jackson.blackbird.enabled=false)
+ * - 자주 응답하는 DTO의 직렬화기를 시작 시 ObjectMapper의 직렬화기 캐시에 미리 채워 첫 요청에서 생성하지 않도록 함
+ *   (만든 ObjectWriter는 버림: MVC 컨버터는 요청마다 writer를 새로 만들고 캐시된 직렬화기만 재사용)
+ * - 날짜(LocalDateTime)는 Boot 기본 설정대로 ISO 문자열, JavaTimeModule의 공유 포매터 사용
+ */
+@Configuration
+public class JacksonConfig {
+
+    // Module 빈은 Boot가 공유 ObjectMapper에 자동 등록
+    @Bean
+    @ConditionalOnProperty(prefix = "app.jackson.blackbird", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    // writerFor는 EAGER_SERIALIZER_FETCH(기본값)로 루트 직렬화기를 찾으며 공유 캐시에 등록함
+    @Bean
+    public SmartInitializingSingleton jsonSerializerCacheWarmUp(ObjectMapper objectMapper) {
+        return () -> hotTypes(objectMapper.getTypeFactory()).forEach(objectMapper::writerFor);
+    }
+
+    // 응답 빈도가 높은 타입 (목록은 PageResponse, legacy 형식 요청 시 PagedModel)
+    static List<JavaType> hotTypes(TypeFactory typeFactory) {
+        return List.of(
+                typeFactory.constructType(TodoResponse.class),
+                typeFactory.constructType(TodoSummaryResponse.class),
+                typeFactory.constructType(CommentResponse.class),
+                typeFactory.constructType(UserResponse.class),
+                typeFactory.constructType(ErrorResponse.class),
+                typeFactory.constructParametricType(PageResponse.class, TodoResponse.class),
+                typeFactory.constructParametricType(PageResponse.class, TodoSummaryResponse.class),
+                typeFactory.constructParametricType(PagedModel.class, TodoResponse.class),
+                typeFactory.constructParametricType(PagedModel.class, TodoSummaryResponse.class),
+                typeFactory.constructCollectionType(List.class, CommentResponse.class)
+        );
+    }
+}
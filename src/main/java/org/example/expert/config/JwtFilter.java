@@ -23,7 +23,7 @@ import java.io.IOException;
 public class JwtFilter implements Filter {
 
     private final JwtUtil jwtUtil;
-    private final ObjectMapper objectMapper = new ObjectMapper(); // JSON 직렬화용
+    private final ObjectMapper objectMapper; // 공유 ObjectMapper (FilterConfig에서 주입)
 
     @Override
     public void init(FilterConfig filterConfig) throws ServletException {
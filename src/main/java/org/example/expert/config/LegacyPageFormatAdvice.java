@@ -0,0 +1,37 @@
+package org.example.expert.config;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.dto.PageResponse;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * legacy 형식을 요청했으면 PageResponse를 이전 형식(PagedModel)으로 바꿔 직렬화
+ * - 컨트롤러는 legacy 요청 시 전체 건수를 함께 조회 (이전 형식에 totalElements/totalPages 포함)
+ */
+@RestControllerAdvice
+@RequiredArgsConstructor
+public class LegacyPageFormatAdvice implements ResponseBodyAdvice<Object> {
+
+    private final PageFormat pageFormat;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (body instanceof PageResponse<?> page && pageFormat.isLegacy(request.getHeaders().getFirst(PageFormat.HEADER))) {
+            return page.toPagedModel();
+        }
+        return body;
+    }
+}
@@ -0,0 +1,30 @@
+package org.example.expert.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 페이지 목록 응답 형식 선택
+ * - 기본: PageResponse ({"items","page","size","hasNext","total"})
+ * - legacy: 이전 형식(PagedModel), 전환 기간 동안 구 클라이언트용
+ * - 요청 헤더(X-Page-Format: legacy | compact)가 있으면 설정(app.page.legacy-format)보다 우선
+ */
+@Component
+public class PageFormat {
+
+    public static final String HEADER = "X-Page-Format";
+    private static final String LEGACY = "legacy";
+
+    private final boolean legacyByDefault;
+
+    public PageFormat(@Value("${app.page.legacy-format:false}") boolean legacyByDefault) {
+        this.legacyByDefault = legacyByDefault;
+    }
+
+    public boolean isLegacy(String requested) {
+        if (requested == null || requested.isBlank()) {
+            return legacyByDefault;
+        }
+        return LEGACY.equalsIgnoreCase(requested.trim());
+    }
+}
@@ -0,0 +1,39 @@
+package org.example.expert.config;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.example.expert.domain.diagnostics.service.QueryTimingService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * 애플리케이션 DataSource(빈 이름 dataSource)를 datasource-proxy로 감싸 SQL 실행 시간 / 문 수 수집
+ * - 라우팅 구성에서도 최종 DataSource만 감싸므로 primary/레플리카 쿼리가 모두 집계됨
+ * - SqlStatementCounter(요청당 SQL 문 수)는 항상, QueryTimingService는 빈이 있을 때만 연결 (슬라이스 테스트 등)
+ */
+@Configuration
+public class QueryTimingConfig {
+
+    // BeanPostProcessor는 다른 빈보다 먼저 만들어지므로 static + 리스너는 지연 조회
+    @Bean
+    public static BeanPostProcessor queryTimingDataSourcePostProcessor(ObjectProvider<QueryTimingService> queryTimingService) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)
+                        && "dataSource".equals(beanName)) {
+                    ProxyDataSourceBuilder builder = ProxyDataSourceBuilder.create(dataSource)
+                            .name("expert")
+                            .listener(new SqlStatementCounter());
+                    queryTimingService.ifAvailable(builder::listener);
+                    return builder.build();
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,40 @@
+package org.example.expert.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 사용자별 요청 수 제한 설정
+ * - RateLimitInterceptor를 모든 경로에 등록 (인증된 요청만 집계)
+ * - 유휴 버킷은 주기적으로 제거해 사용자 수만큼 메모리가 늘어나지 않도록 함
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+@ConditionalOnProperty(prefix = "app.rate-limit", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimitConfig implements WebMvcConfigurer {
+
+    private final RateLimitInterceptor rateLimitInterceptor;
+
+    public RateLimitConfig(RateLimitProperties properties) {
+        this.rateLimitInterceptor = new RateLimitInterceptor(properties, System::nanoTime);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(rateLimitInterceptor).addPathPatterns("/**");
+    }
+
+    @Scheduled(fixedDelayString = "${app.rate-limit.eviction-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        int evicted = rateLimitInterceptor.evictIdle();
+        if (evicted > 0) {
+            log.debug("[RATE-LIMIT] evicted idle buckets={}", evicted);
+        }
+    }
+}
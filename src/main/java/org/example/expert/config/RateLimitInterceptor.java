@@ -0,0 +1,101 @@
+package org.example.expert.config;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.ErrorCode;
+import org.example.expert.domain.common.exception.TooManyRequestsException;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 사용자(JwtFilter가 넣은 AuthUser id)별 요청 수 제한
+ * - "메서드 + 매핑 패턴"으로 그룹을 찾고, 없으면 기본 버킷 사용
+ * - 응답 헤더: RateLimit-Limit / RateLimit-Remaining / RateLimit-Reset(초) / RateLimit-Policy, 거절 시 429 + Retry-After
+ * - 인증 없는 요청(/auth/**)은 제한하지 않음
+ */
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    static final String LIMIT_HEADER = "RateLimit-Limit";
+    static final String REMAINING_HEADER = "RateLimit-Remaining";
+    static final String RESET_HEADER = "RateLimit-Reset";
+    static final String POLICY_HEADER = "RateLimit-Policy";
+
+    private final RateLimiter defaultLimiter;
+    private final Map<String, RateLimiter> limitersByRoute = new HashMap<>();
+    private final List<RateLimiter> limiters = new ArrayList<>();
+    private final LongSupplier clock;
+
+    public RateLimitInterceptor(RateLimitProperties properties, LongSupplier clock) {
+        this.clock = clock;
+        this.defaultLimiter = newLimiter("default", properties.getDefaultLimit(), properties);
+        properties.getGroups().forEach((name, group) -> {
+            RateLimiter limiter = newLimiter(name, group, properties);
+            group.getRoutes().forEach(route -> limitersByRoute.put(route.trim(), limiter));
+        });
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // 비동기 응답 재디스패치/에러 디스패치는 같은 요청이므로 다시 집계하지 않음
+        if (request.getDispatcherType() != DispatcherType.REQUEST
+                || !(request.getAttribute("authUser") instanceof AuthUser authUser)) {
+            return true;
+        }
+
+        RateLimiter limiter = limiterFor(request);
+        RateLimiter.Decision decision = limiter.tryAcquire(authUser.getId(), clock.getAsLong());
+
+        response.setHeader(LIMIT_HEADER, String.valueOf(limiter.getCapacity()));
+        response.setHeader(REMAINING_HEADER, String.valueOf(decision.remaining()));
+        response.setHeader(RESET_HEADER, String.valueOf(toSeconds(decision.resetNanos())));
+        response.setHeader(POLICY_HEADER, limiter.getCapacity() + ";w=" + toSeconds(limiter.getPeriodNanos()));
+
+        if (!decision.allowed()) {
+            throw new TooManyRequestsException(ErrorCode.TOO_MANY_REQUESTS.defaultMessage,
+                    Math.max(1, toSeconds(decision.retryAfterNanos())));
+        }
+        return true;
+    }
+
+    // 주기 작업(RateLimitConfig)에서 호출
+    public int evictIdle() {
+        long now = clock.getAsLong();
+        int evicted = 0;
+        for (RateLimiter limiter : limiters) {
+            evicted += limiter.evictIdle(now);
+        }
+        return evicted;
+    }
+
+    private RateLimiter limiterFor(HttpServletRequest request) {
+        if (limitersByRoute.isEmpty()) {
+            return defaultLimiter;
+        }
+        String pattern = (String) request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern == null) {
+            return defaultLimiter;
+        }
+        return limitersByRoute.getOrDefault(request.getMethod() + " " + pattern, defaultLimiter);
+    }
+
+    private RateLimiter newLimiter(String name, RateLimitProperties.Limit limit, RateLimitProperties properties) {
+        RateLimiter limiter = new RateLimiter(name, limit.getCapacity(), limit.getPeriod().toNanos(),
+                properties.getStripes(), properties.getIdleTimeout().toNanos());
+        limiters.add(limiter);
+        return limiter;
+    }
+
+    // 올림 (0.2초 남았으면 1초)
+    private static long toSeconds(long nanos) {
+        return (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
+    }
+}
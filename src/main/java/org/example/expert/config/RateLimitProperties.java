@@ -0,0 +1,51 @@
+package org.example.expert.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자별 요청 수 제한 (app.rate-limit.*)
+ * <pre>
+ * app.rate-limit.enabled=true
+ * app.rate-limit.default-limit.capacity=120             # period 동안 허용 요청 수 (순간 최대치이기도 함)
+ * app.rate-limit.default-limit.period=1m
+ * app.rate-limit.groups.todo-list.capacity=30           # 그룹마다 별도 버킷, "메서드 + 매핑 패턴" 단위로 지정
+ * app.rate-limit.groups.todo-list.routes=GET /todos,GET /rx/todos
+ * app.rate-limit.groups.comment-write.capacity=10
+ * app.rate-limit.groups.comment-write.routes=POST /todos/{todoId}/comments
+ * app.rate-limit.stripes=16                             # 버킷 맵 분할 수 (2의 거듭제곱으로 올림)
+ * app.rate-limit.idle-timeout=10m                       # 가득 찬 뒤 이 시간 동안 요청이 없으면 버킷 제거
+ * app.rate-limit.eviction-interval-ms=60000             # 유휴 버킷 제거 주기
+ * </pre>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+    private Limit defaultLimit = new Limit();
+    private Map<String, Group> groups = new LinkedHashMap<>();
+    private int stripes = 16;
+    private Duration idleTimeout = Duration.ofMinutes(10);
+
+    @Getter
+    @Setter
+    public static class Limit {
+        private int capacity = 120;
+        private Duration period = Duration.ofMinutes(1);
+    }
+
+    @Getter
+    @Setter
+    public static class Group extends Limit {
+        private List<String> routes = new ArrayList<>();
+    }
+}
@@ -0,0 +1,105 @@
+package org.example.expert.config;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 키(사용자 id)별 토큰 버킷
+ * - GCRA 방식: 버킷마다 "다음 요청이 허용되는 이론상 시각(TAT)" 하나만 AtomicLong으로 저장, CAS로 갱신 (락 없음)
+ * - period 동안 capacity개 허용, 한 번에 최대 capacity개까지 몰아서 사용 가능
+ * - 버킷 맵은 stripes개로 나눠 두고, 유휴 버킷 제거는 분할 단위로 순회
+ */
+public class RateLimiter {
+
+    private final String name;
+    private final int capacity;
+    private final long periodNanos;
+    private final long intervalNanos;       // 토큰 1개가 채워지는 간격
+    private final long idleNanos;
+    private final ConcurrentHashMap<Long, AtomicLong>[] stripes;
+    private final int stripeMask;
+
+    @SuppressWarnings("unchecked")
+    public RateLimiter(String name, int capacity, long periodNanos, int stripes, long idleNanos) {
+        if (capacity < 1 || periodNanos < capacity) {
+            throw new IllegalArgumentException("잘못된 요청 수 제한 설정입니다: " + name);
+        }
+        this.name = name;
+        this.capacity = capacity;
+        this.periodNanos = periodNanos;
+        this.intervalNanos = periodNanos / capacity;
+        this.idleNanos = idleNanos;
+
+        int size = stripes <= 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+        this.stripes = new ConcurrentHashMap[size];
+        for (int i = 0; i < size; i++) {
+            this.stripes[i] = new ConcurrentHashMap<>();
+        }
+        this.stripeMask = size - 1;
+    }
+
+    public Decision tryAcquire(long key, long now) {
+        AtomicLong bucket = stripeOf(key).computeIfAbsent(key, k -> new AtomicLong(now)); // TAT = now → 가득 찬 버킷
+        while (true) {
+            long tat = bucket.get();
+            long newTat = Math.max(tat, now) + intervalNanos;
+            long wait = newTat - now;
+            if (wait > periodNanos) {
+                // 토큰 없음: newTat - period 시각이 되면 허용
+                return new Decision(false, 0, tat - now, wait - periodNanos);
+            }
+            if (bucket.compareAndSet(tat, newTat)) {
+                return new Decision(true, (int) ((periodNanos - wait) / intervalNanos), wait, 0);
+            }
+        }
+    }
+
+    /**
+     * 가득 찬 뒤 idle 시간이 지난 버킷 제거
+     * - 제거 직전에 버킷을 가져간 요청은 제거된 버킷에 기록됨 → 이미 가득 찬 버킷이었으므로 최대 1건 더 허용될 뿐
+     */
+    public int evictIdle(long now) {
+        int evicted = 0;
+        for (ConcurrentHashMap<Long, AtomicLong> stripe : stripes) {
+            for (var entry : stripe.entrySet()) {
+                if (now - entry.getValue().get() > idleNanos && stripe.remove(entry.getKey(), entry.getValue())) {
+                    evicted++;
+                }
+            }
+        }
+        return evicted;
+    }
+
+    public int size() {
+        int size = 0;
+        for (ConcurrentHashMap<Long, AtomicLong> stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public long getPeriodNanos() {
+        return periodNanos;
+    }
+
+    private ConcurrentHashMap<Long, AtomicLong> stripeOf(long key) {
+        int hash = Long.hashCode(key * 0x9E3779B97F4A7C15L); // 연속된 id도 고르게 분산
+        return stripes[(hash ^ (hash >>> 16)) & stripeMask];
+    }
+
+    /**
+     * @param remaining    남은 요청 수
+     * @param resetNanos   버킷이 다시 가득 찰 때까지 남은 시간
+     * @param retryAfterNanos 거절 시 다음 요청이 허용될 때까지 남은 시간
+     */
+    public record Decision(boolean allowed, int remaining, long resetNanos, long retryAfterNanos) {
+    }
+}
@@ -0,0 +1,167 @@
+package org.example.expert.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * readOnly 트랜잭션은 레플리카로, 그 외에는 primary로 보내는 라우팅 DataSource
+ * - 레플리카는 라운드 로빈으로 선택하고, 헬스 체크에 실패한 레플리카는 건너뜀 (모두 실패 시 primary)
+ * - pinAfterWrite > 0 이면 쓰기 트랜잭션을 연 유저의 읽기를 일정 시간 primary로 고정 (read-your-writes)
+ * - 트랜잭션의 readOnly 여부가 확정된 뒤 커넥션을 얻도록 반드시 LazyConnectionDataSourceProxy로 감싸서 사용
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    static final String PRIMARY = "primary";
+    private static final String REPLICA_PREFIX = "replica-";
+
+    private final List<String> replicaKeys = new ArrayList<>();
+    private final Map<String, DataSource> replicas = new HashMap<>();
+    private final Set<String> unhealthyReplicas = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger roundRobin = new AtomicInteger();
+
+    private final long pinAfterWriteNanos;
+    private final Map<Long, Long> pinnedUntil = new ConcurrentHashMap<>(); // userId → 고정 만료 시각(nanoTime)
+
+    // 요청 스레드 밖(IoExecutor 등)에서 실행하는 작업의 유저 id
+    private static final ThreadLocal<Long> CURRENT_USER_ID = new ThreadLocal<>();
+
+    public ReadWriteRoutingDataSource(DataSource primary, List<DataSource> replicaDataSources, Duration pinAfterWrite) {
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicaDataSources.size(); i++) {
+            String key = REPLICA_PREFIX + i;
+            replicaKeys.add(key);
+            replicas.put(key, replicaDataSources.get(i));
+            targets.put(key, replicaDataSources.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        this.pinAfterWriteNanos = pinAfterWrite == null ? 0 : pinAfterWrite.toNanos();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Long userId = currentUserId();
+
+        // 쓰기(또는 트랜잭션 밖) → primary, 필요 시 해당 유저를 primary에 고정
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            pin(userId);
+            return PRIMARY;
+        }
+
+        // 최근에 쓰기를 한 유저는 복제 지연을 피하기 위해 primary에서 읽음
+        if (isPinned(userId)) {
+            return PRIMARY;
+        }
+        return nextHealthyReplica();
+    }
+
+    /**
+     * 요청 스레드가 아닌 곳에서 유저 대신 DB 작업을 실행할 때 사용 (request attribute 대신 이 userId로 라우팅/고정)
+     * - 예: POST /todos/async의 INSERT는 IoExecutor 스레드에서 실행되므로 이 안에서 실행해야 작성자가 primary에 고정됨
+     */
+    public static <T> T callAsUser(long userId, Supplier<T> action) {
+        Long previous = CURRENT_USER_ID.get();
+        CURRENT_USER_ID.set(userId);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                CURRENT_USER_ID.remove();
+            } else {
+                CURRENT_USER_ID.set(previous);
+            }
+        }
+    }
+
+    /**
+     * 레플리카 헬스 체크: 커넥션 유효성 검사에 실패한 레플리카는 라우팅 대상에서 제외
+     * 만료된 read-your-writes 고정 정보도 함께 정리
+     */
+    public void checkReplicaHealth(int timeoutSeconds) {
+        for (String key : replicaKeys) {
+            boolean healthy;
+            try (Connection connection = replicas.get(key).getConnection()) {
+                healthy = connection.isValid(timeoutSeconds);
+            } catch (Exception e) {
+                healthy = false;
+            }
+
+            if (healthy && unhealthyReplicas.remove(key)) {
+                log.info("[DS-ROUTING] replica recovered: {}", key);
+            } else if (!healthy && unhealthyReplicas.add(key)) {
+                log.warn("[DS-ROUTING] replica marked unhealthy: {}", key);
+            }
+        }
+
+        long now = System.nanoTime();
+        pinnedUntil.values().removeIf(until -> until - now <= 0);
+    }
+
+    private String nextHealthyReplica() {
+        int size = replicaKeys.size();
+        for (int i = 0; i < size; i++) {
+            String key = replicaKeys.get(Math.floorMod(roundRobin.getAndIncrement(), size));
+            if (!unhealthyReplicas.contains(key)) {
+                return key;
+            }
+        }
+        return PRIMARY; // 레플리카가 없거나 모두 비정상
+    }
+
+    private void pin(Long userId) {
+        if (pinAfterWriteNanos > 0 && userId != null) {
+            pinnedUntil.put(userId, System.nanoTime() + pinAfterWriteNanos);
+        }
+    }
+
+    private boolean isPinned(Long userId) {
+        if (pinAfterWriteNanos <= 0 || userId == null) {
+            return false;
+        }
+        Long until = pinnedUntil.get(userId);
+        return until != null && until - System.nanoTime() > 0;
+    }
+
+    // callAsUser로 지정한 userId, 없으면 JwtFilter가 request attribute로 넣어둔 userId (요청 스레드가 아니면 null)
+    private Long currentUserId() {
+        Long explicit = CURRENT_USER_ID.get();
+        if (explicit != null) {
+            return explicit;
+        }
+        RequestAttributes attrs = RequestContextHolder.getRequestAttributes();
+        if (attrs == null) {
+            return null;
+        }
+        Object userId = attrs.getAttribute("userId", RequestAttributes.SCOPE_REQUEST);
+        return userId instanceof Long id ? id : null;
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        for (DataSource dataSource : getResolvedDataSources().values()) {
+            if (dataSource instanceof Closeable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
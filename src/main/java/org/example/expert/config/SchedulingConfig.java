@@ -0,0 +1,11 @@
+package org.example.expert.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// @Scheduled 작업(레플리카 헬스 체크 등) 활성화
+// spring.threads.virtual.enabled=true 이면 Tomcat 요청 처리와 함께 스케줄러/applicationTaskExecutor도 가상 스레드로 실행
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
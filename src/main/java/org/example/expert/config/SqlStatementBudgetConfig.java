@@ -0,0 +1,33 @@
+package org.example.expert.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * 요청당 SQL 문 수 예산 설정 (N+1 회귀 감지용)
+ * - SqlStatementCounter는 QueryTimingConfig가 DataSource 프록시에 연결 (Hibernate/JdbcTemplate SQL 모두 집계)
+ * - SqlStatementBudgetFilter로 요청 단위 집계 + 예산 초과 시 경고 로그
+ */
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(SqlStatementBudgetProperties.class)
+@ConditionalOnProperty(prefix = "app.sql-budget", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SqlStatementBudgetConfig {
+
+    private final SqlStatementBudgetProperties properties;
+
+    @Bean
+    public FilterRegistrationBean<SqlStatementBudgetFilter> sqlStatementBudgetFilter() {
+        FilterRegistrationBean<SqlStatementBudgetFilter> registrationBean = new FilterRegistrationBean<>();
+        registrationBean.setFilter(new SqlStatementBudgetFilter(properties));
+        registrationBean.addUrlPatterns("/*");
+        registrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE);   // 다른 필터보다 먼저 집계 시작
+
+        return registrationBean;
+    }
+}
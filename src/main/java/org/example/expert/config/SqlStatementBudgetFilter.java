@@ -0,0 +1,41 @@
+package org.example.expert.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * 요청 단위 SQL 문 수 집계 및 예산 초과 경고
+ * - 요청 스레드에서 실행된 SQL만 집계 (StreamingResponseBody 등 비동기 처리 스레드는 제외)
+ * - 응답 헤더는 본문을 쓰기 직전에 SqlStatementCountAdvice가 추가
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class SqlStatementBudgetFilter extends OncePerRequestFilter {
+
+    private final SqlStatementBudgetProperties properties;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlStatementCounter.start(false);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            int count = SqlStatementCounter.stop();
+            String pattern = (String) request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            int budget = properties.budgetFor(request.getMethod(), pattern);
+            if (count > budget) {
+                log.warn("SQL 문 수 예산 초과: {} {} → {}건 (예산 {}건)",
+                        request.getMethod(), pattern != null ? pattern : request.getRequestURI(), count, budget);
+            }
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package org.example.expert.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 요청당 SQL 문 수 예산 (app.sql-budget.*)
+ * <pre>
+ * app.sql-budget.enabled=true
+ * app.sql-budget.default-budget=10
+ * app.sql-budget.endpoints[GET /todos]=2                 # "메서드 + 매핑 패턴" 단위
+ * app.sql-budget.endpoints[GET /todos/{todoId}/comments]=2
+ * </pre>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.sql-budget")
+public class SqlStatementBudgetProperties {
+
+    private boolean enabled = true;
+    private int defaultBudget = 10;
+    private Map<String, Integer> endpoints = new HashMap<>();
+
+    // 엔드포인트별 예산, 지정되지 않았으면 기본 예산
+    public int budgetFor(String method, String pattern) {
+        if (pattern == null) {
+            return defaultBudget;
+        }
+        return endpoints.getOrDefault(method + " " + pattern, defaultBudget);
+    }
+}
@@ -0,0 +1,48 @@
+package org.example.expert.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 응답 헤더에 요청 처리 중 실행된 SQL 문 수와 예산 추가
+ * - X-SQL-Statement-Count / X-SQL-Statement-Budget
+ * - 본문 직렬화 직전 시점의 값 (이후 지연 로딩이 없도록 응답 DTO는 서비스에서 완성됨)
+ */
+@RestControllerAdvice
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.sql-budget", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SqlStatementCountAdvice implements ResponseBodyAdvice<Object> {
+
+    static final String COUNT_HEADER = "X-SQL-Statement-Count";
+    static final String BUDGET_HEADER = "X-SQL-Statement-Budget";
+
+    private final SqlStatementBudgetProperties properties;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest servletRequest) {
+            HttpServletRequest httpRequest = servletRequest.getServletRequest();
+            String pattern = (String) httpRequest.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            response.getHeaders().set(COUNT_HEADER, String.valueOf(SqlStatementCounter.count()));
+            response.getHeaders().set(BUDGET_HEADER, String.valueOf(properties.budgetFor(httpRequest.getMethod(), pattern)));
+        }
+        return body;
+    }
+}
@@ -0,0 +1,72 @@
+package org.example.expert.config;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 현재 스레드에서 JDBC로 실행된 SQL 문 수 집계
+ * - datasource-proxy 리스너로 DataSource에 연결되어(QueryTimingConfig) 실행마다 호출됨 (JDBC 배치는 1건으로 집계)
+ * - Hibernate뿐 아니라 JdbcTemplate 등 같은 DataSource를 쓰는 모든 SQL이 집계됨
+ * - start() ~ stop() 사이에서만 집계, 그 밖의 호출은 무시
+ */
+public class SqlStatementCounter implements QueryExecutionListener {
+
+    private static final ThreadLocal<Tally> CURRENT = new ThreadLocal<>();
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Tally tally = CURRENT.get();
+        if (tally != null && !queryInfoList.isEmpty()) {
+            tally.add(queryInfoList.get(0).getQuery());
+        }
+    }
+
+    // 집계 시작 (이미 진행 중이면 0부터 다시 시작), recordStatements면 SQL 본문도 보관
+    public static void start(boolean recordStatements) {
+        CURRENT.set(new Tally(recordStatements));
+    }
+
+    // 지금까지 집계된 수, 집계 중이 아니면 0
+    public static int count() {
+        Tally tally = CURRENT.get();
+        return tally == null ? 0 : tally.count;
+    }
+
+    // start(true)일 때 보관된 SQL 목록
+    public static List<String> statements() {
+        Tally tally = CURRENT.get();
+        return tally == null || tally.statements == null ? List.of() : List.copyOf(tally.statements);
+    }
+
+    // 집계 종료, 최종 수 반환
+    public static int stop() {
+        int count = count();
+        CURRENT.remove();
+        return count;
+    }
+
+    private static final class Tally {
+
+        private final List<String> statements;
+        private int count;
+
+        private Tally(boolean recordStatements) {
+            this.statements = recordStatements ? new ArrayList<>() : null;
+        }
+
+        private void add(String sql) {
+            count++;
+            if (statements != null) {
+                statements.add(sql);
+            }
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package org.example.expert.config;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.stereotype.Component;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -17,6 +19,10 @@ public class WebConfig implements WebMvcConfigurer {
     // 관리자 접근 권한을 검증하는 인터셉터
     private final AdminAccessInterceptor adminAccessInterceptor;
 
+    // 비동기 응답(StreamingResponseBody 내보내기 등) 제한 시간, 기본 1시간
+    @Value("${app.async.request-timeout-ms:3600000}")
+    private long asyncRequestTimeoutMs;
+
     // ArgumentResolver 등록
     @Override
     public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
@@ -27,11 +33,18 @@ public class WebConfig implements WebMvcConfigurer {
      * 관리자 전용 API 요청 시 인터셉터 동작 추가
      * - /admin/comments/**
      * - /admin/users/**
+     * - /admin/todos/**
+     * - /admin/diagnostics/**
      * 위 경로에 대해서만 adminAccessInterceptor 적용
      */
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
         registry.addInterceptor(adminAccessInterceptor)
-                .addPathPatterns("/admin/comments/**", "/admin/users/**"); // 어드민 API만 적용
+                .addPathPatterns("/admin/comments/**", "/admin/users/**", "/admin/todos/**", "/admin/diagnostics/**"); // 어드민 API만 적용
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setDefaultTimeout(asyncRequestTimeoutMs);
     }
 }
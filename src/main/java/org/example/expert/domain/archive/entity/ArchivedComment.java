@@ -0,0 +1,35 @@
+package org.example.expert.domain.archive.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.expert.domain.common.converter.CompressedTextConverter;
+import org.example.expert.domain.user.entity.User;
+
+import java.time.LocalDateTime;
+
+// 보관 처리된 할 일의 댓글 (삭제 표시된 댓글은 보관하지 않음)
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "comments_archive", indexes = {
+        @Index(name = "idx_comments_archive_todo_id", columnList = "todo_id")
+})
+public class ArchivedComment {
+
+    @Id
+    private Long id;
+
+    @Convert(converter = CompressedTextConverter.class)
+    private String contents;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(name = "todo_id", nullable = false)
+    private Long todoId;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime modifiedAt;
+}
@@ -0,0 +1,26 @@
+package org.example.expert.domain.archive.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.expert.domain.user.entity.User;
+
+// 보관 처리된 할 일의 담당자
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "managers_archive", indexes = {
+        @Index(name = "idx_managers_archive_todo_id", columnList = "todo_id")
+})
+public class ArchivedManager {
+
+    @Id
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(name = "todo_id", nullable = false)
+    private Long todoId;
+}
@@ -0,0 +1,43 @@
+package org.example.expert.domain.archive.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.expert.domain.common.converter.CompressedTextConverter;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.weather.converter.WeatherCodeConverter;
+
+import java.time.LocalDateTime;
+
+// 보관 처리된 할 일 (읽기 전용, TodoArchiveRepository가 todos에서 행 단위로 옮겨 옴)
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "todos_archive", indexes = {
+        @Index(name = "idx_todos_archive_weather_modified_at", columnList = "weather_code, modified_at, id"),
+        @Index(name = "idx_todos_archive_modified_at", columnList = "modified_at, id")
+})
+public class ArchivedTodo {
+
+    @Id
+    private Long id;    // 원래 todos.id 그대로 유지
+    private String title;
+
+    @Convert(converter = CompressedTextConverter.class)
+    private String contents;
+
+    @Convert(converter = WeatherCodeConverter.class)
+    @Column(name = "weather_code")
+    private String weather;
+    private Long version;
+    private int commentCount;
+    private int managerCount;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime modifiedAt;
+    private LocalDateTime archivedAt;
+}
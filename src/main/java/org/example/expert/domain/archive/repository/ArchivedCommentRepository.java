@@ -0,0 +1,21 @@
+package org.example.expert.domain.archive.repository;
+
+import org.example.expert.domain.archive.entity.ArchivedComment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ArchivedCommentRepository extends JpaRepository<ArchivedComment, Long> {
+
+    @Query("SELECT c FROM ArchivedComment c JOIN FETCH c.user WHERE c.todoId = :todoId")
+    List<ArchivedComment> findByTodoIdWithUser(@Param("todoId") Long todoId);
+
+    // 보관된 할 일의 댓글 일괄 삭제 (댓글 수와 무관하게 DELETE 한 번)
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM ArchivedComment c WHERE c.todoId IN :todoIds")
+    int deleteAllByTodoIdIn(@Param("todoIds") Collection<Long> todoIds);
+}
@@ -0,0 +1,21 @@
+package org.example.expert.domain.archive.repository;
+
+import org.example.expert.domain.archive.entity.ArchivedManager;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ArchivedManagerRepository extends JpaRepository<ArchivedManager, Long> {
+
+    @Query("SELECT m FROM ArchivedManager m JOIN FETCH m.user WHERE m.todoId = :todoId")
+    List<ArchivedManager> findByTodoIdWithUser(@Param("todoId") Long todoId);
+
+    // 보관된 할 일의 담당자 일괄 삭제 (담당자 수와 무관하게 DELETE 한 번)
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM ArchivedManager m WHERE m.todoId IN :todoIds")
+    int deleteAllByTodoIdIn(@Param("todoIds") Collection<Long> todoIds);
+}
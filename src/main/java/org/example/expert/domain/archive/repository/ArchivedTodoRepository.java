@@ -0,0 +1,30 @@
+package org.example.expert.domain.archive.repository;
+
+import org.example.expert.domain.archive.entity.ArchivedTodo;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.Optional;
+
+public interface ArchivedTodoRepository extends JpaRepository<ArchivedTodo, Long>,
+        JpaSpecificationExecutor<ArchivedTodo>, ArchivedTodoRepositoryCustom {
+
+    // 보관된 할 일 단건 조회 (작성자 즉시 로딩)
+    @EntityGraph(attributePaths = "user")
+    Optional<ArchivedTodo> findById(Long todoId);
+
+    // 작성자 id만 조회 (권한 확인용, 엔티티 로딩 없음)
+    @Query("SELECT t.user.id FROM ArchivedTodo t WHERE t.id = :todoId")
+    Optional<Long> findOwnerIdById(@Param("todoId") Long todoId);
+
+    // 보관된 할 일 일괄 삭제 (삭제된 행 수 반환)
+    // 보관 댓글/담당자를 먼저 삭제한 뒤 호출해야 함
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("DELETE FROM ArchivedTodo t WHERE t.id IN :todoIds")
+    int deleteAllByIdIn(@Param("todoIds") Collection<Long> todoIds);
+}
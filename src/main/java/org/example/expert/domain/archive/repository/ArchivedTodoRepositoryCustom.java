@@ -0,0 +1,16 @@
+package org.example.expert.domain.archive.repository;
+
+import org.example.expert.domain.archive.entity.ArchivedTodo;
+import org.example.expert.domain.todo.dto.response.TodoSummaryResponse;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public interface ArchivedTodoRepositoryCustom {
+
+    // 조건에 맞는 보관 할 일을 최근 수정 순(modifiedAt, id 내림차순)으로 limit개 조회 (작성자 fetch join, COUNT 쿼리 없음)
+    List<ArchivedTodo> findLatest(Specification<ArchivedTodo> spec, int limit);
+
+    // 요약 목록: 본문 대신 앞 previewLength자만 SQL에서 잘라 최근 수정 순으로 limit개 조회
+    List<TodoSummaryResponse> findSummaries(Specification<ArchivedTodo> spec, int limit, int previewLength);
+}
@@ -0,0 +1,48 @@
+package org.example.expert.domain.archive.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.example.expert.domain.archive.entity.ArchivedTodo;
+import org.example.expert.domain.todo.dto.response.TodoSummaryResponse;
+import org.example.expert.domain.todo.repository.TodoSummaryQuery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public class ArchivedTodoRepositoryImpl implements ArchivedTodoRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    // TodoRepositoryImpl.findLatest와 같은 형태의 쿼리를 todos_archive에 실행
+    @Override
+    public List<ArchivedTodo> findLatest(Specification<ArchivedTodo> spec, int limit) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<ArchivedTodo> query = cb.createQuery(ArchivedTodo.class);
+        Root<ArchivedTodo> todo = query.from(ArchivedTodo.class);
+        todo.fetch("user", JoinType.LEFT);
+
+        if (spec != null) {
+            Predicate predicate = spec.toPredicate(todo, query, cb);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+        query.orderBy(cb.desc(todo.get("modifiedAt")), cb.desc(todo.get("id")));
+
+        return em.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    // 요약 목록: TodoSummaryQuery로 todos_archive에서 조회
+    @Override
+    public List<TodoSummaryResponse> findSummaries(Specification<ArchivedTodo> spec, int limit, int previewLength) {
+        return TodoSummaryQuery.find(em, ArchivedTodo.class, spec, 0, limit, previewLength);
+    }
+}
@@ -0,0 +1,98 @@
+package org.example.expert.domain.archive.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * todos / comments / managers → *_archive 이동 전용 리포지토리
+ * - INSERT ... SELECT 후 원본 DELETE, 행을 애플리케이션으로 읽어 오지 않음
+ * - 호출 측 트랜잭션 안에서 한 배치(todo id 목록)씩 실행
+ * - 후보 id를 고른 뒤 수정된 할 일은 건너뛰도록 잠금/복사/삭제 모두 modified_at < :before를 다시 확인
+ * - 댓글/담당자는 보관 테이블에 복사된 id만 삭제 (복사 후 추가된 행은 FK 오류로 배치 전체 롤백)
+ */
+@Repository
+@RequiredArgsConstructor
+public class TodoArchiveRepository {
+
+    // idx_todos_modified_at (modified_at, id) 범위 검색
+    private static final String FIND_ARCHIVABLE_IDS_SQL =
+            "SELECT id FROM todos WHERE modified_at < ? ORDER BY modified_at, id LIMIT ?";
+
+    // 아직 보관 대상인 행만 잠금 (잠근 뒤에는 수정/댓글 추가가 커밋까지 대기)
+    private static final String LOCK_TODOS_SQL =
+            "SELECT id FROM todos WHERE id IN (:todoIds) AND modified_at < :before FOR UPDATE";
+
+    private static final String COPY_TODOS_SQL = """
+            INSERT INTO todos_archive (id, title, contents, weather_code, user_id, version, comment_count, manager_count,
+                                       created_at, modified_at, archived_at)
+            SELECT id, title, contents, weather_code, user_id, version, comment_count, manager_count,
+                   created_at, modified_at, :archivedAt
+            FROM todos WHERE id IN (:todoIds) AND modified_at < :before
+            """;
+
+    // 삭제 표시된 댓글은 보관하지 않고 아래 DELETE로 함께 정리
+    private static final String COPY_COMMENTS_SQL = """
+            INSERT INTO comments_archive (id, contents, user_id, todo_id, created_at, modified_at)
+            SELECT id, contents, user_id, todo_id, created_at, modified_at
+            FROM comments WHERE todo_id IN (:todoIds) AND deleted_at IS NULL
+            """;
+
+    private static final String COPY_MANAGERS_SQL = """
+            INSERT INTO managers_archive (id, user_id, todo_id)
+            SELECT id, user_id, todo_id
+            FROM managers WHERE todo_id IN (:todoIds)
+            """;
+
+    private static final String DELETE_COMMENTS_SQL = """
+            DELETE FROM comments
+            WHERE id IN (SELECT id FROM comments_archive WHERE todo_id IN (:todoIds))
+               OR (todo_id IN (:todoIds) AND deleted_at IS NOT NULL)
+            """;
+
+    private static final String DELETE_MANAGERS_SQL =
+            "DELETE FROM managers WHERE id IN (SELECT id FROM managers_archive WHERE todo_id IN (:todoIds))";
+
+    private static final String DELETE_TODOS_SQL =
+            "DELETE FROM todos WHERE id IN (:todoIds) AND modified_at < :before";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    // 수정일이 before 이전인 할 일 id를 오래된 순으로 최대 limit개 조회
+    public List<Long> findArchivableIds(LocalDateTime before, int limit) {
+        return jdbcTemplate.queryForList(FIND_ARCHIVABLE_IDS_SQL, Long.class, before, limit);
+    }
+
+    /**
+     * 할 일과 댓글/담당자를 보관 테이블로 복사한 뒤 원본 삭제, 실제로 이동한 할 일 id 반환
+     * - 후보 조회 이후 수정되어 modified_at이 before 이후가 된 할 일은 제외
+     */
+    public List<Long> archive(List<Long> todoIds, LocalDateTime before, LocalDateTime archivedAt) {
+        List<Long> lockedIds = namedParameterJdbcTemplate.queryForList(LOCK_TODOS_SQL,
+                new MapSqlParameterSource().addValue("todoIds", todoIds).addValue("before", before), Long.class);
+        if (lockedIds.isEmpty()) {
+            return List.of();
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("todoIds", lockedIds)
+                .addValue("before", before)
+                .addValue("archivedAt", archivedAt);
+
+        namedParameterJdbcTemplate.update(COPY_COMMENTS_SQL, params);
+        namedParameterJdbcTemplate.update(COPY_MANAGERS_SQL, params);
+        namedParameterJdbcTemplate.update(COPY_TODOS_SQL, params);
+
+        // FK 순서대로 원본 삭제
+        namedParameterJdbcTemplate.update(DELETE_COMMENTS_SQL, params);
+        namedParameterJdbcTemplate.update(DELETE_MANAGERS_SQL, params);
+        namedParameterJdbcTemplate.update(DELETE_TODOS_SQL, params);
+        return lockedIds;
+    }
+}
@@ -0,0 +1,100 @@
+package org.example.expert.domain.archive.service;
+
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.archive.repository.TodoArchiveRepository;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.event.TodosDeletedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * 오래된 할 일 보관 작업
+ * - 마지막 수정 후 app.archive.todo-age가 지난 할 일을 댓글/담당자와 함께 *_archive 테이블로 이동
+ * - batch-size 건씩 별도 트랜잭션으로 복사 + 삭제하고 배치 사이에 쉬어서 락/복제 지연을 작게 유지
+ * - 한 번 실행에 max-batches 배치까지만 처리, 남은 건 다음 실행에서 이어서 처리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TodoArchiveJob {
+
+    private final TodoArchiveRepository todoArchiveRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Value("${app.archive.todo-age:365d}")
+    private Duration todoAge;
+
+    @Value("${app.archive.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.archive.max-batches:200}")
+    private int maxBatches;
+
+    @Value("${app.archive.pause-ms:200}")
+    private long pauseMs;
+
+    @Scheduled(cron = "${app.archive.cron:0 0 5 * * *}")
+    public void archive() {
+        LocalDateTime before = LocalDateTime.now().minus(todoAge);
+        long archived = 0;
+
+        for (int batch = 0; batch < maxBatches; batch++) {
+            List<Long> ids = todoArchiveRepository.findArchivableIds(before, batchSize);
+            if (ids.isEmpty()) {
+                break;
+            }
+            archived += archiveBatch(ids, before);
+            if (ids.size() < batchSize || !pause()) {
+                break;
+            }
+        }
+
+        if (archived > 0) {
+            log.info("할 일 보관 처리: {}건 (수정일 {} 이전)", archived, before);
+        }
+    }
+
+    // 후보 중 그사이 수정되지 않은 할 일만 이동, 이동한 수 반환
+    private int archiveBatch(List<Long> ids, LocalDateTime before) {
+        List<Long> archivedIds = transactionTemplate.execute(status -> {
+            List<Long> moved = todoArchiveRepository.archive(ids, before, LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+            if (!moved.isEmpty()) {
+                // 검색 색인에서 제거 (커밋 후 반영)
+                eventPublisher.publishEvent(new TodosDeletedEvent(moved));
+            }
+            return moved;
+        });
+        if (archivedIds == null || archivedIds.isEmpty()) {
+            return 0;
+        }
+
+        // JDBC로 삭제했으므로 2차 캐시에 남은 항목 제거
+        Cache cache = entityManagerFactory.getCache();
+        archivedIds.forEach(id -> cache.evict(Todo.class, id));
+        return archivedIds.size();
+    }
+
+    // 배치 사이 대기, 종료 중 인터럽트되면 false
+    private boolean pause() {
+        try {
+            Thread.sleep(pauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
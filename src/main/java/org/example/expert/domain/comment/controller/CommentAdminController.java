@@ -1,12 +1,17 @@
 package org.example.expert.domain.comment.controller;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.comment.dto.request.CommentBulkDeleteRequest;
+import org.example.expert.domain.comment.dto.response.CommentBulkDeleteResponse;
 import org.example.expert.domain.comment.service.CommentAdminService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -23,4 +28,11 @@ public class CommentAdminController {
         commentAdminService.deleteComment(commentId);
         return ResponseEntity.noContent().build(); // 204 No Content
     }
+
+    // 댓글 일괄 삭제 (삭제 표시 UPDATE 한 번)
+    @PostMapping("/bulk-delete")
+    public ResponseEntity<CommentBulkDeleteResponse> deleteComments(@Valid @RequestBody CommentBulkDeleteRequest commentBulkDeleteRequest) {
+        CommentBulkDeleteResponse res = commentAdminService.deleteComments(commentBulkDeleteRequest);
+        return ResponseEntity.ok(res); // 200 OK
+    }
 }
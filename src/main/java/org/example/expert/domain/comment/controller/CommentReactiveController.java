@@ -0,0 +1,30 @@
+package org.example.expert.domain.comment.controller;
+
+import jakarta.validation.constraints.Positive;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.service.CommentReactiveService;
+import org.springframework.http.MediaType;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+
+/**
+ * 댓글 논블로킹 조회 API
+ * - Accept: application/x-ndjson → 댓글을 한 줄씩 스트리밍 (클라이언트가 읽는 속도에 맞춰 DB에서 가져옴)
+ * - Accept: application/json → GET /todos/{todoId}/comments와 같은 JSON 배열
+ * - 서블릿 비동기 처리라 줄 단위 쓰기는 컨테이너 스레드의 블로킹 I/O (TodoReactiveController의 한계와 같음)
+ */
+@RestController
+@RequiredArgsConstructor
+@Validated
+@RequestMapping("/rx/todos/{todoId}/comments")
+public class CommentReactiveController {
+
+    private final CommentReactiveService commentReactiveService;
+
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<CommentResponse> getComments(@PathVariable @Positive long todoId) {
+        return commentReactiveService.getComments(todoId);
+    }
+}
@@ -3,18 +3,28 @@ package org.example.expert.domain.comment.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.example.expert.domain.common.converter.CompressedTextConverter;
 import org.example.expert.domain.common.entity.Timestamped;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.user.entity.User;
+import org.hibernate.annotations.SQLRestriction;
+
+import java.time.LocalDateTime;
 
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "comments")
+@Table(name = "comments", indexes = {
+        // 삭제 표시된 댓글 정리(purge) 작업용
+        @Index(name = "idx_comments_deleted_at", columnList = "deleted_at")
+})
+@SQLRestriction("deleted_at is null") // 삭제 표시된 댓글은 모든 조회에서 제외
 public class Comment extends Timestamped {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
+
+    @Convert(converter = CompressedTextConverter.class)
     private String contents;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -25,6 +35,9 @@ public class Comment extends Timestamped {
     @JoinColumn(name = "todo_id", nullable = false)
     private Todo todo;
 
+    // 삭제 표시 시각 (null이면 정상 댓글), 실제 삭제는 CommentPurgeJob이 일괄 처리
+    private LocalDateTime deletedAt;
+
     public Comment(String contents, User user, Todo todo) {
         this.contents = contents;
         this.user = user;
@@ -0,0 +1,62 @@
+package org.example.expert.domain.comment.repository;
+
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.common.converter.CompressedTextConverter;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+/**
+ * 댓글 읽기 전용 R2DBC 리포지토리 (/rx/todos/{todoId}/comments)
+ * - 결과를 모으지 않고 행 단위 Flux로 반환 (구독자의 요청량만큼 드라이버에서 읽음)
+ */
+@Repository
+@RequiredArgsConstructor
+public class CommentReactiveRepository {
+
+    // 삭제 표시된 댓글 제외 (Comment의 @SQLRestriction과 같은 조건)
+    private static final String FIND_BY_TODO_ID_SQL = """
+            SELECT c.id, c.contents, u.id AS user_id, u.email
+            FROM comments c JOIN users u ON u.id = c.user_id
+            WHERE c.todo_id = :todoId AND c.deleted_at IS NULL
+            ORDER BY c.id
+            """;
+
+    private static final String FIND_ARCHIVED_BY_TODO_ID_SQL = """
+            SELECT c.id, c.contents, u.id AS user_id, u.email
+            FROM comments_archive c JOIN users u ON u.id = c.user_id
+            WHERE c.todo_id = :todoId
+            ORDER BY c.id
+            """;
+
+    private final DatabaseClient databaseClient;
+
+    // 엔티티 매핑과 같은 빈, 압축 해제만 사용
+    private final CompressedTextConverter contentsConverter;
+
+    public Flux<CommentResponse> findByTodoId(long todoId) {
+        return find(FIND_BY_TODO_ID_SQL, todoId);
+    }
+
+    public Flux<CommentResponse> findArchivedByTodoId(long todoId) {
+        return find(FIND_ARCHIVED_BY_TODO_ID_SQL, todoId);
+    }
+
+    private Flux<CommentResponse> find(String sql, long todoId) {
+        return databaseClient.sql(sql)
+                .bind("todoId", todoId)
+                .map(this::toCommentResponse)
+                .all();
+    }
+
+    private CommentResponse toCommentResponse(Readable row) {
+        return new CommentResponse(
+                row.get("id", Long.class),
+                contentsConverter.convertToEntityAttribute(row.get("contents", String.class)),
+                new UserResponse(row.get("user_id", Long.class), row.get("email", String.class))
+        );
+    }
+}
@@ -5,7 +5,10 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
@@ -13,9 +16,29 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.todo.id = :todoId")
     List<Comment> findByTodoIdWithUser(@Param("todoId") Long todoId);
 
-    // 삭제된 행 수 반환
+    // 삭제 표시 (이미 삭제 표시된 댓글은 제외), 표시된 행 수 반환
     @Modifying(clearAutomatically = true, flushAutomatically = true)
-    @Query("delete from Comment c where c.id = :id")
-    int deleteByIdReturningCount(@Param("id") long id);
+    @Query("UPDATE Comment c SET c.deletedAt = :deletedAt WHERE c.id IN :ids AND c.deletedAt IS NULL")
+    int softDeleteAllByIdIn(@Param("ids") Collection<Long> ids, @Param("deletedAt") LocalDateTime deletedAt);
+
+    // 위 UPDATE 전에 삭제 표시될 행을 잠그고 행마다 할 일 id 반환 (카운터 감소용)
+    // GROUP BY와 FOR UPDATE를 함께 쓸 수 없는 DB(H2)가 있어 집계는 호출 측에서 수행
+    @Query(value = "SELECT todo_id FROM comments WHERE id IN (:ids) AND deleted_at IS NULL FOR UPDATE", nativeQuery = true)
+    List<Long> lockLiveTodoIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 할 일에 달린 댓글 일괄 삭제 (삭제 표시된 댓글 포함, 댓글 수와 무관하게 DELETE 한 번)
+    @Modifying(flushAutomatically = true)
+    @Query(value = "DELETE FROM comments WHERE todo_id IN (:todoIds)", nativeQuery = true)
+    int deleteAllByTodoIdIn(@Param("todoIds") Collection<Long> todoIds);
+
+    // 보관 기간이 지난 삭제 표시 댓글 id (정리 작업 1회분)
+    @Query(value = "SELECT id FROM comments WHERE deleted_at < :before ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<Long> findPurgeableIds(@Param("before") LocalDateTime before, @Param("limit") int limit);
+
+    // 삭제 표시 댓글 실제 삭제 (호출마다 별도 트랜잭션으로 커밋하여 락 유지 시간 최소화)
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM comments WHERE id IN (:ids) AND deleted_at IS NOT NULL", nativeQuery = true)
+    int purgeAllByIdIn(@Param("ids") Collection<Long> ids);
 }
 
@@ -1,25 +1,68 @@
 package org.example.expert.domain.comment.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.comment.dto.request.CommentBulkDeleteRequest;
+import org.example.expert.domain.comment.dto.response.CommentBulkDeleteResponse;
 import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.todo.repository.TodoCounterRepository;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 댓글 관리자 기능
+ * - 삭제는 deleted_at 표시(soft delete)만 하고, 실제 행 삭제는 CommentPurgeJob이 한가한 시간에 일괄 처리
+ */
 @Service
 @RequiredArgsConstructor
 public class CommentAdminService {
 
     private final CommentRepository commentRepository;
+    private final TodoCounterRepository todoCounterRepository;
 
     @Transactional
     public void deleteComment(long commentId) {
-        int rows = commentRepository.deleteByIdReturningCount(commentId);
+        int rows = softDelete(List.of(commentId));
         if (rows == 0) {
-            // 존재하지 않으면 404
+            // 존재하지 않거나 이미 삭제된 댓글이면 404
             throw new ResponseStatusException(HttpStatus.NOT_FOUND);
         }
         // rows == 1 이면 정상 삭제 → 컨트롤러에서 204 반환
     }
+
+    /**
+     * 댓글 일괄 삭제: UPDATE 한 번으로 삭제 표시
+     * - 존재하지 않거나 이미 삭제된 id는 무시하고 실제 삭제 표시된 수를 반환
+     */
+    @Transactional
+    public CommentBulkDeleteResponse deleteComments(CommentBulkDeleteRequest commentBulkDeleteRequest) {
+        Set<Long> commentIds = new LinkedHashSet<>(commentBulkDeleteRequest.getCommentIds());
+        return new CommentBulkDeleteResponse(softDelete(commentIds));
+    }
+
+    private int softDelete(Collection<Long> commentIds) {
+        // 삭제 표시할 행을 먼저 잠가 할 일별로 집계 (잠근 행은 커밋까지 다른 요청이 삭제 표시할 수 없음)
+        List<Long> todoIds = commentRepository.lockLiveTodoIdsByIdIn(commentIds);
+        if (todoIds.isEmpty()) {
+            return 0;
+        }
+        int rows = commentRepository.softDeleteAllByIdIn(commentIds, LocalDateTime.now());
+
+        // 할 일 id 순으로 댓글 수 감소 (동시 요청 간 락 순서 고정)
+        Map<Long, Long> countByTodoId = todoIds.stream()
+                .collect(Collectors.groupingBy(Function.identity(), TreeMap::new, Collectors.counting()));
+        countByTodoId.forEach((todoId, count) -> todoCounterRepository.addCommentCount(todoId, -count.intValue()));
+        return rows;
+    }
 }
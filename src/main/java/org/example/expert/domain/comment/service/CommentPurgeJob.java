@@ -0,0 +1,70 @@
+package org.example.expert.domain.comment.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 삭제 표시된 댓글 정리 작업
+ * - 보관 기간(app.comment.purge.retention)이 지난 댓글만 실제 DELETE
+ * - batch-size 건씩 별도 트랜잭션으로 삭제하고 배치 사이에 쉬어서 락/복제 지연을 작게 유지
+ * - 한 번 실행에 max-batches 배치까지만 처리, 남은 건 다음 실행에서 이어서 처리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentPurgeJob {
+
+    private final CommentRepository commentRepository;
+
+    @Value("${app.comment.purge.retention:7d}")
+    private Duration retention;
+
+    @Value("${app.comment.purge.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${app.comment.purge.max-batches:500}")
+    private int maxBatches;
+
+    @Value("${app.comment.purge.pause-ms:200}")
+    private long pauseMs;
+
+    @Scheduled(cron = "${app.comment.purge.cron:0 0 4 * * *}")
+    public void purge() {
+        LocalDateTime before = LocalDateTime.now().minus(retention);
+        long purged = 0;
+
+        for (int batch = 0; batch < maxBatches; batch++) {
+            List<Long> ids = commentRepository.findPurgeableIds(before, batchSize);
+            if (ids.isEmpty()) {
+                break;
+            }
+            purged += commentRepository.purgeAllByIdIn(ids);
+            if (ids.size() < batchSize || !pause()) {
+                break;
+            }
+        }
+
+        if (purged > 0) {
+            log.info("삭제 표시 댓글 정리: {}건", purged);
+        }
+    }
+
+    // 배치 사이 대기, 종료 중 인터럽트되면 false
+    private boolean pause() {
+        try {
+            Thread.sleep(pauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package org.example.expert.domain.comment.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.repository.CommentReactiveRepository;
+import org.example.expert.domain.todo.repository.TodoReactiveRepository;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+
+/**
+ * 댓글 논블로킹 조회 (/rx/todos/{todoId}/comments)
+ * - 할 일 존재 확인 후 댓글을 행 단위로 스트리밍 (CommentService.getComments와 같은 404/보관 처리)
+ */
+@Service
+@RequiredArgsConstructor
+public class CommentReactiveService {
+
+    private final CommentReactiveRepository commentReactiveRepository;
+    private final TodoReactiveRepository todoReactiveRepository;
+
+    public Flux<CommentResponse> getComments(long todoId) {
+        return todoReactiveRepository.existsById(todoId)
+                .flatMapMany(exists -> {
+                    if (exists) {
+                        return commentReactiveRepository.findByTodoId(todoId);
+                    }
+                    // To.do 없으면 보관 테이블 확인, 거기에도 없으면 404
+                    return todoReactiveRepository.existsArchivedById(todoId)
+                            .flatMapMany(archived -> archived
+                                    ? commentReactiveRepository.findArchivedByTodoId(todoId)
+                                    : Flux.error(new ResponseStatusException(HttpStatus.NOT_FOUND, "할 일을 찾을 수 없습니다.")));
+                });
+    }
+}
@@ -1,6 +1,9 @@
 package org.example.expert.domain.comment.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.archive.entity.ArchivedComment;
+import org.example.expert.domain.archive.repository.ArchivedCommentRepository;
+import org.example.expert.domain.archive.repository.ArchivedTodoRepository;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
@@ -8,6 +11,7 @@ import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoCounterRepository;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
@@ -25,6 +29,9 @@ public class CommentService {
 
     private final TodoRepository todoRepository;
     private final CommentRepository commentRepository;
+    private final TodoCounterRepository todoCounterRepository;
+    private final ArchivedTodoRepository archivedTodoRepository;
+    private final ArchivedCommentRepository archivedCommentRepository;
 
     @Transactional
     public CommentSaveResponse saveComment(AuthUser authUser, long todoId, CommentSaveRequest commentSaveRequest) {
@@ -41,6 +48,7 @@ public class CommentService {
         );
 
         Comment savedComment = commentRepository.save(newComment);
+        todoCounterRepository.addCommentCount(todoId, 1);
 
         return new CommentSaveResponse(
                 savedComment.getId(),
@@ -51,9 +59,12 @@ public class CommentService {
 
     @Transactional(readOnly = true)
     public List<CommentResponse> getComments(long todoId) {
-        // To.do 없으면 404
+        // To.do 없으면 보관 테이블 확인, 거기에도 없으면 404
         if (!todoRepository.existsById(todoId)) {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "할 일을 찾을 수 없습니다.");
+            if (!archivedTodoRepository.existsById(todoId)) {
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, "할 일을 찾을 수 없습니다.");
+            }
+            return getArchivedComments(todoId);
         }
 
         // 존재하면 댓글 조회 (없으면 빈 리스트 반환 → 200 [])
@@ -70,4 +81,17 @@ public class CommentService {
         }
         return dtoList;
     }
+
+    private List<CommentResponse> getArchivedComments(long todoId) {
+        List<CommentResponse> dtoList = new ArrayList<>();
+        for (ArchivedComment comment : archivedCommentRepository.findByTodoIdWithUser(todoId)) {
+            User user = comment.getUser();
+            dtoList.add(new CommentResponse(
+                    comment.getId(),
+                    comment.getContents(),
+                    new UserResponse(user.getId(), user.getEmail())
+            ));
+        }
+        return dtoList;
+    }
 }
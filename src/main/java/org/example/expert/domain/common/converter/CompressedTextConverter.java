@@ -0,0 +1,131 @@
+package org.example.expert.domain.common.converter;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 긴 텍스트 컬럼 압축 저장
+ * - 형식: MARKER(1바이트) + Base64(raw deflate), 문자열 컬럼 그대로 사용 (스키마/JDBC 경로 변경 없음)
+ * - 쓰기: app.text-compression.enabled=true 이고 min-length자 이상이며 실제로 작아질 때만 압축
+ * - 읽기: MARKER로 시작하는 값만 풀고 나머지(짧은 값, 기존 행)는 그대로 반환 → 설정을 꺼도 기존 압축 행은 읽힘
+ * - 사용자가 보낸 값이 MARKER로 시작하면 압축 여부와 무관하게 MARKER를 하나 더 붙여 저장 (읽을 때 하나 제거)
+ *   → 클라이언트가 압축 형식을 흉내 낸 값을 넣어도 그대로 풀리지 않음
+ * - 압축 해제 결과는 max-inflated-bytes(기본 64KB, TEXT 컬럼 최대 크기)까지만 허용, 넘으면 손상된 값으로 보고 저장된 값 그대로 반환
+ * - Hibernate가 Spring 빈 컨테이너로 생성하므로 @Value 주입 가능
+ * - JDBC로 직접 쓰는 경로(가져오기 등)도 같은 빈을 주입받아 엔티티 매핑과 같은 형식으로 저장
+ */
+@Component
+@Converter
+public class CompressedTextConverter implements AttributeConverter<String, String> {
+
+    // 일반 텍스트에 쓰이지 않는 제어 문자 (US, 0x1F)
+    public static final char MARKER = '\u001F';
+
+    @Value("${app.text-compression.enabled:false}")
+    private boolean enabled = false;
+
+    @Value("${app.text-compression.min-length:1024}")
+    private int minLength = 1024;
+
+    @Value("${app.text-compression.max-inflated-bytes:65535}")
+    private int maxInflatedBytes = 65535;
+
+    public CompressedTextConverter() {
+    }
+
+    public CompressedTextConverter(boolean enabled, int minLength) {
+        this.enabled = enabled;
+        this.minLength = minLength;
+    }
+
+    public CompressedTextConverter(boolean enabled, int minLength, int maxInflatedBytes) {
+        this(enabled, minLength);
+        this.maxInflatedBytes = maxInflatedBytes;
+    }
+
+    // 읽을 때 변환이 필요한 값 (압축 또는 MARKER 이스케이프), SQL로 자른 미리보기를 그대로 쓸 수 없음
+    public static boolean isCompressed(String stored) {
+        return stored != null && !stored.isEmpty() && stored.charAt(0) == MARKER;
+    }
+
+    @Override
+    public String convertToDatabaseColumn(String attribute) {
+        if (attribute == null) {
+            return null;
+        }
+        String plain = isCompressed(attribute) ? MARKER + attribute : attribute;
+        if (!enabled || attribute.length() < minLength) {
+            return plain;
+        }
+        byte[] raw = attribute.getBytes(StandardCharsets.UTF_8);
+        if (raw.length > maxInflatedBytes) {
+            return plain; // 읽을 때 풀 수 없는 크기는 압축하지 않음
+        }
+        String compressed = MARKER + Base64.getEncoder().encodeToString(deflate(raw));
+        // Base64로 늘어난 결과가 원문보다 크면 압축하지 않음
+        return compressed.length() < plain.length() ? compressed : plain;
+    }
+
+    @Override
+    public String convertToEntityAttribute(String dbData) {
+        if (!isCompressed(dbData)) {
+            return dbData;
+        }
+        if (dbData.length() > 1 && dbData.charAt(1) == MARKER) {
+            return dbData.substring(1); // 이스케이프된 평문 (Base64에는 MARKER가 없음)
+        }
+        try {
+            byte[] compressed = Base64.getDecoder().decode(dbData.substring(1));
+            return new String(inflate(compressed, maxInflatedBytes), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException | DataFormatException e) {
+            return dbData; // 형식이 맞지 않거나 허용 크기를 넘는 값(손상/기존 텍스트)은 풀지 않고 그대로 반환
+        }
+    }
+
+    private static byte[] deflate(byte[] input) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED, true);
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, input.length / 2));
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] input, int maxBytes) throws DataFormatException {
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(input);
+            ByteArrayOutputStream out = new ByteArrayOutputStream((int) Math.min(maxBytes, input.length * 3L));
+            byte[] buffer = new byte[8192];
+            while (!inflater.finished()) {
+                int n = inflater.inflate(buffer);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new DataFormatException("truncated deflate stream");
+                }
+                if (out.size() + n > maxBytes) {
+                    throw new DataFormatException("inflated size exceeds " + maxBytes + " bytes");
+                }
+                out.write(buffer, 0, n);
+            }
+            return out.toByteArray();
+        } finally {
+            inflater.end();
+        }
+    }
+}
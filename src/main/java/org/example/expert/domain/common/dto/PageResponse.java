@@ -0,0 +1,51 @@
+package org.example.expert.domain.common.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.Getter;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.web.PagedModel;
+
+import java.util.List;
+
+/**
+ * 페이지 목록 응답 (모든 페이지 번호 방식 목록 API 공통)
+ * - {"items":[...],"page":1,"size":10,"hasNext":true,"total":42}
+ * - total은 전체 건수를 요청(?total=true)했을 때만 포함
+ */
+@Getter
+@JsonPropertyOrder({"items", "page", "size", "hasNext", "total"})
+public class PageResponse<T> {
+
+    private final List<T> items;
+    private final int page;             // 페이지 번호 (1부터)
+    private final int size;             // 요청한 페이지 크기
+    private final boolean hasNext;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Long total;           // 전체 건수 (COUNT 쿼리를 생략했으면 null)
+
+    public PageResponse(List<T> items, int page, int size, boolean hasNext, Long total) {
+        this.items = items;
+        this.page = page;
+        this.size = size;
+        this.hasNext = hasNext;
+        this.total = total;
+    }
+
+    // Page면 전체 건수 포함, Slice면 생략
+    public static <T> PageResponse<T> from(Slice<T> slice) {
+        Long total = slice instanceof Page<T> page ? page.getTotalElements() : null;
+        return new PageResponse<>(slice.getContent(), slice.getNumber() + 1, slice.getSize(), slice.hasNext(), total);
+    }
+
+    // 이전 응답 형식 ({"content":[...],"page":{"size","number","totalElements","totalPages"}})
+    public PagedModel<T> toPagedModel() {
+        PageRequest pageable = PageRequest.of(page - 1, size);
+        long totalElements = total != null ? total : pageable.getOffset() + items.size() + (hasNext ? 1 : 0);
+        return new PagedModel<>(new PageImpl<>(items, pageable, totalElements));
+    }
+}
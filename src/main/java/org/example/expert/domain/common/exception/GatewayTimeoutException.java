@@ -0,0 +1,8 @@
+package org.example.expert.domain.common.exception;
+
+public class GatewayTimeoutException extends RuntimeException {
+
+    public GatewayTimeoutException(String message) {
+        super(message);
+    }
+}
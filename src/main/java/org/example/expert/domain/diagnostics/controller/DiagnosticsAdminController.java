@@ -0,0 +1,43 @@
+package org.example.expert.domain.diagnostics.controller;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.diagnostics.dto.response.QueryStatsResponse;
+import org.example.expert.domain.diagnostics.enums.QuerySortKey;
+import org.example.expert.domain.diagnostics.service.QueryTimingService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * 어드민 진단 API
+ * - 권한 검증: Interceptor
+ */
+@RestController
+@RequiredArgsConstructor
+@Validated
+@RequestMapping("/admin/diagnostics")
+public class DiagnosticsAdminController {
+
+    private final QueryTimingService queryTimingService;
+
+    // SQL 형태별 실행 시간 통계 상위 N개 (sort: total | p99 | count)
+    @GetMapping("/queries")
+    public ResponseEntity<List<QueryStatsResponse>> getQueries(
+            @RequestParam(defaultValue = "total") String sort,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(500) int limit
+    ) {
+        List<QueryStatsResponse> res = queryTimingService.getTopQueries(QuerySortKey.of(sort), limit);
+        return ResponseEntity.ok(res); // 200 OK
+    }
+
+    // 통계 초기화
+    @DeleteMapping("/queries")
+    public ResponseEntity<Void> resetQueries() {
+        queryTimingService.reset();
+        return ResponseEntity.noContent().build(); // 204 No Content
+    }
+}
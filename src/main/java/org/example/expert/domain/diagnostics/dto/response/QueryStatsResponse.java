@@ -0,0 +1,26 @@
+package org.example.expert.domain.diagnostics.dto.response;
+
+import lombok.Getter;
+
+// SQL 형태(바인드 파라미터 제외)별 실행 시간 통계, 시간 단위는 ms
+@Getter
+public class QueryStatsResponse {
+
+    private final String sql;
+    private final long count;
+    private final double totalMs;
+    private final double meanMs;
+    private final double p50Ms;
+    private final double p99Ms;
+    private final double maxMs;
+
+    public QueryStatsResponse(String sql, long count, double totalMs, double meanMs, double p50Ms, double p99Ms, double maxMs) {
+        this.sql = sql;
+        this.count = count;
+        this.totalMs = totalMs;
+        this.meanMs = meanMs;
+        this.p50Ms = p50Ms;
+        this.p99Ms = p99Ms;
+        this.maxMs = maxMs;
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.expert.domain.diagnostics.enums;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+
+// 쿼리 통계 정렬 기준
+public enum QuerySortKey {
+    TOTAL,  // 누적 실행 시간
+    P99,    // 99번째 백분위 실행 시간
+    COUNT;  // 실행 횟수
+
+    public static QuerySortKey of(String raw) {
+        if (raw == null || raw.isBlank()) {
+            throw new InvalidRequestException("유효하지 않은 정렬 기준 (total, p99, count)");
+        }
+        try {
+            return QuerySortKey.valueOf(raw.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("유효하지 않은 정렬 기준 (total, p99, count)");
+        }
+    }
+}
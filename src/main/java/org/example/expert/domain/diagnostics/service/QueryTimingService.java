@@ -0,0 +1,178 @@
+package org.example.expert.domain.diagnostics.service;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.example.expert.domain.diagnostics.dto.response.QueryStatsResponse;
+import org.example.expert.domain.diagnostics.enums.QuerySortKey;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.temporal.TemporalAccessor;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * SQL 실행 시간 수집 (datasource-proxy 리스너, QueryTimingConfig에서 DataSource에 연결)
+ * - SQL 형태별 HdrHistogram(µs)에 실행 시간 기록 → 관리자 API로 상위 N개 조회
+ * - slow-query-ms를 넘은 실행은 바인드 파라미터와 호출한 서비스 메서드를 함께 경고 로그로 남김
+ *   (파라미터는 숫자/날짜/불리언만 값 그대로, 문자열·바이트 등은 비밀번호 해시/이메일/본문일 수 있어 타입과 길이만)
+ * - 형태 수는 max-shapes로 제한, 초과분은 하나의 항목(OTHER_SHAPE)으로 합산
+ */
+@Slf4j
+@Service
+public class QueryTimingService implements QueryExecutionListener {
+
+    static final String OTHER_SHAPE = "(기타)";
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    // IN (?, ?, ?) → IN (?...) : 목록 길이가 달라도 같은 형태로 집계
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)+\\s*\\)");
+
+    private final ThreadLocal<Long> startedAt = new ThreadLocal<>();
+    private final Map<String, ShapeStats> statsBySql = new ConcurrentHashMap<>();
+
+    @Value("${app.diagnostics.slow-query-ms:200}")
+    private long slowQueryMs;
+
+    @Value("${app.diagnostics.max-shapes:500}")
+    private int maxShapes;
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        startedAt.set(System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Long started = startedAt.get();
+        startedAt.remove();
+        if (started == null || queryInfoList.isEmpty()) {
+            return;
+        }
+        long elapsedMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - started);
+
+        // JDBC 배치는 한 번의 실행으로 기록 (첫 문장 기준)
+        String shape = toShape(queryInfoList.get(0).getQuery());
+        statsFor(shape).record(elapsedMicros);
+
+        if (elapsedMicros >= TimeUnit.MILLISECONDS.toMicros(slowQueryMs)) {
+            log.warn("느린 쿼리 {}ms caller={} sql={} params={}",
+                    elapsedMicros / 1000, findCaller(), shape, formatParameters(queryInfoList.get(0)));
+        }
+    }
+
+    // 정렬 기준별 상위 limit개 SQL 형태
+    public List<QueryStatsResponse> getTopQueries(QuerySortKey sortKey, int limit) {
+        Comparator<QueryStatsResponse> comparator = switch (sortKey) {
+            case TOTAL -> Comparator.comparingDouble(QueryStatsResponse::getTotalMs);
+            case P99 -> Comparator.comparingDouble(QueryStatsResponse::getP99Ms);
+            case COUNT -> Comparator.comparingLong(QueryStatsResponse::getCount);
+        };
+        return statsBySql.entrySet().stream()
+                .map(entry -> entry.getValue().toResponse(entry.getKey()))
+                .sorted(comparator.reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    public void reset() {
+        statsBySql.clear();
+    }
+
+    static String toShape(String sql) {
+        String normalized = WHITESPACE.matcher(sql).replaceAll(" ").trim();
+        return IN_LIST.matcher(normalized).replaceAll("(?...)");
+    }
+
+    private ShapeStats statsFor(String shape) {
+        ShapeStats stats = statsBySql.get(shape);
+        if (stats != null) {
+            return stats;
+        }
+        if (statsBySql.size() >= maxShapes) {
+            return statsBySql.computeIfAbsent(OTHER_SHAPE, key -> new ShapeStats());
+        }
+        return statsBySql.computeIfAbsent(shape, key -> new ShapeStats());
+    }
+
+    // 호출 스택에서 가장 가까운 서비스 계층 메서드 (프록시 프레임 제외), 없으면 가장 가까운 애플리케이션 프레임
+    private static String findCaller() {
+        return StackWalker.getInstance().walk(frames -> {
+            List<StackWalker.StackFrame> appFrames = frames
+                    .filter(frame -> frame.getClassName().startsWith("org.example.expert.domain."))
+                    .filter(frame -> !frame.getClassName().contains("$$"))
+                    .filter(frame -> !frame.getClassName().startsWith("org.example.expert.domain.diagnostics."))
+                    .limit(20)
+                    .toList();
+            return appFrames.stream()
+                    .filter(frame -> frame.getClassName().contains(".service."))
+                    .findFirst()
+                    .or(() -> appFrames.stream().findFirst())
+                    .map(frame -> frame.getClassName().substring(frame.getClassName().lastIndexOf('.') + 1)
+                            + "." + frame.getMethodName())
+                    .orElse("unknown");
+        });
+    }
+
+    // [[1=10, 2=String(24)], ...] 형태
+    static String formatParameters(QueryInfo queryInfo) {
+        return queryInfo.getParametersList().stream()
+                .map(parameters -> parameters.stream()
+                        .map(ParameterSetOperation::getArgs)
+                        .map(args -> args[0] + "=" + (args.length > 1 ? redact(args[1]) : ""))
+                        .collect(Collectors.joining(", ", "[", "]")))
+                .collect(Collectors.joining(", ", "[", "]"));
+    }
+
+    // id/LIMIT/기간 조건 등은 그대로, 그 외 값은 내용 없이 타입과 길이만
+    private static String redact(Object value) {
+        if (value == null || value instanceof Number || value instanceof Boolean
+                || value instanceof TemporalAccessor || value instanceof Date) {
+            return String.valueOf(value);
+        }
+        if (value instanceof CharSequence text) {
+            return "String(" + text.length() + ")";
+        }
+        if (value instanceof byte[] bytes) {
+            return "byte[" + bytes.length + "]";
+        }
+        return value.getClass().getSimpleName();
+    }
+
+    private static final class ShapeStats {
+
+        // 유효 숫자 2자리, 범위는 필요에 따라 자동 확장
+        private final ConcurrentHistogram histogram = new ConcurrentHistogram(2);
+        private final LongAdder totalMicros = new LongAdder();
+
+        private void record(long micros) {
+            histogram.recordValue(micros);
+            totalMicros.add(micros);
+        }
+
+        private QueryStatsResponse toResponse(String sql) {
+            Histogram snapshot = histogram.copy();
+            return new QueryStatsResponse(
+                    sql,
+                    snapshot.getTotalCount(),
+                    totalMicros.sum() / 1000.0,
+                    snapshot.getMean() / 1000.0,
+                    snapshot.getValueAtPercentile(50) / 1000.0,
+                    snapshot.getValueAtPercentile(99) / 1000.0,
+                    snapshot.getMaxValue() / 1000.0
+            );
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package org.example.expert.domain.idempotency.dto;
+
+/**
+ * Idempotency-Key로 저장된 요청 기록
+ * - fingerprint: 메서드 + 경로 + 본문의 SHA-256 (같은 키로 다른 요청을 보냈는지 확인)
+ * - response가 null이면 아직 처리 중
+ */
+public record IdempotencyRecord(String fingerprint, StoredResponse response) {
+
+    public boolean isCompleted() {
+        return response != null;
+    }
+}
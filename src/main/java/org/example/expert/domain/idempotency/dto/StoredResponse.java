@@ -0,0 +1,7 @@
+package org.example.expert.domain.idempotency.dto;
+
+/**
+ * 재전송 시 그대로 돌려줄 첫 응답 (상태 코드 + Content-Type + 본문)
+ */
+public record StoredResponse(int status, String contentType, byte[] body) {
+}
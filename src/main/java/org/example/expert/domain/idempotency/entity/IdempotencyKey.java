@@ -0,0 +1,43 @@
+package org.example.expert.domain.idempotency.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Idempotency-Key 응답 저장 테이블 (idempotency_keys, app.idempotency.store=jdbc 일 때 사용)
+ * - id: "사용자 id:키"
+ * - 응답 컬럼(status_code 등)이 비어 있으면 다른 노드에서 처리 중
+ * - token: 선점한 요청의 식별자 (완료/해제/갱신 시 일치해야 반영)
+ * - 읽기/쓰기는 JdbcIdempotencyStore 의 JDBC 경로로만 수행
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "idempotency_keys", indexes = @Index(name = "idx_idempotency_keys_expires_at", columnList = "expires_at"))
+public class IdempotencyKey {
+
+    @Id
+    @Column(length = 300)
+    private String id;
+
+    @Column(nullable = false, length = 64)
+    private String fingerprint;
+
+    @Column(length = 36)
+    private String token;
+
+    @Column(name = "status_code")
+    private Integer statusCode;
+
+    @Column(name = "content_type", length = 100)
+    private String contentType;
+
+    @Lob
+    private byte[] body;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,27 @@
+package org.example.expert.domain.idempotency.repository;
+
+import org.example.expert.domain.idempotency.dto.IdempotencyRecord;
+import org.example.expert.domain.idempotency.dto.StoredResponse;
+
+/**
+ * Idempotency-Key별 첫 응답 저장소 (만료 시간이 지난 기록은 없는 것으로 취급)
+ * - 선점마다 호출 측이 만든 토큰을 함께 저장, 완료/해제/갱신은 토큰이 일치할 때만 반영
+ *   → 선점이 만료돼 다른 요청이 다시 선점한 뒤에는 이전 요청이 기록을 덮어쓰거나 지우지 못함
+ */
+public interface IdempotencyStore {
+
+    // 키를 선점하면 null, 이미 기록이 있으면 그 기록 반환 (응답이 없으면 처리 중)
+    IdempotencyRecord reserve(String key, String fingerprint, String token);
+
+    // 처리 중인 선점의 유효 시간 연장, 선점을 잃었으면 false
+    boolean renew(String key, String token);
+
+    // 선점한 키에 응답 저장, 선점을 잃었으면 저장하지 않고 false
+    boolean complete(String key, String token, StoredResponse response);
+
+    // 처리 실패: 선점 해제 (같은 키로 다시 시도 가능)
+    void release(String key, String token);
+
+    // 만료된 기록 삭제, 삭제 건수 반환
+    int purgeExpired();
+}
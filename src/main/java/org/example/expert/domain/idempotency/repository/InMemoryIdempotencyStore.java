@@ -0,0 +1,140 @@
+package org.example.expert.domain.idempotency.repository;
+
+import org.example.expert.domain.idempotency.dto.IdempotencyRecord;
+import org.example.expert.domain.idempotency.dto.StoredResponse;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.LongSupplier;
+
+/**
+ * 단일 노드용 메모리 저장소
+ * - 최대 maxEntries건, 가득 차면 만료된 기록을 먼저 지우고 그래도 가득 차면 가장 먼저 만료될 완료 기록 제거
+ * - 처리 중인 기록은 제거하지 않음 (중복 실행 방지가 우선)
+ * - TTL이 고정이므로 선점 순서 = 만료 순서 → 선점 순서 큐의 앞에서부터 제거 (전체 탐색 없음, 분할 상환 O(1))
+ * - 처리 중 기록도 TTL 동안 유지되므로 갱신(renew)은 토큰 확인만 함
+ */
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    // 선점 순서 (해제/재선점으로 지도와 달라진 항목은 꺼낼 때 건너뜀)
+    private final ConcurrentLinkedQueue<Reservation> reservations = new ConcurrentLinkedQueue<>();
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final LongSupplier clock;
+
+    public InMemoryIdempotencyStore(Duration ttl, int maxEntries, LongSupplier clock) {
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+    }
+
+    @Override
+    public IdempotencyRecord reserve(String key, String fingerprint, String token) {
+        long now = clock.getAsLong();
+        if (entries.size() >= maxEntries && !entries.containsKey(key)) {
+            makeRoom(now);
+        }
+
+        IdempotencyRecord[] existing = new IdempotencyRecord[1];
+        entries.compute(key, (k, entry) -> {
+            if (entry != null && entry.expiresAt - now > 0) {
+                existing[0] = entry.record;
+                return entry;
+            }
+            return new Entry(new IdempotencyRecord(fingerprint, null), token, now + ttlNanos);
+        });
+        if (existing[0] == null) {
+            reservations.add(new Reservation(key, now + ttlNanos));
+        }
+        return existing[0];
+    }
+
+    @Override
+    public boolean renew(String key, String token) {
+        Entry entry = entries.get(key);
+        return entry != null && entry.isReservedBy(token);
+    }
+
+    @Override
+    public boolean complete(String key, String token, StoredResponse response) {
+        boolean[] completed = new boolean[1];
+        entries.computeIfPresent(key, (k, entry) -> {
+            if (!entry.isReservedBy(token)) {
+                return entry;
+            }
+            completed[0] = true;
+            return new Entry(new IdempotencyRecord(entry.record.fingerprint(), response), token, entry.expiresAt);
+        });
+        return completed[0];
+    }
+
+    @Override
+    public void release(String key, String token) {
+        entries.computeIfPresent(key, (k, entry) -> entry.isReservedBy(token) ? null : entry);
+    }
+
+    @Override
+    public int purgeExpired() {
+        return purgeExpired(clock.getAsLong());
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    // 큐 앞의 만료된 항목만 확인
+    private int purgeExpired(long now) {
+        int purged = 0;
+        Reservation head;
+        while ((head = reservations.peek()) != null && head.expiresAt - now <= 0) {
+            if (reservations.remove(head) && removeIfCurrent(head)) {
+                purged++;
+            }
+        }
+        return purged;
+    }
+
+    // 만료된 기록이 없으면 가장 먼저 만료될 완료 기록 하나 제거, 처리 중인 기록은 큐 뒤로 보냄 (한 바퀴까지만)
+    private void makeRoom(long now) {
+        if (purgeExpired(now) > 0) {
+            return;
+        }
+        int rotated = 0;
+        Reservation head;
+        while ((head = reservations.poll()) != null) {
+            Entry entry = entries.get(head.key);
+            if (entry == null || entry.expiresAt != head.expiresAt) {
+                continue; // 해제됐거나 다시 선점된 키
+            }
+            if (!entry.record.isCompleted()) {
+                reservations.add(head);
+                if (++rotated > entries.size()) {
+                    return; // 한 바퀴 돌았는데 완료 기록 없음
+                }
+                continue;
+            }
+            if (entries.remove(head.key, entry)) {
+                return;
+            }
+        }
+    }
+
+    // 큐 항목이 아직 지도의 현재 기록이면 제거
+    private boolean removeIfCurrent(Reservation reservation) {
+        Entry entry = entries.get(reservation.key);
+        return entry != null && entry.expiresAt == reservation.expiresAt && entries.remove(reservation.key, entry);
+    }
+
+    private record Reservation(String key, long expiresAt) {
+    }
+
+    private record Entry(IdempotencyRecord record, String token, long expiresAt) {
+
+        // 아직 처리 중이고 token이 선점한 요청
+        boolean isReservedBy(String token) {
+            return !record.isCompleted() && this.token.equals(token);
+        }
+    }
+}
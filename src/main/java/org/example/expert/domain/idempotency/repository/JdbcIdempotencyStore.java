@@ -0,0 +1,92 @@
+package org.example.expert.domain.idempotency.repository;
+
+import org.example.expert.domain.idempotency.dto.IdempotencyRecord;
+import org.example.expert.domain.idempotency.dto.StoredResponse;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 여러 노드가 공유하는 DB 저장소 (idempotency_keys)
+ * - 선점은 PK 중복 INSERT 실패로 판단 → 노드가 달라도 한 요청만 실행
+ * - 요청 트랜잭션과 무관하게 문장마다 바로 커밋 (필터에서 호출)
+ * - 선점은 짧은 lease 동안만 유효, 처리 중에는 IdempotencyFilter가 주기적으로 갱신, 응답 저장 시 만료를 ttl로 연장
+ *   → 처리 중 노드가 죽으면 lease 뒤 재시도 가능
+ * - 완료/해제/갱신은 선점 토큰이 일치하는 행만 변경 (lease가 지나 다른 노드가 다시 선점했으면 이전 노드의 결과는 버림)
+ */
+public class JdbcIdempotencyStore implements IdempotencyStore {
+
+    private static final String DELETE_EXPIRED_KEY_SQL = "DELETE FROM idempotency_keys WHERE id = ? AND expires_at <= ?";
+    private static final String INSERT_SQL =
+            "INSERT INTO idempotency_keys (id, fingerprint, token, expires_at) VALUES (?, ?, ?, ?)";
+    private static final String SELECT_SQL =
+            "SELECT fingerprint, status_code, content_type, body FROM idempotency_keys WHERE id = ? AND expires_at > ?";
+    private static final String RENEW_SQL = "UPDATE idempotency_keys SET expires_at = ? "
+            + "WHERE id = ? AND token = ? AND status_code IS NULL";
+    private static final String COMPLETE_SQL = "UPDATE idempotency_keys SET status_code = ?, content_type = ?, body = ?, expires_at = ? "
+            + "WHERE id = ? AND token = ? AND status_code IS NULL";
+    private static final String RELEASE_SQL = "DELETE FROM idempotency_keys WHERE id = ? AND token = ? AND status_code IS NULL";
+    private static final String PURGE_SQL = "DELETE FROM idempotency_keys WHERE expires_at <= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration ttl;
+    private final Duration lease;
+    private final Clock clock;
+
+    public JdbcIdempotencyStore(JdbcTemplate jdbcTemplate, Duration ttl, Duration lease, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.ttl = ttl;
+        this.lease = lease;
+        this.clock = clock;
+    }
+
+    @Override
+    public IdempotencyRecord reserve(String key, String fingerprint, String token) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        jdbcTemplate.update(DELETE_EXPIRED_KEY_SQL, key, Timestamp.valueOf(now));
+        try {
+            jdbcTemplate.update(INSERT_SQL, key, fingerprint, token, Timestamp.valueOf(now.plus(lease)));
+            return null;
+        } catch (DuplicateKeyException e) {
+            // 다른 요청이 먼저 선점
+        }
+
+        List<IdempotencyRecord> records = jdbcTemplate.query(SELECT_SQL, (rs, rowNum) -> {
+            int status = rs.getInt("status_code");
+            StoredResponse response = rs.wasNull()
+                    ? null
+                    : new StoredResponse(status, rs.getString("content_type"), rs.getBytes("body"));
+            return new IdempotencyRecord(rs.getString("fingerprint"), response);
+        }, key, Timestamp.valueOf(now));
+        // 그 사이 선점 해제/만료된 경우: 처리 중으로 보고 클라이언트가 다시 시도하도록 함
+        return records.isEmpty() ? new IdempotencyRecord(fingerprint, null) : records.get(0);
+    }
+
+    @Override
+    public boolean renew(String key, String token) {
+        LocalDateTime expiresAt = LocalDateTime.now(clock).plus(lease);
+        return jdbcTemplate.update(RENEW_SQL, Timestamp.valueOf(expiresAt), key, token) > 0;
+    }
+
+    @Override
+    public boolean complete(String key, String token, StoredResponse response) {
+        LocalDateTime expiresAt = LocalDateTime.now(clock).plus(ttl);
+        return jdbcTemplate.update(COMPLETE_SQL, response.status(), response.contentType(), response.body(),
+                Timestamp.valueOf(expiresAt), key, token) > 0;
+    }
+
+    @Override
+    public void release(String key, String token) {
+        jdbcTemplate.update(RELEASE_SQL, key, token);
+    }
+
+    @Override
+    public int purgeExpired() {
+        return jdbcTemplate.update(PURGE_SQL, Timestamp.valueOf(LocalDateTime.now(clock)));
+    }
+}
@@ -5,7 +5,9 @@ import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.manager.dto.request.ManagerBulkSaveRequest;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
+import org.example.expert.domain.manager.dto.response.ManagerBulkSaveResponse;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
 import org.example.expert.domain.manager.service.ManagerService;
@@ -34,6 +36,17 @@ public class ManagerController {
         return ResponseEntity.status(HttpStatus.CREATED).body(res); // 201 Created
     }
 
+    // 담당자 일괄 등록: id별 처리 결과를 함께 반환
+    @PostMapping("/bulk")
+    public ResponseEntity<ManagerBulkSaveResponse> saveManagers(
+            @Auth AuthUser authUser,
+            @PathVariable @Positive long todoId,
+            @Valid @RequestBody ManagerBulkSaveRequest managerBulkSaveRequest
+    ) {
+        ManagerBulkSaveResponse res = managerService.saveManagers(authUser, todoId, managerBulkSaveRequest);
+        return ResponseEntity.ok(res); // 200 OK (부분 성공 포함)
+    }
+
     @GetMapping
     public ResponseEntity<List<ManagerResponse>> getManagers(@PathVariable @Positive long todoId) {
         List<ManagerResponse> res = managerService.getManagers(todoId);
@@ -0,0 +1,21 @@
+package org.example.expert.domain.manager.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ManagerBulkSaveRequest {
+
+    @NotEmpty
+    @Size(max = 100, message = "한 번에 최대 100명까지 등록할 수 있습니다.")
+    private List<@NotNull @Positive Long> managerUserIds; // 일정 작성자가 배치하는 유저 id 목록
+}
@@ -0,0 +1,34 @@
+package org.example.expert.domain.manager.dto.response;
+
+import lombok.Getter;
+import org.example.expert.domain.manager.enums.ManagerAssignStatus;
+
+import java.util.List;
+
+@Getter
+public class ManagerBulkSaveResponse {
+
+    private final int assignedCount;
+    private final List<Result> results; // 요청한 id 순서대로의 처리 결과
+
+    public ManagerBulkSaveResponse(List<Result> results) {
+        this.assignedCount = (int) results.stream()
+                .filter(r -> r.getStatus() == ManagerAssignStatus.ASSIGNED)
+                .count();
+        this.results = results;
+    }
+
+    @Getter
+    public static class Result {
+
+        private final Long userId;
+        private final Long managerId;   // ASSIGNED / ALREADY_ASSIGNED 인 경우에만 존재
+        private final ManagerAssignStatus status;
+
+        public Result(Long userId, Long managerId, ManagerAssignStatus status) {
+            this.userId = userId;
+            this.managerId = managerId;
+            this.status = status;
+        }
+    }
+}
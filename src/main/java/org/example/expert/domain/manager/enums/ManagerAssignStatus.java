@@ -0,0 +1,9 @@
+package org.example.expert.domain.manager.enums;
+
+public enum ManagerAssignStatus {
+    ASSIGNED,           // 새로 담당자로 등록됨
+    ALREADY_ASSIGNED,   // 이미 해당 일정의 담당자
+    DUPLICATE,          // 같은 요청 안에서 중복된 id
+    SELF,               // 일정 작성자 본인
+    USER_NOT_FOUND      // 존재하지 않는 유저
+}
@@ -0,0 +1,32 @@
+package org.example.expert.domain.manager.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 담당자 대량 등록 전용 리포지토리
+ * - Manager는 IDENTITY 전략이라 JPA saveAll()로는 JDBC 배치가 동작하지 않음
+ * - JdbcTemplate으로 INSERT를 하나의 배치로 묶어 전송 (현재 트랜잭션의 커넥션을 그대로 사용)
+ * - MySQL은 rewriteBatchedStatements=true 설정 시 multi-row INSERT로 재작성됨
+ */
+@Repository
+@RequiredArgsConstructor
+public class ManagerBulkRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO managers (user_id, todo_id) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void batchInsert(long todoId, List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, userIds, userIds.size(), (ps, userId) -> {
+            ps.setLong(1, userId);
+            ps.setLong(2, todoId);
+        });
+    }
+}
@@ -2,12 +2,27 @@ package org.example.expert.domain.manager.repository;
 
 import org.example.expert.domain.manager.entity.Manager;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ManagerRepository extends JpaRepository<Manager, Long> {
     @Query("SELECT m FROM Manager m JOIN FETCH m.user WHERE m.todo.id = :todoId")
     List<Manager> findByTodoIdWithUser(@Param("todoId") Long todoId);
+
+    // 특정 일정에 이미 등록된 담당자들의 유저 id만 조회 (엔티티 로딩 없음)
+    @Query("SELECT m.user.id FROM Manager m WHERE m.todo.id = :todoId")
+    List<Long> findUserIdsByTodoId(@Param("todoId") Long todoId);
+
+    // 특정 일정의 담당자 중 주어진 유저 id에 해당하는 담당자 조회
+    @Query("SELECT m FROM Manager m WHERE m.todo.id = :todoId AND m.user.id IN :userIds")
+    List<Manager> findByTodoIdAndUserIdIn(@Param("todoId") Long todoId, @Param("userIds") Collection<Long> userIds);
+
+    // 할 일에 등록된 담당자 일괄 삭제
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM Manager m WHERE m.todo.id IN :todoIds")
+    int deleteAllByTodoIdIn(@Param("todoIds") Collection<Long> todoIds);
 }
@@ -1,14 +1,22 @@
 package org.example.expert.domain.manager.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.archive.entity.ArchivedManager;
+import org.example.expert.domain.archive.repository.ArchivedManagerRepository;
+import org.example.expert.domain.archive.repository.ArchivedTodoRepository;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.dto.request.ManagerBulkSaveRequest;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
+import org.example.expert.domain.manager.dto.response.ManagerBulkSaveResponse;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
 import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.enums.ManagerAssignStatus;
+import org.example.expert.domain.manager.repository.ManagerBulkRepository;
 import org.example.expert.domain.manager.repository.ManagerRepository;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoCounterRepository;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
@@ -18,7 +26,13 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.ObjectUtils;
 
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -27,6 +41,10 @@ public class ManagerService {
     private final ManagerRepository managerRepository;
     private final UserRepository userRepository;
     private final TodoRepository todoRepository;
+    private final ManagerBulkRepository managerBulkRepository;
+    private final TodoCounterRepository todoCounterRepository;
+    private final ArchivedTodoRepository archivedTodoRepository;
+    private final ArchivedManagerRepository archivedManagerRepository;
 
     @Transactional
     public ManagerSaveResponse saveManager(AuthUser authUser, long todoId, ManagerSaveRequest managerSaveRequest) {
@@ -50,6 +68,7 @@ public class ManagerService {
 
         Manager newManagerUser = new Manager(managerUser, todo);
         Manager savedManagerUser = managerRepository.save(newManagerUser);
+        todoCounterRepository.addManagerCount(todoId, 1);
 
         return new ManagerSaveResponse(
                 savedManagerUser.getId(),
@@ -57,12 +76,95 @@ public class ManagerService {
         );
     }
 
-    @Transactional(readOnly = true)
-    public List<ManagerResponse> getManagers(long todoId) {
+    /**
+     * 담당자 일괄 등록
+     * - 일정 작성자 검증은 한 번만 수행
+     * - 등록 대상 유저는 IN 쿼리 한 번으로 조회, 이미 등록된 담당자/요청 내 중복은 건너뜀
+     * - 신규 담당자는 하나의 JDBC 배치로 INSERT 후, id별 처리 결과를 요청 순서대로 반환
+     */
+    @Transactional
+    public ManagerBulkSaveResponse saveManagers(AuthUser authUser, long todoId, ManagerBulkSaveRequest managerBulkSaveRequest) {
+        // 일정을 만든 유저
+        User user = User.fromAuthUser(authUser);
         Todo todo = todoRepository.findById(todoId)
                 .orElseThrow(() -> new InvalidRequestException("Todo not found"));
 
-        List<Manager> managerList = managerRepository.findByTodoIdWithUser(todo.getId());
+        User todoOwner = todo.getUser();
+        if (todoOwner == null || !ObjectUtils.nullSafeEquals(user.getId(), todoOwner.getId())) {
+            throw new InvalidRequestException("담당자를 등록하려고 하는 유저가 일정을 만든 유저가 유효하지 않습니다.");
+        }
+
+        List<Long> requestedIds = managerBulkSaveRequest.getManagerUserIds();
+
+        // 등록 대상 유저를 IN 쿼리 한 번으로 조회
+        Set<Long> existingUserIds = userRepository.findAllById(new LinkedHashSet<>(requestedIds)).stream()
+                .map(User::getId)
+                .collect(Collectors.toSet());
+
+        // 이미 이 일정의 담당자로 등록된 유저 id
+        Set<Long> assignedUserIds = new HashSet<>(managerRepository.findUserIdsByTodoId(todoId));
+
+        // 요청 순서대로 상태를 판정하고, 신규 등록 대상만 모음
+        Set<Long> seen = new HashSet<>();
+        List<ManagerAssignStatus> statuses = new ArrayList<>(requestedIds.size());
+        List<Long> toInsert = new ArrayList<>();
+        for (Long userId : requestedIds) {
+            ManagerAssignStatus status;
+            if (!seen.add(userId)) {
+                status = ManagerAssignStatus.DUPLICATE;
+            } else if (ObjectUtils.nullSafeEquals(user.getId(), userId)) {
+                status = ManagerAssignStatus.SELF;
+            } else if (!existingUserIds.contains(userId)) {
+                status = ManagerAssignStatus.USER_NOT_FOUND;
+            } else if (assignedUserIds.contains(userId)) {
+                status = ManagerAssignStatus.ALREADY_ASSIGNED;
+            } else {
+                status = ManagerAssignStatus.ASSIGNED;
+                toInsert.add(userId);
+            }
+            statuses.add(status);
+        }
+
+        managerBulkRepository.batchInsert(todo.getId(), toInsert);
+        todoCounterRepository.addManagerCount(todoId, toInsert.size());
+
+        // 응답에 담을 담당자 id를 한 번에 조회 (신규 + 기존 등록 대상)
+        Set<Long> lookupIds = new HashSet<>(toInsert);
+        for (int i = 0; i < requestedIds.size(); i++) {
+            if (statuses.get(i) == ManagerAssignStatus.ALREADY_ASSIGNED) {
+                lookupIds.add(requestedIds.get(i));
+            }
+        }
+        Map<Long, Long> managerIdByUserId = lookupIds.isEmpty()
+                ? Map.of()
+                : managerRepository.findByTodoIdAndUserIdIn(todo.getId(), lookupIds).stream()
+                        .collect(Collectors.toMap(m -> m.getUser().getId(), Manager::getId, (a, b) -> a));
+
+        List<ManagerBulkSaveResponse.Result> results = new ArrayList<>(requestedIds.size());
+        for (int i = 0; i < requestedIds.size(); i++) {
+            Long userId = requestedIds.get(i);
+            ManagerAssignStatus status = statuses.get(i);
+            Long managerId = (status == ManagerAssignStatus.ASSIGNED || status == ManagerAssignStatus.ALREADY_ASSIGNED)
+                    ? managerIdByUserId.get(userId)
+                    : null;
+            results.add(new ManagerBulkSaveResponse.Result(userId, managerId, status));
+        }
+        return new ManagerBulkSaveResponse(results);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ManagerResponse> getManagers(long todoId) {
+        Optional<Todo> todo = todoRepository.findById(todoId);
+
+        // 운영 테이블에 없으면 보관 테이블 확인
+        if (todo.isEmpty()) {
+            if (!archivedTodoRepository.existsById(todoId)) {
+                throw new InvalidRequestException("Todo not found");
+            }
+            return getArchivedManagers(todoId);
+        }
+
+        List<Manager> managerList = managerRepository.findByTodoIdWithUser(todo.get().getId());
 
         List<ManagerResponse> dtoList = new ArrayList<>();
         for (Manager manager : managerList) {
@@ -95,5 +197,18 @@ public class ManagerService {
         }
 
         managerRepository.delete(manager);
+        todoCounterRepository.addManagerCount(todoId, -1);
+    }
+
+    private List<ManagerResponse> getArchivedManagers(long todoId) {
+        List<ManagerResponse> dtoList = new ArrayList<>();
+        for (ArchivedManager manager : archivedManagerRepository.findByTodoIdWithUser(todoId)) {
+            User user = manager.getUser();
+            dtoList.add(new ManagerResponse(
+                    manager.getId(),
+                    new UserResponse(user.getId(), user.getEmail())
+            ));
+        }
+        return dtoList;
     }
 }
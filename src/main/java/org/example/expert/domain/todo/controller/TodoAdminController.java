@@ -0,0 +1,58 @@
+package org.example.expert.domain.todo.controller;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.todo.dto.request.TodoBulkDeleteRequest;
+import org.example.expert.domain.todo.dto.response.TodoBulkDeleteResponse;
+import org.example.expert.domain.todo.dto.response.TodoImportResponse;
+import org.example.expert.domain.todo.service.TodoAdminService;
+import org.example.expert.domain.todo.service.TodoImportService;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 어드민 할 일 API
+ * - 권한 검증/접근 로깅: Interceptor/AOP
+ */
+@RestController
+@RequiredArgsConstructor
+@Validated
+@RequestMapping("/admin/todos")
+public class TodoAdminController {
+
+    private final TodoAdminService todoAdminService;
+    private final TodoImportService todoImportService;
+
+    // 할 일 일괄 삭제 (댓글/담당자 포함)
+    @PostMapping("/bulk-delete")
+    public ResponseEntity<TodoBulkDeleteResponse> deleteTodos(@Valid @RequestBody TodoBulkDeleteRequest todoBulkDeleteRequest) {
+        TodoBulkDeleteResponse res = todoAdminService.deleteTodos(todoBulkDeleteRequest);
+        return ResponseEntity.ok(res); // 200 OK
+    }
+
+    // 할 일 전체 내보내기 (NDJSON 스트리밍, 건수와 무관하게 일정한 메모리 사용)
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportTodos() {
+        StreamingResponseBody body = todoAdminService::exportTodos;
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename("todos.ndjson").build().toString())
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body); // 200 OK
+    }
+
+    // 할 일 대량 가져오기 (NDJSON 본문을 한 줄씩 읽어 배치 INSERT, 줄별 실패 사유 반환)
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<TodoImportResponse> importTodos(InputStream body) throws IOException {
+        TodoImportResponse res = todoImportService.importTodos(body);
+        return ResponseEntity.ok(res); // 200 OK
+    }
+}
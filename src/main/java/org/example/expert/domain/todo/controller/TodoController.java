@@ -3,20 +3,35 @@ package org.example.expert.domain.todo.controller;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
+import org.example.expert.config.PageFormat;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.PageResponse;
+import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoUpdateRequest;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoScrollResponse;
+import org.example.expert.domain.todo.dto.response.TodoSummaryResponse;
+import org.example.expert.domain.todo.enums.TodoView;
+import org.example.expert.domain.todo.service.TodoAsyncService;
 import org.example.expert.domain.todo.service.TodoService;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * To.do 관련 API 컨트롤러
  * - 전역 예외 처리(GlobalExceptionHandler)로 에러 응답 표준화
@@ -29,6 +44,8 @@ import org.springframework.web.bind.annotation.*;
 public class TodoController {
 
     private final TodoService todoService;
+    private final TodoAsyncService todoAsyncService;
+    private final PageFormat pageFormat;
 
     // To.do 생성
     @PostMapping
@@ -42,22 +59,119 @@ public class TodoController {
         return ResponseEntity.status(HttpStatus.CREATED).body(res);
     }
 
-    // To.do 목록 조회 (페이징 처리)
+    // To.do 생성 (비동기: 날씨 조회 동안 요청 스레드를 반환, 제한 시간 초과 시 504)
+    @PostMapping("/async")
+    public CompletableFuture<ResponseEntity<TodoSaveResponse>> saveTodoAsync(
+            @Auth AuthUser authUser,
+            @Valid @RequestBody TodoSaveRequest todoSaveRequest
+    ) {
+        return todoAsyncService.saveTodo(authUser, todoSaveRequest)
+                .thenApply(res -> ResponseEntity.status(HttpStatus.CREATED).body(res)); // 201 Created
+    }
+
+    // To.do 목록 조회 (페이징 처리, 날씨/수정일 범위 조건 선택)
+    // 기본은 본문 미리보기만 반환(summary), 본문 전체는 view=full 또는 이전 응답 형식(legacy)에서만 (본문 IN 조회가 추가됨)
     @GetMapping
-    public ResponseEntity<Page<TodoResponse>> getTodos(
+    public ResponseEntity<PageResponse<?>> getTodos(
             @RequestParam(defaultValue = "1") @Min(1) int page,     // 페이지 번호(1 이상)
-            @RequestParam(defaultValue = "10") @Min(1) @Max(100) int size     // 페이지 크기(1~100)
+            @RequestParam(defaultValue = "10") @Min(1) @Max(100) int size,    // 페이지 크기(1~100)
+            @RequestParam(required = false) String weather,         // 날씨 일치
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,  // 수정일 시작(포함)
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,    // 수정일 끝(포함)
+            @RequestParam(defaultValue = "false") boolean includeArchived,  // 보관된 할 일 포함 여부
+            @RequestParam(required = false) String view,                    // 응답 형태(summary | full), 없으면 summary (legacy 형식이면 full)
+            @RequestParam(defaultValue = "false") boolean total,            // 전체 건수 포함 여부(false면 COUNT 쿼리 생략)
+            @RequestHeader(value = PageFormat.HEADER, required = false) String pageFormat  // legacy면 이전 응답 형식
     ) {
+        // 이전 형식은 totalElements/totalPages를 포함하므로 전체 건수 필요
+        boolean legacy = this.pageFormat.isLegacy(pageFormat);
+        boolean withTotal = total || legacy;
+        TodoView todoView = view != null ? TodoView.of(view) : (legacy ? TodoView.FULL : TodoView.SUMMARY);
+
+        if (todoView == TodoView.SUMMARY) {
+            Slice<TodoSummaryResponse> res = withTotal
+                    ? todoService.getTodoSummaries(page, size, weather, from, to, includeArchived)
+                    : todoService.getTodoSummarySlice(page, size, weather, from, to, includeArchived);
+            return ResponseEntity.ok(PageResponse.from(res)); // 200 OK
+        }
         // TodoService에서 @EntityGraph 기반 메서드를 호출하여, N+1 문제를 해결한 To.do 목록 반환
-        Page<TodoResponse> res = todoService.getTodos(page, size);
+        Slice<TodoResponse> res = withTotal
+                ? todoService.getTodos(page, size, weather, from, to, includeArchived)
+                : todoService.getTodoSlice(page, size, weather, from, to, includeArchived);
+        return ResponseEntity.ok(PageResponse.from(res)); // 200 OK
+    }
+
+    // To.do 목록 조회 (키셋 방식, 응답의 nextCursor를 다음 요청의 cursor로 전달, 본문은 미리보기만)
+    @GetMapping("/scroll")
+    public ResponseEntity<TodoScrollResponse> scrollTodos(
+            @RequestParam(required = false) String weather,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(100) int size,
+            @RequestParam(defaultValue = "false") boolean includeArchived
+    ) {
+        TodoScrollResponse res = todoService.scrollTodos(weather, from, to, cursor, size, includeArchived);
         return ResponseEntity.ok(res); // 200 OK
     }
 
-    // To.do 단건 조회
+    // To.do 검색 (제목/내용, 관련도 + 최신도 순 상위 size개, 본문은 미리보기만)
+    @GetMapping("/search")
+    public ResponseEntity<List<TodoSummaryResponse>> searchTodos(
+            @RequestParam @NotBlank String q,                               // 검색어(공백/특수문자로 단어 분리)
+            @RequestParam(defaultValue = "10") @Min(1) @Max(50) int size     // 결과 수(1~50)
+    ) {
+        List<TodoSummaryResponse> res = todoService.searchTodos(q, size);
+        return ResponseEntity.ok(res); // 200 OK
+    }
+
+    // To.do 단건 조회 (전체 본문 포함, 보관된 할 일도 조회 가능)
     @GetMapping("/{todoId}")
     public ResponseEntity<TodoResponse> getTodo(@PathVariable @Positive long todoId) { // 양수 ID 검증
         // TodoService에서 @EntityGraph 기반 메서드를 호출하여, 단건 조회 시 연관된 User도 즉시 로딩하여 반환
         TodoResponse res = todoService.getTodo(todoId);
-        return ResponseEntity.ok(res); // 200 OK
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (res.getVersion() != null) {
+            builder.eTag(String.valueOf(res.getVersion())); // PATCH 시 If-Match로 사용할 버전
+        }
+        return builder.body(res); // 200 OK
+    }
+
+    // To.do 부분 수정 (If-Match로 전달된 버전이 일치할 때만 반영, 보관된 할 일은 읽기 전용이라 409)
+    @PatchMapping("/{todoId}")
+    public ResponseEntity<TodoResponse> updateTodo(
+            @Auth AuthUser authUser,
+            @PathVariable @Positive long todoId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Valid @RequestBody TodoUpdateRequest todoUpdateRequest
+    ) {
+        TodoResponse res = todoService.updateTodo(authUser, todoId, parseVersion(ifMatch), todoUpdateRequest);
+        return ResponseEntity.ok().eTag(String.valueOf(res.getVersion())).body(res); // 200 OK + 새 ETag
+    }
+
+    // To.do 삭제 (댓글/담당자 포함, 작성자만 가능, 보관된 할 일은 보관 테이블에서 삭제)
+    @DeleteMapping("/{todoId}")
+    public ResponseEntity<Void> deleteTodo(
+            @Auth AuthUser authUser,
+            @PathVariable @Positive long todoId
+    ) {
+        todoService.deleteTodo(authUser, todoId);
+        return ResponseEntity.noContent().build(); // 204 No Content
+    }
+
+    // If-Match: "3" 또는 W/"3" → 3
+    private long parseVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            throw new InvalidRequestException("If-Match 헤더가 필요합니다.");
+        }
+        String value = ifMatch.trim();
+        if (value.startsWith("W/")) {
+            value = value.substring(2);
+        }
+        try {
+            return Long.parseLong(value.replace("\"", ""));
+        } catch (NumberFormatException e) {
+            throw new InvalidRequestException("If-Match 헤더 형식이 올바르지 않습니다.");
+        }
     }
 }
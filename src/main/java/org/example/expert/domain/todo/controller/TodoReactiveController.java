@@ -0,0 +1,62 @@
+package org.example.expert.domain.todo.controller;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Positive;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.config.PageFormat;
+import org.example.expert.domain.common.dto.PageResponse;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.service.TodoReactiveService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+/**
+ * To.do 논블로킹 조회 API (/rx/todos)
+ * - MVC 컨트롤러와 나란히 동작, Mono 반환 → 조회가 끝날 때까지 요청 스레드를 점유하지 않음 (서블릿 비동기 처리)
+ * - 응답 형식은 GET /todos, GET /todos/{todoId}와 동일
+ * - 한계: 응답 쓰기는 서블릿 컨테이너 스레드가 블로킹 I/O로 수행 → 느린 클라이언트에게 쓰는 동안은 스레드를 점유함
+ *   (DB 대기만 스레드 없이 처리, "적은 고정 스레드로 느린 클라이언트 다수 처리"는 WebFlux/Netty 분리 전까지 미달성, 측정하지 않음)
+ */
+@RestController
+@RequiredArgsConstructor
+@Validated
+@RequestMapping("/rx/todos")
+public class TodoReactiveController {
+
+    private final TodoReactiveService todoReactiveService;
+    private final PageFormat pageFormat;
+
+    // To.do 목록 조회 (페이징 처리, 날씨/수정일 범위 조건 선택)
+    @GetMapping
+    public Mono<PageResponse<TodoResponse>> getTodos(
+            @RequestParam(defaultValue = "1") @Min(1) int page,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(100) int size,
+            @RequestParam(required = false) String weather,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "false") boolean total,
+            @RequestHeader(value = PageFormat.HEADER, required = false) String pageFormat
+    ) {
+        boolean withTotal = total || this.pageFormat.isLegacy(pageFormat);
+        return todoReactiveService.getTodos(page, size, weather, from, to, withTotal).map(PageResponse::from);
+    }
+
+    // To.do 단건 조회 (보관된 할 일도 조회 가능)
+    @GetMapping("/{todoId}")
+    public Mono<ResponseEntity<TodoResponse>> getTodo(@PathVariable @Positive long todoId) {
+        return todoReactiveService.getTodo(todoId)
+                .map(res -> {
+                    ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+                    if (res.getVersion() != null) {
+                        builder.eTag(String.valueOf(res.getVersion())); // PATCH 시 If-Match로 사용할 버전
+                    }
+                    return builder.body(res); // 200 OK
+                });
+    }
+}
@@ -0,0 +1,30 @@
+package org.example.expert.domain.todo.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 가져오기(NDJSON) 한 줄 = 할 일 한 건
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoImportLine {
+
+    @NotBlank
+    private String title;
+    @NotBlank
+    private String contents;
+    @NotNull
+    @Positive
+    private Long userId;             // 작성자 (담당자로도 함께 등록)
+    @Size(max = 50)
+    private String weather;          // 없으면 createdAt 날짜 기준 날씨 스냅샷 사용 (weathers.name 길이 제한)
+    private LocalDateTime createdAt; // 없으면 가져온 시각
+    private LocalDateTime modifiedAt;
+}
@@ -0,0 +1,24 @@
+package org.example.expert.domain.todo.dto.request;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 부분 수정 요청: null인 필드는 변경하지 않음
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoUpdateRequest {
+
+    @Pattern(regexp = "(?s).*\\S.*", message = "제목은 공백일 수 없습니다.")
+    private String title;
+    @Pattern(regexp = "(?s).*\\S.*", message = "내용은 공백일 수 없습니다.")
+    private String contents;
+
+    @AssertTrue(message = "수정할 값을 하나 이상 입력해 주세요.")
+    public boolean isUpdatable() {
+        return title != null || contents != null;
+    }
+}
@@ -0,0 +1,13 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class TodoBulkDeleteResponse {
+
+    private final int deletedCount;
+
+    public TodoBulkDeleteResponse(int deletedCount) {
+        this.deletedCount = deletedCount;
+    }
+}
@@ -0,0 +1,33 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 내보내기(NDJSON) 한 줄 = 할 일 한 건 (JPQL 생성자 프로젝션, 엔티티를 영속성 컨텍스트에 올리지 않음)
+@Getter
+public class TodoExportRow {
+
+    private final Long id;
+    private final String title;
+    private final String contents;
+    private final String weather;
+    private final Long userId;
+    private final int commentCount;
+    private final int managerCount;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime modifiedAt;
+
+    public TodoExportRow(Long id, String title, String contents, String weather, Long userId,
+                         int commentCount, int managerCount, LocalDateTime createdAt, LocalDateTime modifiedAt) {
+        this.id = id;
+        this.title = title;
+        this.contents = contents;
+        this.weather = weather;
+        this.userId = userId;
+        this.commentCount = commentCount;
+        this.managerCount = managerCount;
+        this.createdAt = createdAt;
+        this.modifiedAt = modifiedAt;
+    }
+}
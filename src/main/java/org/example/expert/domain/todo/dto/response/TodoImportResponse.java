@@ -0,0 +1,36 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class TodoImportResponse {
+
+    private final long totalLines;      // 빈 줄을 제외한 처리 대상 줄 수
+    private final long importedCount;
+    private final long failedCount;
+    private final List<LineError> errors;   // 최대 app.todo.import.max-reported-errors 건
+    private final boolean errorsTruncated;
+
+    public TodoImportResponse(long totalLines, long importedCount, long failedCount,
+                              List<LineError> errors, boolean errorsTruncated) {
+        this.totalLines = totalLines;
+        this.importedCount = importedCount;
+        this.failedCount = failedCount;
+        this.errors = errors;
+        this.errorsTruncated = errorsTruncated;
+    }
+
+    @Getter
+    public static class LineError {
+
+        private final long line;        // 1부터 시작하는 줄 번호
+        private final String message;
+
+        public LineError(long line, String message) {
+            this.line = line;
+            this.message = message;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class TodoScrollResponse {
+
+    private final List<TodoSummaryResponse> items;    // 본문은 미리보기만 (전체 본문은 단건 조회)
+    private final String nextCursor;    // 다음 페이지 요청 시 cursor 값 (마지막 페이지면 null)
+
+    public TodoScrollResponse(List<TodoSummaryResponse> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+}
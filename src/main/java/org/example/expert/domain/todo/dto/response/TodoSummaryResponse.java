@@ -0,0 +1,37 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+import org.example.expert.domain.user.dto.response.UserResponse;
+
+import java.time.LocalDateTime;
+
+// 목록 요약 응답 (본문 대신 앞부분 미리보기, 전체 본문은 단건 조회로 확인)
+@Getter
+public class TodoSummaryResponse {
+
+    private final Long id;
+    private final String title;
+    private final String preview;
+    private final boolean contentsTruncated;
+    private final String weather;
+    private final UserResponse user;
+    private final Long version;
+    private final int commentCount;
+    private final int managerCount;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime modifiedAt;
+
+    public TodoSummaryResponse(Long id, String title, String preview, boolean contentsTruncated, String weather, UserResponse user, Long version, int commentCount, int managerCount, LocalDateTime createdAt, LocalDateTime modifiedAt) {
+        this.id = id;
+        this.title = title;
+        this.preview = preview;
+        this.contentsTruncated = contentsTruncated;
+        this.weather = weather;
+        this.user = user;
+        this.version = version;
+        this.commentCount = commentCount;
+        this.managerCount = managerCount;
+        this.createdAt = createdAt;
+        this.modifiedAt = modifiedAt;
+    }
+}
@@ -4,9 +4,14 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.common.converter.CompressedTextConverter;
 import org.example.expert.domain.common.entity.Timestamped;
 import org.example.expert.domain.manager.entity.Manager;
 import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.weather.converter.WeatherCodeConverter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -14,15 +19,45 @@ import java.util.List;
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "todos")
+@Table(name = "todos", indexes = {
+        // 날씨 + 기간 조건 목록 조회 (정렬까지 인덱스로 처리)
+        @Index(name = "idx_todos_weather_modified_at", columnList = "weather_code, modified_at, id"),
+        // 기간 조건/전체 최신순 목록 조회
+        @Index(name = "idx_todos_modified_at", columnList = "modified_at, id")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Todo extends Timestamped {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     private String title;
+
+    // 본문은 수십 KB까지 커질 수 있어 목록 조회에서 제외, 접근 시 별도 SELECT (바이트코드 향상 필요)
+    @Basic(fetch = FetchType.LAZY)
+    @Convert(converter = CompressedTextConverter.class)
     private String contents;
+
+    // weathers 사전 코드(SMALLINT)로 저장, 읽을 때는 사전의 공유 문자열 인스턴스
+    @Convert(converter = WeatherCodeConverter.class)
+    @Column(name = "weather_code")
     private String weather;
 
+    // 댓글/담당자 수 (TodoCounterRepository의 원자적 UPDATE로만 변경, 엔티티 UPDATE에서는 제외)
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private int commentCount;
+
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private int managerCount;
+
+    // 낙관적 동시성 제어용 버전 (PATCH의 If-Match/ETag 값), 컬럼 추가 전 행은 TodoVersionBackfill이 0으로 채움
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
@@ -38,7 +73,12 @@ public class Todo extends Timestamped {
         this.contents = contents;
         this.weather = weather;
         this.user = user;
-        this.managers.add(new Manager(user, this));
+        // 바이트코드 향상(연관관계 관리) 적용 시 Manager 생성자에서 이미 추가되므로 중복 추가하지 않음
+        Manager owner = new Manager(user, this);
+        if (!this.managers.contains(owner)) {
+            this.managers.add(owner);
+        }
+        this.managerCount = 1; // 작성자는 담당자로 함께 저장됨
     }
 
     public void update(String title, String contents) {
@@ -0,0 +1,20 @@
+package org.example.expert.domain.todo.enums;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+
+// 목록 응답 형태
+public enum TodoView {
+    FULL,       // 본문 전체 포함 (TodoResponse)
+    SUMMARY;    // 본문 미리보기만 포함 (TodoSummaryResponse)
+
+    public static TodoView of(String raw) {
+        if (raw == null || raw.isBlank()) {
+            throw new InvalidRequestException("유효하지 않은 view (full, summary)");
+        }
+        try {
+            return TodoView.valueOf(raw.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("유효하지 않은 view (full, summary)");
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package org.example.expert.domain.todo.event;
+
+import lombok.Getter;
+
+import java.util.Collection;
+
+// 벌크 DELETE로 할 일이 삭제된 경우 발행
+@Getter
+public class TodosDeletedEvent {
+
+    private final Collection<Long> todoIds;
+
+    public TodosDeletedEvent(Collection<Long> todoIds) {
+        this.todoIds = todoIds;
+    }
+}
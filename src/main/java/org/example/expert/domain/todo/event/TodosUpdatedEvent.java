@@ -0,0 +1,16 @@
+package org.example.expert.domain.todo.event;
+
+import lombok.Getter;
+
+import java.util.Collection;
+
+// JPQL/Criteria 벌크 UPDATE처럼 엔티티 이벤트가 발생하지 않는 수정 경로에서 발행
+@Getter
+public class TodosUpdatedEvent {
+
+    private final Collection<Long> todoIds;
+
+    public TodosUpdatedEvent(Collection<Long> todoIds) {
+        this.todoIds = todoIds;
+    }
+}
@@ -0,0 +1,29 @@
+package org.example.expert.domain.todo.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.expert.domain.todo.entity.Todo;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Hibernate를 거치지 않는 todos UPDATE(JdbcTemplate) 후 해당 Todo의 2차 캐시 항목만 제거
+ * - 트랜잭션 중에 제거하면 커밋 전에 다른 요청이 이전 값을 다시 캐시할 수 있으므로 커밋 후 제거
+ */
+final class TodoCacheEviction {
+
+    private TodoCacheEviction() {
+    }
+
+    static void evictAfterCommit(EntityManagerFactory entityManagerFactory, long todoId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            entityManagerFactory.getCache().evict(Todo.class, todoId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                entityManagerFactory.getCache().evict(Todo.class, todoId);
+            }
+        });
+    }
+}
@@ -0,0 +1,64 @@
+package org.example.expert.domain.todo.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.todo.entity.Todo;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * todos.comment_count / manager_count 카운터 전용 리포지토리
+ * - SET count = count + ? 형태의 단일 UPDATE로 증감 → 동시 요청에서도 갱신 유실 없음
+ * - Hibernate를 거치지 않으므로 커밋 후 해당 Todo의 2차 캐시 항목을 직접 제거
+ */
+@Repository
+@RequiredArgsConstructor
+public class TodoCounterRepository {
+
+    private static final String ADD_COMMENT_COUNT_SQL =
+            "UPDATE todos SET comment_count = comment_count + ? WHERE id = ?";
+    private static final String ADD_MANAGER_COUNT_SQL =
+            "UPDATE todos SET manager_count = manager_count + ? WHERE id = ?";
+
+    // 실제 행 수와 다른 카운터만 id 구간 단위로 보정
+    private static final String RECONCILE_SQL = """
+            UPDATE todos t
+            SET comment_count = (SELECT COUNT(*) FROM comments c WHERE c.todo_id = t.id AND c.deleted_at IS NULL),
+                manager_count = (SELECT COUNT(*) FROM managers m WHERE m.todo_id = t.id)
+            WHERE t.id >= ? AND t.id < ?
+              AND (t.comment_count <> (SELECT COUNT(*) FROM comments c WHERE c.todo_id = t.id AND c.deleted_at IS NULL)
+                OR t.manager_count <> (SELECT COUNT(*) FROM managers m WHERE m.todo_id = t.id))
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    public void addCommentCount(long todoId, int delta) {
+        if (delta != 0 && jdbcTemplate.update(ADD_COMMENT_COUNT_SQL, delta, todoId) > 0) {
+            evictAfterCommit(todoId);
+        }
+    }
+
+    public void addManagerCount(long todoId, int delta) {
+        if (delta != 0 && jdbcTemplate.update(ADD_MANAGER_COUNT_SQL, delta, todoId) > 0) {
+            evictAfterCommit(todoId);
+        }
+    }
+
+    public Long findMaxTodoId() {
+        return jdbcTemplate.queryForObject("SELECT MAX(id) FROM todos", Long.class);
+    }
+
+    // [fromId, toId) 구간의 카운터 보정, 보정된 행 수 반환
+    public int reconcile(long fromId, long toId) {
+        return jdbcTemplate.update(RECONCILE_SQL, fromId, toId);
+    }
+
+    public void evictAll() {
+        entityManagerFactory.getCache().evict(Todo.class);
+    }
+
+    private void evictAfterCommit(long todoId) {
+        TodoCacheEviction.evictAfterCommit(entityManagerFactory, todoId);
+    }
+}
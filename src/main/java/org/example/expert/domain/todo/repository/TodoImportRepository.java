@@ -0,0 +1,99 @@
+package org.example.expert.domain.todo.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.converter.CompressedTextConverter;
+import org.example.expert.domain.weather.converter.WeatherCodes;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 할 일 대량 가져오기 전용 리포지토리
+ * - Todo는 IDENTITY 전략이라 JPA로는 INSERT 배치가 동작하지 않으므로 JdbcTemplate 배치 사용
+ * - 배치 INSERT의 생성 키를 KeyHolder로 받아 작성자 담당자 행도 한 번의 배치로 INSERT
+ * - 날씨는 배치 전에 사전 코드로 변환, 새 날씨는 호출 측(TodoImportService)이 트랜잭션 전에 미리 등록
+ * - 본문은 Todo.contents 매핑과 같은 CompressedTextConverter로 변환해 저장
+ */
+@Repository
+@RequiredArgsConstructor
+public class TodoImportRepository {
+
+    private static final String INSERT_TODO_SQL = "INSERT INTO todos "
+            + "(title, contents, weather_code, user_id, version, comment_count, manager_count, created_at, modified_at) "
+            + "VALUES (?, ?, ?, ?, 0, 0, 1, ?, ?)";
+    private static final String INSERT_MANAGER_SQL = "INSERT INTO managers (user_id, todo_id) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CompressedTextConverter contentsConverter;
+    private final WeatherCodes weatherCodes;
+
+    public record Row(String title, String contents, String weather, long userId,
+                      LocalDateTime createdAt, LocalDateTime modifiedAt) {
+    }
+
+    // 할 일 + 작성자 담당자 행 INSERT, 생성된 할 일 id를 rows 순서대로 반환
+    public List<Long> insertTodosWithOwners(List<Row> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        short[] codes = new short[rows.size()];
+        for (int i = 0; i < rows.size(); i++) {
+            codes[i] = weatherCodes.requireCodeOf(rows.get(i).weather());
+        }
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(INSERT_TODO_SQL, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Row row = rows.get(i);
+                        ps.setString(1, row.title());
+                        ps.setString(2, contentsConverter.convertToDatabaseColumn(row.contents()));
+                        ps.setShort(3, codes[i]);
+                        ps.setLong(4, row.userId());
+                        ps.setTimestamp(5, Timestamp.valueOf(row.createdAt()));
+                        ps.setTimestamp(6, Timestamp.valueOf(row.modifiedAt()));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return rows.size();
+                    }
+                },
+                keyHolder
+        );
+
+        // 드라이버마다 키 컬럼 이름이 다르므로(ID / GENERATED_KEY) 첫 번째 값을 사용
+        List<Long> todoIds = new ArrayList<>(rows.size());
+        for (Map<String, Object> keys : keyHolder.getKeyList()) {
+            todoIds.add(((Number) keys.values().iterator().next()).longValue());
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_MANAGER_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setLong(1, rows.get(i).userId());
+                ps.setLong(2, todoIds.get(i));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rows.size();
+            }
+        });
+
+        return todoIds;
+    }
+}
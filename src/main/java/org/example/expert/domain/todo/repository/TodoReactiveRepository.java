@@ -0,0 +1,165 @@
+package org.example.expert.domain.todo.repository;
+
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.converter.CompressedTextConverter;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.weather.converter.WeatherCodes;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 할 일 읽기 전용 R2DBC 리포지토리 (/rx/todos)
+ * - JPA 엔티티를 거치지 않고 행을 바로 TodoResponse로 변환
+ * - 조건/정렬은 JPA 목록 조회와 같은 인덱스((weather_code, modified_at, id) / (modified_at, id))를 사용
+ * - 날씨 코드 → 문자열은 메모리 사전에서만 변환, 사전에 없는 코드(다른 인스턴스가 등록)만 boundedElastic에서 재로딩
+ */
+@Repository
+@RequiredArgsConstructor
+public class TodoReactiveRepository {
+
+    private static final String SELECT_COLUMNS = """
+            SELECT t.id, t.title, t.contents, t.weather_code, t.version, t.comment_count, t.manager_count,
+                   t.created_at, t.modified_at, u.id AS user_id, u.email
+            """;
+    private static final String FROM_TODOS = " FROM todos t JOIN users u ON u.id = t.user_id";
+    private static final String FROM_ARCHIVE = " FROM todos_archive t JOIN users u ON u.id = t.user_id";
+    private static final String ORDER_BY_LATEST = " ORDER BY t.modified_at DESC, t.id DESC";
+
+    private final DatabaseClient databaseClient;
+    private final WeatherCodes weatherCodes;
+
+    // 엔티티 매핑과 같은 빈, 압축 해제만 사용 (설정과 무관하게 압축된 값은 풀림)
+    private final CompressedTextConverter contentsConverter;
+
+    // 수정일 최신순 페이지 (weatherCode / from / to 는 null이면 조건에서 제외)
+    public Flux<TodoResponse> findPage(Short weatherCode, LocalDateTime from, LocalDateTime to, long offset, int limit) {
+        Map<String, Object> params = conditions(weatherCode, from, to);
+        params.put("limit", limit);
+        params.put("offset", offset);
+        String sql = SELECT_COLUMNS + FROM_TODOS + where(params) + ORDER_BY_LATEST + " LIMIT :limit OFFSET :offset";
+        return bind(sql, params).map(this::toTodoRow).all()
+                .concatMap(this::toTodoResponse);
+    }
+
+    public Mono<Long> count(Short weatherCode, LocalDateTime from, LocalDateTime to) {
+        Map<String, Object> params = conditions(weatherCode, from, to);
+        String sql = "SELECT COUNT(*) AS cnt FROM todos t" + where(params);
+        return bind(sql, params).map(row -> row.get("cnt", Long.class)).one();
+    }
+
+    public Mono<TodoResponse> findById(long todoId) {
+        return databaseClient.sql(SELECT_COLUMNS + FROM_TODOS + " WHERE t.id = :id")
+                .bind("id", todoId)
+                .map(this::toTodoRow)
+                .one()
+                .flatMap(this::toTodoResponse);
+    }
+
+    public Mono<TodoResponse> findArchivedById(long todoId) {
+        return databaseClient.sql(SELECT_COLUMNS + FROM_ARCHIVE + " WHERE t.id = :id")
+                .bind("id", todoId)
+                .map(this::toTodoRow)
+                .one()
+                .flatMap(this::toTodoResponse);
+    }
+
+    public Mono<Boolean> existsById(long todoId) {
+        return exists("SELECT 1 FROM todos WHERE id = :id", todoId);
+    }
+
+    public Mono<Boolean> existsArchivedById(long todoId) {
+        return exists("SELECT 1 FROM todos_archive WHERE id = :id", todoId);
+    }
+
+    private Mono<Boolean> exists(String sql, long todoId) {
+        return databaseClient.sql(sql)
+                .bind("id", todoId)
+                .map(row -> Boolean.TRUE)
+                .first()
+                .defaultIfEmpty(Boolean.FALSE);
+    }
+
+    private static Map<String, Object> conditions(Short weatherCode, LocalDateTime from, LocalDateTime to) {
+        Map<String, Object> params = new LinkedHashMap<>();
+        if (weatherCode != null) {
+            params.put("weatherCode", weatherCode);
+        }
+        if (from != null) {
+            params.put("from", from);
+        }
+        if (to != null) {
+            params.put("to", to);
+        }
+        return params;
+    }
+
+    private static String where(Map<String, Object> params) {
+        StringBuilder where = new StringBuilder();
+        if (params.containsKey("weatherCode")) {
+            where.append(" AND t.weather_code = :weatherCode");
+        }
+        if (params.containsKey("from")) {
+            where.append(" AND t.modified_at >= :from");
+        }
+        if (params.containsKey("to")) {
+            where.append(" AND t.modified_at < :to");
+        }
+        return where.isEmpty() ? "" : " WHERE" + where.substring(" AND".length());
+    }
+
+    private DatabaseClient.GenericExecuteSpec bind(String sql, Map<String, Object> params) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql);
+        for (Map.Entry<String, Object> param : params.entrySet()) {
+            spec = spec.bind(param.getKey(), param.getValue());
+        }
+        return spec;
+    }
+
+    private TodoRow toTodoRow(Readable row) {
+        return new TodoRow(
+                row.get("id", Long.class),
+                row.get("title", String.class),
+                contentsConverter.convertToEntityAttribute(row.get("contents", String.class)),
+                row.get("weather_code", Short.class),
+                new UserResponse(row.get("user_id", Long.class), row.get("email", String.class)),
+                row.get("version", Long.class),
+                row.get("comment_count", Integer.class),
+                row.get("manager_count", Integer.class),
+                row.get("created_at", LocalDateTime.class),
+                row.get("modified_at", LocalDateTime.class)
+        );
+    }
+
+    private Mono<TodoResponse> toTodoResponse(TodoRow row) {
+        Short weatherCode = row.weatherCode();
+        if (weatherCode == null) {
+            return Mono.just(row.toResponse(null));
+        }
+        String weather = weatherCodes.cachedValueOf(weatherCode);
+        if (weather != null) {
+            return Mono.just(row.toResponse(weather));
+        }
+        // 사전 재로딩은 JDBC(블로킹)이므로 이벤트 루프 밖에서
+        return Mono.fromCallable(() -> row.toResponse(weatherCodes.valueOf(weatherCode)))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    // 날씨 변환 전 행
+    private record TodoRow(Long id, String title, String contents, Short weatherCode, UserResponse user, Long version,
+                           int commentCount, int managerCount, LocalDateTime createdAt, LocalDateTime modifiedAt) {
+
+        TodoResponse toResponse(String weather) {
+            return new TodoResponse(id, title, contents, weather, user, version,
+                    commentCount, managerCount, createdAt, modifiedAt);
+        }
+    }
+}
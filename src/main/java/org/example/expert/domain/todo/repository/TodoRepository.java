@@ -1,19 +1,36 @@
 package org.example.expert.domain.todo.repository;
 
+import jakarta.persistence.QueryHint;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.search.TodoSearchDocument;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface TodoRepository extends JpaRepository<Todo, Long> {
+public interface TodoRepository extends JpaRepository<Todo, Long>, JpaSpecificationExecutor<Todo>, TodoRepositoryCustom {
 
-    // 최근 수정일 순으로 할 일 목록을 페이지네이션하여 조회
+    // 목록 정렬 기준: 최근 수정 순, 같은 시각이면 id 역순 (인덱스 (modified_at, id) 순서와 일치)
+    Sort LATEST_FIRST = Sort.by(Sort.Direction.DESC, "modifiedAt", "id");
+
+    // 조건(TodoSpecifications)에 맞는 할 일 목록을 페이지네이션하여 조회
     // @EntityGraph를 사용하여 'user' 연관 엔티티 즉시 로딩
+    @Override
     @EntityGraph(attributePaths = "user")
-    Page<Todo> findAllByOrderByModifiedAtDesc(Pageable pageable);
+    Page<Todo> findAll(Specification<Todo> spec, Pageable pageable);
 
     // 특정 ID의 할 일을 조회하고, 해당 할 일의 사용자 정보를 함께 가져옴
     // @EntityGraph를 사용하여 'user' 연관 엔티티 즉시 로딩
@@ -22,4 +39,27 @@ public interface TodoRepository extends JpaRepository<Todo, Long> {
 
     // 특정 할 일의 개수를 조회 (주로 특정 ID의 할 일이 존재하는지 확인할 때 사용)
     int countById(Long todoId);
+
+    // 작성자 id만 조회 (권한 확인용, 엔티티 로딩 없음)
+    @Query("SELECT t.user.id FROM Todo t WHERE t.id = :todoId")
+    Optional<Long> findOwnerIdById(@Param("todoId") Long todoId);
+
+    // 할 일 일괄 삭제 (삭제된 행 수 반환)
+    // 댓글/담당자를 먼저 삭제한 뒤 호출해야 함
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("DELETE FROM Todo t WHERE t.id IN :todoIds")
+    int deleteAllByIdIn(@Param("todoIds") Collection<Long> todoIds);
+
+    // 검색 색인 구축용 전체 스트리밍 (트랜잭션 안에서 사용 후 close 필요)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new org.example.expert.domain.todo.search.TodoSearchDocument(t.id, t.title, t.contents, t.modifiedAt) FROM Todo t")
+    Stream<TodoSearchDocument> streamSearchDocuments();
+
+    // 검색 색인 갱신용 조회
+    @Query("SELECT new org.example.expert.domain.todo.search.TodoSearchDocument(t.id, t.title, t.contents, t.modifiedAt) FROM Todo t WHERE t.id IN :todoIds")
+    List<TodoSearchDocument> findSearchDocumentsByIdIn(@Param("todoIds") Collection<Long> todoIds);
+
+    // 지연 로딩 속성인 본문을 id 목록으로 한 번에 조회 ([id, contents], 목록 응답용)
+    @Query("SELECT t.id, t.contents FROM Todo t WHERE t.id IN :todoIds")
+    List<Object[]> findContentsByIdIn(@Param("todoIds") Collection<Long> todoIds);
 }
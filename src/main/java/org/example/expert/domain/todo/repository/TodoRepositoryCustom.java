@@ -0,0 +1,34 @@
+package org.example.expert.domain.todo.repository;
+
+import org.example.expert.domain.todo.dto.response.TodoExportRow;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.dto.response.TodoSummaryResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface TodoRepositoryCustom {
+
+    // 전달된 컬럼만 수정하는 조건부 UPDATE (id + 작성자 + 버전 일치 시에만 반영), 수정된 행 수 반환
+    int updatePartially(long todoId, long userId, long expectedVersion,
+                        String title, String contents, LocalDateTime modifiedAt);
+
+    // 단건 응답 조회 (스칼라 프로젝션: 2차 캐시/영속성 컨텍스트를 거치지 않으므로 JDBC UPDATE 직후 값이 그대로 보임)
+    Optional<TodoResponse> findResponseById(long todoId);
+
+    // 조건에 맞는 할 일을 최근 수정 순(modifiedAt, id 내림차순)으로 limit개 조회 (작성자 fetch join, COUNT 쿼리 없음)
+    List<Todo> findLatest(Specification<Todo> spec, int limit);
+
+    // findLatest의 OFFSET 버전 (페이지 번호 방식에서 size + 1개를 읽어 다음 페이지 여부 판단)
+    List<Todo> findLatest(Specification<Todo> spec, long offset, int limit);
+
+    // 요약 목록: 본문 대신 앞 previewLength자만 SQL에서 잘라 조회 (최근 수정 순, COUNT 쿼리 없음)
+    List<TodoSummaryResponse> findSummaries(Specification<Todo> spec, long offset, int limit, int previewLength);
+
+    // 전체 할 일을 id 순으로 스트리밍 (트랜잭션 안에서 사용 후 close 필요)
+    Stream<TodoExportRow> streamExportRows(int fetchSize);
+}
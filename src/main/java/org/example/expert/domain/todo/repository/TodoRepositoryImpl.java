@@ -0,0 +1,158 @@
+package org.example.expert.domain.todo.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.example.expert.domain.common.converter.CompressedTextConverter;
+import org.example.expert.domain.todo.dto.response.TodoExportRow;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.dto.response.TodoSummaryResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public class TodoRepositoryImpl implements TodoRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 엔티티 매핑(Todo.contents)과 같은 빈으로 본문 저장
+    private final CompressedTextConverter contentsConverter;
+
+    public TodoRepositoryImpl(JdbcTemplate jdbcTemplate, CompressedTextConverter contentsConverter) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.contentsConverter = contentsConverter;
+    }
+
+    /**
+     * UPDATE todos SET [title = ?,] [contents = ?,] modified_at = ?, version = version + 1
+     * WHERE id = ? AND user_id = ? AND version = ?
+     * - SELECT/더티 체킹 없이 단일 UPDATE로 처리
+     * - JPQL/Criteria 벌크 UPDATE는 Todo 2차 캐시 리전 전체를 무효화하므로 JDBC로 실행하고 해당 항목만 커밋 후 제거
+     */
+    @Override
+    public int updatePartially(long todoId, long userId, long expectedVersion,
+                               String title, String contents, LocalDateTime modifiedAt) {
+        StringBuilder sql = new StringBuilder("UPDATE todos SET ");
+        List<Object> params = new ArrayList<>();
+        if (title != null) {
+            sql.append("title = ?, ");
+            params.add(title);
+        }
+        if (contents != null) {
+            sql.append("contents = ?, ");
+            params.add(contentsConverter.convertToDatabaseColumn(contents));
+        }
+        sql.append("modified_at = ?, version = version + 1 WHERE id = ? AND user_id = ? AND version = ?");
+        params.add(Timestamp.valueOf(modifiedAt));
+        params.add(todoId);
+        params.add(userId);
+        params.add(expectedVersion);
+
+        int updated = jdbcTemplate.update(sql.toString(), params.toArray());
+        if (updated > 0) {
+            TodoCacheEviction.evictAfterCommit(em.getEntityManagerFactory(), todoId);
+        }
+        return updated;
+    }
+
+    /**
+     * SELECT t.id, t.title, t.contents, t.weather_code, u.id, u.email, ... FROM todos t JOIN users u ON ... WHERE t.id = ?
+     * - 본문/날씨는 엔티티 매핑의 컨버터를 거쳐 원문으로 읽힘
+     */
+    @Override
+    public Optional<TodoResponse> findResponseById(long todoId) {
+        return em.createQuery(
+                        "SELECT t.id, t.title, t.contents, t.weather, u.id, u.email, t.version, "
+                                + "t.commentCount, t.managerCount, t.createdAt, t.modifiedAt "
+                                + "FROM Todo t JOIN t.user u WHERE t.id = :todoId",
+                        Object[].class)
+                .setParameter("todoId", todoId)
+                .getResultList()
+                .stream()
+                .findFirst()
+                .map(row -> new TodoResponse(
+                        (Long) row[0],
+                        (String) row[1],
+                        (String) row[2],
+                        (String) row[3],
+                        new UserResponse((Long) row[4], (String) row[5]),
+                        (Long) row[6],
+                        (Integer) row[7],
+                        (Integer) row[8],
+                        (LocalDateTime) row[9],
+                        (LocalDateTime) row[10]
+                ));
+    }
+
+    /**
+     * SELECT t.*, u.* FROM todos t LEFT JOIN users u ON ...
+     * WHERE (조건) ORDER BY t.modified_at DESC, t.id DESC LIMIT ?
+     * - 키셋 페이지네이션용: 페이지 위치와 무관하게 인덱스 범위 검색 후 limit개만 읽음
+     */
+    @Override
+    public List<Todo> findLatest(Specification<Todo> spec, int limit) {
+        return findLatest(spec, 0, limit);
+    }
+
+    @Override
+    public List<Todo> findLatest(Specification<Todo> spec, long offset, int limit) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Todo> query = cb.createQuery(Todo.class);
+        Root<Todo> todo = query.from(Todo.class);
+        todo.fetch("user", JoinType.LEFT);
+
+        if (spec != null) {
+            Predicate predicate = spec.toPredicate(todo, query, cb);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+        query.orderBy(cb.desc(todo.get("modifiedAt")), cb.desc(todo.get("id")));
+
+        return em.createQuery(query)
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    // 요약 목록: TodoSummaryQuery로 todos에서 조회
+    @Override
+    public List<TodoSummaryResponse> findSummaries(Specification<Todo> spec, long offset, int limit, int previewLength) {
+        return TodoSummaryQuery.find(em, Todo.class, spec, offset, limit, previewLength);
+    }
+
+    /**
+     * 내보내기용 스트리밍 조회
+     * - DTO 프로젝션이라 영속성 컨텍스트/2차 캐시에 아무것도 쌓이지 않음
+     * - fetch size만큼씩 서버 커서로 읽음 (MySQL은 JDBC URL에 useCursorFetch=true 필요)
+     */
+    @Override
+    public Stream<TodoExportRow> streamExportRows(int fetchSize) {
+        return em.createQuery(
+                        "SELECT new org.example.expert.domain.todo.dto.response.TodoExportRow("
+                                + "t.id, t.title, t.contents, t.weather, t.user.id, "
+                                + "t.commentCount, t.managerCount, t.createdAt, t.modifiedAt) "
+                                + "FROM Todo t ORDER BY t.id",
+                        TodoExportRow.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .setHint(HibernateHints.HINT_CACHEABLE, false)
+                .getResultStream();
+    }
+}
@@ -0,0 +1,75 @@
+package org.example.expert.domain.todo.repository;
+
+import org.example.expert.domain.weather.converter.WeatherCodes;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * Todo 목록 조회 조건
+ * - Todo / ArchivedTodo 공통 (weather, modifiedAt, id 속성명이 같음)
+ * - 값이 null이면 null 스펙을 반환하여 조건에서 제외
+ * - 모든 조건은 (weather_code, modified_at, id) / (modified_at, id) 인덱스 컬럼만 사용
+ * - weather 조건은 WeatherCodeConverter를 거쳐 코드 비교로 렌더링됨
+ */
+public final class TodoSpecifications {
+
+    private TodoSpecifications() {
+    }
+
+    public static <T> Specification<T> filter(WeatherCodes weatherCodes, String weather, LocalDateTime from, LocalDateTime to) {
+        return Specification.where(weatherEquals(weatherCodes, weather))
+                .and(modifiedAtFrom(from))
+                .and(modifiedAtBefore(to));
+    }
+
+    public static <T> Specification<T> weatherEquals(WeatherCodes weatherCodes, String weather) {
+        if (weather == null) {
+            return null;
+        }
+        // 사전에 없는 날씨는 일치하는 행이 없음 (컨버터는 사전에 없는 값에서 예외가 나므로 그 전에 차단)
+        if (weatherCodes.codeOf(weather) == null) {
+            return (root, query, cb) -> cb.disjunction();
+        }
+        return (root, query, cb) -> cb.equal(root.get("weather"), weather);
+    }
+
+    // modifiedAt >= from
+    public static <T> Specification<T> modifiedAtFrom(LocalDateTime from) {
+        if (from == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("modifiedAt"), from);
+    }
+
+    // modifiedAt < to
+    public static <T> Specification<T> modifiedAtBefore(LocalDateTime to) {
+        if (to == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.lessThan(root.get("modifiedAt"), to);
+    }
+
+    /**
+     * 키셋 페이지네이션 조건: (modifiedAt, id) < (cursorModifiedAt, cursorId)
+     * - modifiedAt <= ? 를 함께 걸어 인덱스 범위 검색이 가능하도록 함
+     */
+    public static <T> Specification<T> after(LocalDateTime cursorModifiedAt, Long cursorId) {
+        if (cursorModifiedAt == null || cursorId == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.and(
+                cb.lessThanOrEqualTo(root.get("modifiedAt"), cursorModifiedAt),
+                cb.or(
+                        cb.lessThan(root.get("modifiedAt"), cursorModifiedAt),
+                        cb.lessThan(root.get("id"), cursorId)
+                )
+        );
+    }
+
+    // id IN (...) (검색 결과처럼 id 목록이 정해진 경우)
+    public static <T> Specification<T> idIn(Collection<Long> ids) {
+        return (root, query, cb) -> root.get("id").in(ids);
+    }
+}
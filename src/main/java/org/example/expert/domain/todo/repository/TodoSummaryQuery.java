@@ -0,0 +1,116 @@
+package org.example.expert.domain.todo.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.example.expert.domain.common.converter.CompressedTextConverter;
+import org.example.expert.domain.todo.dto.response.TodoSummaryResponse;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 요약 목록 조회 (Todo / ArchivedTodo 공통, 속성명이 같음)
+ * SELECT t.id, t.title, SUBSTRING(t.contents, 1, ?), CHAR_LENGTH(t.contents), ..., u.id, u.email
+ * FROM (todos | todos_archive) t JOIN users u ON ... WHERE (조건) ORDER BY t.modified_at DESC, t.id DESC LIMIT ? OFFSET ?
+ * - 본문 전체는 DB 밖으로 나오지 않음, 엔티티도 만들지 않음
+ */
+public final class TodoSummaryQuery {
+
+    private TodoSummaryQuery() {
+    }
+
+    public static <T> List<TodoSummaryResponse> find(EntityManager em, Class<T> entityType, Specification<T> spec,
+                                                     long offset, int limit, int previewLength) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<T> todo = query.from(entityType);
+        Join<T, ?> user = todo.join("user");
+
+        Expression<String> contents = todo.get("contents");
+        query.multiselect(
+                todo.get("id").alias("id"),
+                todo.get("title").alias("title"),
+                cb.substring(contents, 1, previewLength).alias("preview"),
+                cb.length(contents).alias("contentsLength"),
+                todo.get("weather").alias("weather"),
+                user.get("id").alias("userId"),
+                user.get("email").alias("email"),
+                todo.get("version").alias("version"),
+                todo.get("commentCount").alias("commentCount"),
+                todo.get("managerCount").alias("managerCount"),
+                todo.get("createdAt").alias("createdAt"),
+                todo.get("modifiedAt").alias("modifiedAt")
+        );
+
+        if (spec != null) {
+            Predicate predicate = spec.toPredicate(todo, query, cb);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+        query.orderBy(cb.desc(todo.get("modifiedAt")), cb.desc(todo.get("id")));
+
+        List<Tuple> rows = em.createQuery(query)
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit)
+                .getResultList();
+
+        // 압축 저장된 본문은 SQL에서 자를 수 없으므로 해당 행만 본문을 읽어 미리보기 계산
+        Map<Long, String> decompressed = loadCompressedContents(em, entityType, rows);
+
+        return rows.stream()
+                .map(row -> {
+                    Long id = row.get("id", Long.class);
+                    String preview = row.get("preview", String.class);
+                    Integer contentsLength = row.get("contentsLength", Integer.class);
+                    boolean truncated = contentsLength != null && contentsLength > previewLength;
+                    if (decompressed.containsKey(id)) {
+                        String decompressedContents = decompressed.get(id);
+                        truncated = decompressedContents.length() > previewLength;
+                        preview = truncated ? decompressedContents.substring(0, previewLength) : decompressedContents;
+                    }
+                    return new TodoSummaryResponse(
+                            id,
+                            row.get("title", String.class),
+                            preview,
+                            truncated,
+                            row.get("weather", String.class),
+                            new UserResponse(row.get("userId", Long.class), row.get("email", String.class)),
+                            row.get("version", Long.class),
+                            row.get("commentCount", Integer.class),
+                            row.get("managerCount", Integer.class),
+                            row.get("createdAt", LocalDateTime.class),
+                            row.get("modifiedAt", LocalDateTime.class)
+                    );
+                })
+                .toList();
+    }
+
+    private static Map<Long, String> loadCompressedContents(EntityManager em, Class<?> entityType, List<Tuple> rows) {
+        List<Long> compressedIds = rows.stream()
+                .filter(row -> CompressedTextConverter.isCompressed(row.get("preview", String.class)))
+                .map(row -> row.get("id", Long.class))
+                .toList();
+        if (compressedIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, String> contentsById = new HashMap<>();
+        em.createQuery("SELECT t.id, t.contents FROM " + em.getMetamodel().entity(entityType).getName()
+                        + " t WHERE t.id IN :todoIds", Object[].class)
+                .setParameter("todoIds", compressedIds)
+                .getResultList()
+                .forEach(row -> contentsById.put((Long) row[0], (String) row[1]));
+        return contentsById;
+    }
+}
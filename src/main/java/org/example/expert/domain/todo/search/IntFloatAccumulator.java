@@ -0,0 +1,75 @@
+package org.example.expert.domain.todo.search;
+
+import java.util.Arrays;
+
+/**
+ * 검색 시 문서 번호별 점수 누적용 int → float 오픈 어드레싱 맵
+ * - 질의에 걸린 문서 수만큼만 공간을 사용 (전체 문서 수 크기의 배열을 만들지 않음)
+ */
+final class IntFloatAccumulator {
+
+    private static final int EMPTY = -1;
+
+    private int[] keys;
+    private float[] values;
+    private int mask;
+    private int size;
+
+    @FunctionalInterface
+    interface EntryConsumer {
+        void accept(int key, float value);
+    }
+
+    IntFloatAccumulator(int expectedSize) {
+        allocate(Integer.highestOneBit(Math.max(16, expectedSize * 2) - 1) << 1);
+    }
+
+    void add(int key, float delta) {
+        if ((size + 1) * 2 > keys.length) {
+            rehash();
+        }
+        int slot = slot(key);
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                values[slot] += delta;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = delta;
+        size++;
+    }
+
+    void forEach(EntryConsumer consumer) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY) {
+                consumer.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    private void rehash() {
+        int[] oldKeys = keys;
+        float[] oldValues = values;
+        allocate(oldKeys.length * 2);
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                add(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        Arrays.fill(keys, EMPTY);
+        values = new float[capacity];
+        mask = capacity - 1;
+    }
+
+    private int slot(int key) {
+        int h = key * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+}
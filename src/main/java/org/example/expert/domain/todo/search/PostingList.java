@@ -0,0 +1,89 @@
+package org.example.expert.domain.todo.search;
+
+import java.util.Arrays;
+
+/**
+ * 검색어 하나의 포스팅 리스트
+ * - (문서 번호 차이, 출현 빈도) 쌍을 가변 길이 정수(varint)로 이어 붙인 byte[]에 저장
+ * - 문서 번호는 항상 증가하는 순서로만 추가됨 (수정/삭제는 새 번호 + 삭제 표시로 처리)
+ */
+final class PostingList {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private byte[] data = new byte[INITIAL_CAPACITY];
+    private int length;
+    private int docFreq;
+    private int lastOrdinal = -1;
+
+    @FunctionalInterface
+    interface PostingConsumer {
+        void accept(int ordinal, int termFreq);
+    }
+
+    void add(int ordinal, int termFreq) {
+        if (ordinal <= lastOrdinal) {
+            throw new IllegalArgumentException("문서 번호는 증가하는 순서로만 추가할 수 있습니다.");
+        }
+        ensureCapacity(10); // varint 2개 (최대 5바이트씩)
+        writeVarInt(ordinal - lastOrdinal);
+        writeVarInt(termFreq);
+        lastOrdinal = ordinal;
+        docFreq++;
+    }
+
+    void forEach(PostingConsumer consumer) {
+        int[] position = {0};
+        int ordinal = -1;
+        while (position[0] < length) {
+            ordinal += readVarInt(position);
+            consumer.accept(ordinal, readVarInt(position));
+        }
+    }
+
+    int docFreq() {
+        return docFreq;
+    }
+
+    boolean isEmpty() {
+        return docFreq == 0;
+    }
+
+    // 실제 할당된 배열 크기 (메모리 사용량 추정용)
+    int capacityBytes() {
+        return data.length;
+    }
+
+    // 재구성 후 남는 공간 정리
+    void trim() {
+        if (data.length > length) {
+            data = Arrays.copyOf(data, Math.max(length, 1));
+        }
+    }
+
+    private void ensureCapacity(int extra) {
+        if (length + extra > data.length) {
+            data = Arrays.copyOf(data, Math.max(data.length * 2, length + extra));
+        }
+    }
+
+    private void writeVarInt(int value) {
+        while ((value & ~0x7F) != 0) {
+            data[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data[length++] = (byte) value;
+    }
+
+    private int readVarInt(int[] position) {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = data[position[0]++];
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+}
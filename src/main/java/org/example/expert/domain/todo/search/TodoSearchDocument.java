@@ -0,0 +1,22 @@
+package org.example.expert.domain.todo.search;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 검색 색인에 필요한 컬럼만 담는 조회용 프로젝션
+@Getter
+public class TodoSearchDocument {
+
+    private final Long id;
+    private final String title;
+    private final String contents;
+    private final LocalDateTime modifiedAt;
+
+    public TodoSearchDocument(Long id, String title, String contents, LocalDateTime modifiedAt) {
+        this.id = id;
+        this.title = title;
+        this.contents = contents;
+        this.modifiedAt = modifiedAt;
+    }
+}
@@ -0,0 +1,396 @@
+package org.example.expert.domain.todo.search;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Todo 제목/내용에 대한 프로세스 내 역색인
+ * - 색인 문서마다 증가하는 문서 번호(ordinal)를 부여하고, 검색어별 포스팅 리스트는 varint 압축 byte[]로 보관
+ * - 수정 시 기존 문서 번호는 삭제 표시 후 새 번호로 다시 색인, 삭제 비율이 높아지면 재구성(compaction)
+ * - 추정 메모리 사용량이 예산(app.search.memory-budget-bytes)을 넘으면 수정 시각이 가장 오래된 문서부터 제외
+ * - 점수: BM25 관련도 × (1 + 최신도 가중치), 최신도는 수정 시각 기준 반감기로 감소
+ */
+@Component
+public class TodoSearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int TITLE_WEIGHT = 2;              // 제목에 나온 단어는 2회 출현으로 계산
+    private static final int MAX_TOKEN_LENGTH = 32;
+    private static final int TERM_OVERHEAD_BYTES = 96;      // HashMap 엔트리 + String + PostingList 객체 추정치
+    private static final int MIN_DOCS_FOR_COMPACTION = 1024;
+    private static final int INITIAL_DOC_CAPACITY = 1024;
+
+    private final long memoryBudgetBytes;
+    private final double recencyWeight;
+    private final double recencyHalfLifeMillis;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 문서 번호별 정보 (배열 인덱스 = 문서 번호)
+    private long[] docTodoIds = new long[INITIAL_DOC_CAPACITY];
+    private long[] docModifiedAt = new long[INITIAL_DOC_CAPACITY];
+    private int[] docLengths = new int[INITIAL_DOC_CAPACITY];
+    private final BitSet deleted = new BitSet();
+    private LongIntHashMap ordinalByTodoId = new LongIntHashMap(INITIAL_DOC_CAPACITY);
+
+    private Map<String, PostingList> postings = new HashMap<>();
+
+    private int docCount;           // 발급된 문서 번호 수 (삭제 표시 포함)
+    private int deletedCount;
+    private int liveDocs;
+    private long liveTokenCount;    // 평균 문서 길이 계산용
+    private long postingBytes;
+    private long termBytes;
+
+    public TodoSearchIndex(
+            @Value("${app.search.memory-budget-bytes:67108864}") long memoryBudgetBytes,
+            @Value("${app.search.recency-weight:0.5}") double recencyWeight,
+            @Value("${app.search.recency-half-life-days:30}") double recencyHalfLifeDays
+    ) {
+        this.memoryBudgetBytes = memoryBudgetBytes;
+        this.recencyWeight = recencyWeight;
+        this.recencyHalfLifeMillis = recencyHalfLifeDays * 24 * 60 * 60 * 1000;
+    }
+
+    public void index(TodoSearchDocument document) {
+        index(document.getId(), document.getTitle(), document.getContents(), document.getModifiedAt());
+    }
+
+    /**
+     * 문서 색인 (이미 있으면 교체)
+     * - 이미 더 최신 수정 시각으로 색인된 문서라면 무시 (초기 색인과 실시간 갱신이 겹치는 경우 대비)
+     */
+    public void index(long todoId, String title, String contents, LocalDateTime modifiedAt) {
+        long modifiedMillis = toEpochMillis(modifiedAt);
+
+        // 토큰화는 락 밖에서 수행
+        Map<String, Integer> termFreqs = new HashMap<>();
+        for (String token : tokenize(title)) {
+            termFreqs.merge(token, TITLE_WEIGHT, Integer::sum);
+        }
+        for (String token : tokenize(contents)) {
+            termFreqs.merge(token, 1, Integer::sum);
+        }
+        int length = termFreqs.values().stream().mapToInt(Integer::intValue).sum();
+
+        lock.writeLock().lock();
+        try {
+            int existing = ordinalByTodoId.get(todoId, -1);
+            if (existing >= 0) {
+                if (docModifiedAt[existing] > modifiedMillis) {
+                    return;
+                }
+                markDeleted(existing);
+            }
+
+            int ordinal = docCount++;
+            ensureDocCapacity(docCount);
+            docTodoIds[ordinal] = todoId;
+            docModifiedAt[ordinal] = modifiedMillis;
+            docLengths[ordinal] = length;
+            ordinalByTodoId.put(todoId, ordinal);
+            liveDocs++;
+            liveTokenCount += length;
+
+            for (Map.Entry<String, Integer> entry : termFreqs.entrySet()) {
+                PostingList list = postings.get(entry.getKey());
+                if (list == null) {
+                    list = new PostingList();
+                    postings.put(entry.getKey(), list);
+                    termBytes += TERM_OVERHEAD_BYTES + entry.getKey().length() * 2L;
+                }
+                int before = list.capacityBytes();
+                list.add(ordinal, entry.getValue());
+                postingBytes += list.capacityBytes() - before;
+            }
+
+            maintain();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long todoId) {
+        removeAll(List.of(todoId));
+    }
+
+    public void removeAll(Iterable<Long> todoIds) {
+        lock.writeLock().lock();
+        try {
+            for (Long todoId : todoIds) {
+                int ordinal = ordinalByTodoId.remove(todoId, -1);
+                if (ordinal >= 0) {
+                    markDeleted(ordinal);
+                }
+            }
+            maintain();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 관련도와 최신도로 정렬한 상위 limit개의 todo id 반환 (검색어 중 하나라도 포함한 문서 대상)
+     */
+    public List<Long> search(String query, int limit) {
+        Set<String> terms = new LinkedHashSet<>(tokenize(query));
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            if (liveDocs == 0) {
+                return List.of();
+            }
+            double avgLength = Math.max(1.0, (double) liveTokenCount / liveDocs);
+
+            int expected = 0;
+            List<PostingList> lists = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                PostingList list = postings.get(term);
+                if (list != null) {
+                    lists.add(list);
+                    expected += list.docFreq();
+                }
+            }
+            if (lists.isEmpty()) {
+                return List.of();
+            }
+
+            // 1) BM25 관련도 누적
+            IntFloatAccumulator scores = new IntFloatAccumulator(Math.min(expected, liveDocs));
+            for (PostingList list : lists) {
+                double df = list.docFreq();
+                double idf = Math.log(1 + (Math.max(liveDocs - df, 0) + 0.5) / (df + 0.5));
+                list.forEach((ordinal, termFreq) -> {
+                    if (deleted.get(ordinal)) {
+                        return;
+                    }
+                    double norm = termFreq * (K1 + 1)
+                            / (termFreq + K1 * (1 - B + B * docLengths[ordinal] / avgLength));
+                    scores.add(ordinal, (float) (idf * norm));
+                });
+            }
+
+            // 2) 최신도 반영 후 상위 limit개 선택 (최소 힙)
+            long now = System.currentTimeMillis();
+            PriorityQueue<ScoredDoc> heap = new PriorityQueue<>(limit, Comparator.comparingDouble(ScoredDoc::score));
+            scores.forEach((ordinal, relevance) -> {
+                double score = relevance * (1 + recencyWeight * recency(now - docModifiedAt[ordinal]));
+                if (heap.size() < limit) {
+                    heap.add(new ScoredDoc(ordinal, score));
+                } else if (score > heap.peek().score()) {
+                    heap.poll();
+                    heap.add(new ScoredDoc(ordinal, score));
+                }
+            });
+
+            List<ScoredDoc> top = new ArrayList<>(heap);
+            top.sort(Comparator.comparingDouble(ScoredDoc::score).reversed());
+
+            List<Long> todoIds = new ArrayList<>(top.size());
+            for (ScoredDoc doc : top) {
+                todoIds.add(docTodoIds[doc.ordinal()]);
+            }
+            return todoIds;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveDocs;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 색인이 차지하는 힙 메모리 추정치 (바이트)
+    public long estimatedBytes() {
+        lock.readLock().lock();
+        try {
+            return currentEstimatedBytes();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isEmpty()) {
+            return List.of();
+        }
+        List<String> tokens = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean wordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                int end = Math.min(i, start + MAX_TOKEN_LENGTH);
+                tokens.add(text.substring(start, end).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    private record ScoredDoc(int ordinal, double score) {
+    }
+
+    private double recency(long ageMillis) {
+        return Math.pow(0.5, Math.max(0, ageMillis) / recencyHalfLifeMillis);
+    }
+
+    private void markDeleted(int ordinal) {
+        deleted.set(ordinal);
+        deletedCount++;
+        liveDocs--;
+        liveTokenCount -= docLengths[ordinal];
+    }
+
+    // 메모리 예산 초과 시 수정 시각이 오래된 문서 제외, 삭제 표시가 많으면 재구성
+    private void maintain() {
+        while (currentEstimatedBytes() > memoryBudgetBytes && liveDocs > 0) {
+            evictOldest();
+            compact();
+        }
+        if (docCount >= MIN_DOCS_FOR_COMPACTION && deletedCount * 4L > docCount) {
+            compact();
+        }
+    }
+
+    /**
+     * 예산의 90% 수준까지 줄어들 만큼 수정 시각이 가장 오래된 문서부터 제외
+     * - 초기 색인은 id 순서라 문서 번호(색인 순서)와 수정 시각이 다르므로, 수정 시각 기준으로 경계값을 구해 제외
+     * - 경계값과 수정 시각이 같은 문서는 먼저 색인된 문서부터 제외
+     */
+    private void evictOldest() {
+        long estimated = currentEstimatedBytes();
+        long target = (long) (memoryBudgetBytes * 0.9);
+        double bytesPerDoc = (double) estimated / liveDocs;
+        int toEvict = (int) Math.min(liveDocs, Math.max(1, (long) Math.ceil((estimated - target) / bytesPerDoc)));
+
+        long[] liveModifiedAt = new long[liveDocs];
+        int live = 0;
+        for (int ordinal = 0; ordinal < docCount; ordinal++) {
+            if (!deleted.get(ordinal)) {
+                liveModifiedAt[live++] = docModifiedAt[ordinal];
+            }
+        }
+        Arrays.sort(liveModifiedAt);
+        long threshold = liveModifiedAt[toEvict - 1];
+        int tiesToEvict = toEvict;
+        for (int i = 0; i < toEvict - 1 && liveModifiedAt[i] < threshold; i++) {
+            tiesToEvict--;
+        }
+
+        for (int ordinal = 0; ordinal < docCount; ordinal++) {
+            if (deleted.get(ordinal) || docModifiedAt[ordinal] > threshold) {
+                continue;
+            }
+            if (docModifiedAt[ordinal] == threshold) {
+                if (tiesToEvict == 0) {
+                    continue;
+                }
+                tiesToEvict--;
+            }
+            ordinalByTodoId.remove(docTodoIds[ordinal], -1);
+            markDeleted(ordinal);
+        }
+    }
+
+    // 삭제 표시된 문서를 제거하고 문서 번호를 다시 매겨 포스팅 리스트 재구성
+    private void compact() {
+        int[] remap = new int[docCount];
+        int capacity = Math.max(INITIAL_DOC_CAPACITY, liveDocs);
+        long[] newTodoIds = new long[capacity];
+        long[] newModifiedAt = new long[capacity];
+        int[] newLengths = new int[capacity];
+        LongIntHashMap newOrdinals = new LongIntHashMap(capacity);
+
+        int next = 0;
+        for (int ordinal = 0; ordinal < docCount; ordinal++) {
+            if (deleted.get(ordinal)) {
+                remap[ordinal] = -1;
+                continue;
+            }
+            remap[ordinal] = next;
+            newTodoIds[next] = docTodoIds[ordinal];
+            newModifiedAt[next] = docModifiedAt[ordinal];
+            newLengths[next] = docLengths[ordinal];
+            newOrdinals.put(docTodoIds[ordinal], next);
+            next++;
+        }
+
+        Map<String, PostingList> newPostings = new HashMap<>();
+        long newPostingBytes = 0;
+        long newTermBytes = 0;
+        for (Map.Entry<String, PostingList> entry : postings.entrySet()) {
+            PostingList rebuilt = new PostingList();
+            entry.getValue().forEach((ordinal, termFreq) -> {
+                if (remap[ordinal] >= 0) {
+                    rebuilt.add(remap[ordinal], termFreq);
+                }
+            });
+            if (!rebuilt.isEmpty()) {
+                rebuilt.trim();
+                newPostings.put(entry.getKey(), rebuilt);
+                newPostingBytes += rebuilt.capacityBytes();
+                newTermBytes += TERM_OVERHEAD_BYTES + entry.getKey().length() * 2L;
+            }
+        }
+
+        docTodoIds = newTodoIds;
+        docModifiedAt = newModifiedAt;
+        docLengths = newLengths;
+        ordinalByTodoId = newOrdinals;
+        postings = newPostings;
+        postingBytes = newPostingBytes;
+        termBytes = newTermBytes;
+        docCount = next;
+        deleted.clear();
+        deletedCount = 0;
+    }
+
+    private void ensureDocCapacity(int required) {
+        if (required > docTodoIds.length) {
+            int capacity = Math.max(required, docTodoIds.length * 2);
+            docTodoIds = Arrays.copyOf(docTodoIds, capacity);
+            docModifiedAt = Arrays.copyOf(docModifiedAt, capacity);
+            docLengths = Arrays.copyOf(docLengths, capacity);
+        }
+    }
+
+    private long currentEstimatedBytes() {
+        long docBytes = docTodoIds.length * (long) (Long.BYTES + Long.BYTES + Integer.BYTES)
+                + deleted.size() / 8
+                + ordinalByTodoId.capacityBytes();
+        return postingBytes + termBytes + docBytes;
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return System.currentTimeMillis();
+        }
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,37 @@
+package org.example.expert.domain.todo.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.stream.Stream;
+
+/**
+ * 기동 시 검색 색인 구축
+ * - 엔티티를 로딩하지 않고 필요한 컬럼만 스트리밍(fetch size 지정)하여 메모리 사용을 일정하게 유지
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TodoSearchIndexInitializer {
+
+    private final TodoRepository todoRepository;
+    private final TodoSearchIndex todoSearchIndex;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void buildIndex() {
+        long started = System.currentTimeMillis();
+        try (Stream<TodoSearchDocument> documents = todoRepository.streamSearchDocuments()) {
+            documents.forEach(todoSearchIndex::index);
+        }
+        log.info("검색 색인 구축 완료: {}건, 약 {}KB, {}ms",
+                todoSearchIndex.size(),
+                todoSearchIndex.estimatedBytes() / 1024,
+                System.currentTimeMillis() - started);
+    }
+}
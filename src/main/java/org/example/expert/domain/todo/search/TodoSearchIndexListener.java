@@ -0,0 +1,113 @@
+package org.example.expert.domain.todo.search;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.event.TodosDeletedEvent;
+import org.example.expert.domain.todo.event.TodosUpdatedEvent;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.hibernate.Hibernate;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 검색 색인 증분 갱신
+ * - 엔티티 저장/수정/삭제: Hibernate 커밋 후 이벤트로 반영 (롤백된 변경은 색인되지 않음)
+ * - 벌크 UPDATE/DELETE: 엔티티 이벤트가 없으므로 서비스가 발행한 이벤트를 커밋 후 처리
+ */
+@Component
+@RequiredArgsConstructor
+public class TodoSearchIndexListener implements PostCommitInsertEventListener,
+        PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final TodoSearchIndex todoSearchIndex;
+    private final TodoRepository todoRepository;
+
+    @PostConstruct
+    void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof Todo todo) {
+            index(todo);
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (event.getEntity() instanceof Todo todo) {
+            index(todo);
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof Todo todo) {
+            todoSearchIndex.remove(todo.getId());
+        }
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return Todo.class.equals(persister.getMappedClass());
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    // 커밋된 값을 다시 읽어 색인 (복제 지연을 피하기 위해 읽기 전용 트랜잭션을 쓰지 않음)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void handleTodosUpdated(TodosUpdatedEvent event) {
+        todoRepository.findSearchDocumentsByIdIn(event.getTodoIds())
+                .forEach(todoSearchIndex::index);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleTodosDeleted(TodosDeletedEvent event) {
+        todoSearchIndex.removeAll(event.getTodoIds());
+    }
+
+    // 본문(지연 로딩)이 읽히지 않은 채 수정된 경우 커밋 후 세션에서는 읽을 수 없으므로 DB에서 다시 조회
+    private void index(Todo todo) {
+        if (Hibernate.isPropertyInitialized(todo, "contents")) {
+            todoSearchIndex.index(todo.getId(), todo.getTitle(), todo.getContents(), todo.getModifiedAt());
+        } else {
+            todoRepository.findSearchDocumentsByIdIn(List.of(todo.getId()))
+                    .forEach(todoSearchIndex::index);
+        }
+    }
+}
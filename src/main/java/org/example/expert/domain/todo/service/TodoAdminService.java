@@ -0,0 +1,97 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.request.TodoBulkDeleteRequest;
+import org.example.expert.domain.todo.dto.response.TodoBulkDeleteResponse;
+import org.example.expert.domain.todo.dto.response.TodoExportRow;
+import org.example.expert.domain.todo.event.TodosDeletedEvent;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TodoAdminService {
+
+    private final TodoRepository todoRepository;
+    private final CommentRepository commentRepository;
+    private final ManagerRepository managerRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.todo.export.fetch-size:1000}")
+    private int exportFetchSize;
+
+    @Value("${app.todo.export.flush-every:1000}")
+    private int exportFlushEvery;
+
+    /**
+     * 할 일 일괄 삭제 (관리자)
+     * - 댓글/담당자/할 일을 각각 IN 조건 DELETE 한 번씩, 하나의 트랜잭션에서 처리
+     * - 존재하지 않는 id는 무시하고 실제 삭제된 할 일 수를 반환
+     */
+    @Transactional
+    public TodoBulkDeleteResponse deleteTodos(TodoBulkDeleteRequest todoBulkDeleteRequest) {
+        Set<Long> todoIds = new LinkedHashSet<>(todoBulkDeleteRequest.getTodoIds());
+
+        commentRepository.deleteAllByTodoIdIn(todoIds);
+        managerRepository.deleteAllByTodoIdIn(todoIds);
+        int deleted = todoRepository.deleteAllByIdIn(todoIds);
+
+        eventPublisher.publishEvent(new TodosDeletedEvent(todoIds));
+
+        return new TodoBulkDeleteResponse(deleted);
+    }
+
+    /**
+     * 할 일 전체 내보내기 (NDJSON, 한 줄에 한 건)
+     * - DB 커서 스트림 → Jackson 스트리밍 생성기 → 응답 스트림으로 바로 흘려보냄
+     * - 한 번에 메모리에 올라가는 건 fetch size만큼의 행과 출력 버퍼뿐 (건수와 무관)
+     * - StreamingResponseBody 스레드에서 호출되므로 여기서 읽기 전용 트랜잭션을 엶
+     */
+    @Transactional(readOnly = true)
+    public long exportTodos(OutputStream out) throws IOException {
+        long started = System.currentTimeMillis();
+        long written = 0;
+
+        // 값마다 flush하지 않고 flush-every 건마다 한 번씩 flush
+        ObjectWriter writer = objectMapper.writerFor(TodoExportRow.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        try (Stream<TodoExportRow> rows = todoRepository.streamExportRows(exportFetchSize);
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);   // 응답 스트림은 컨테이너가 닫음
+            generator.setRootValueSeparator(null);                         // 값 구분은 직접 쓰는 줄바꿈으로
+
+            Iterator<TodoExportRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                writer.writeValue(generator, iterator.next());
+                generator.writeRaw('\n');
+                if (++written % exportFlushEvery == 0) {
+                    generator.flush();
+                }
+            }
+            generator.flush();
+        }
+
+        log.info("할 일 내보내기 완료: {}건, {}ms", written, System.currentTimeMillis() - started);
+        return written;
+    }
+}
@@ -0,0 +1,84 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.client.WeatherClient;
+import org.example.expert.config.IoExecutor;
+import org.example.expert.config.ReadWriteRoutingDataSource;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.GatewayTimeoutException;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.weather.converter.WeatherCodes;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 할 일 비동기 저장 (POST /todos/async)
+ * - 날씨 조회는 IoExecutor에서 실행, 요청 스레드는 바로 반환됨
+ * - 날씨를 받은 뒤에만 짧은 트랜잭션으로 INSERT (외부 호출 동안 커넥션/트랜잭션을 잡지 않음)
+ * - 새 날씨는 INSERT 트랜잭션 전에 사전에 등록
+ * - INSERT는 요청 스레드 밖이므로 작성자 id를 직접 지정해 read-your-writes 고정이 적용되게 함
+ * <pre>
+ * app.async.weather-timeout=3s   # 날씨 조회 제한 시간, 초과 시 504
+ * app.async.save-timeout=2s      # INSERT 트랜잭션 제한 시간, 초과 시 504
+ * </pre>
+ */
+@Service
+public class TodoAsyncService {
+
+    private final TodoService todoService;
+    private final WeatherClient weatherClient;
+    private final IoExecutor ioExecutor;
+    private final WeatherCodes weatherCodes;
+    private final TransactionTemplate saveTransaction;
+    private final Duration weatherTimeout;
+
+    public TodoAsyncService(TodoService todoService,
+                            WeatherClient weatherClient,
+                            IoExecutor ioExecutor,
+                            WeatherCodes weatherCodes,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${app.async.weather-timeout:3s}") Duration weatherTimeout,
+                            @Value("${app.async.save-timeout:2s}") Duration saveTimeout) {
+        this.todoService = todoService;
+        this.weatherClient = weatherClient;
+        this.ioExecutor = ioExecutor;
+        this.weatherCodes = weatherCodes;
+        this.weatherTimeout = weatherTimeout;
+        this.saveTransaction = new TransactionTemplate(transactionManager);
+        this.saveTransaction.setTimeout((int) Math.max(1, saveTimeout.toSeconds()));
+    }
+
+    public CompletableFuture<TodoSaveResponse> saveTodo(AuthUser authUser, TodoSaveRequest todoSaveRequest) {
+        return CompletableFuture
+                .supplyAsync(weatherClient::getTodayWeather, ioExecutor.executor())
+                .orTimeout(weatherTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .thenApplyAsync(weather -> ReadWriteRoutingDataSource.callAsUser(authUser.getId(), () -> {
+                            weatherCodes.codeOrRegister(weather);
+                            return saveTransaction.execute(status -> todoService.saveTodo(authUser, todoSaveRequest, weather));
+                        }),
+                        ioExecutor.executor())
+                .exceptionallyCompose(ex -> CompletableFuture.failedFuture(translate(ex)));
+    }
+
+    // 제한 시간 초과는 504로, 나머지는 원래 예외 그대로 (CompletionException은 벗겨서 전달)
+    private Throwable translate(Throwable ex) {
+        Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+        if (cause instanceof TimeoutException) {
+            return new GatewayTimeoutException("날씨 조회 시간이 초과되었습니다.");
+        }
+        if (cause instanceof TransactionTimedOutException || cause instanceof QueryTimeoutException) {
+            return new GatewayTimeoutException("할 일 저장 시간이 초과되었습니다.");
+        }
+        return cause;
+    }
+}
@@ -0,0 +1,42 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.repository.TodoCounterRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 댓글/담당자 카운터 보정 작업
+ * - 카운터를 거치지 않은 변경(직접 SQL, 장애 등)으로 생긴 차이를 실제 행 수 기준으로 맞춤
+ * - id 구간(app.todo.counter-reconcile.chunk-size)마다 UPDATE 한 번, 구간마다 자동 커밋하여 락 유지 시간을 짧게 유지
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TodoCounterReconciler {
+
+    private final TodoCounterRepository todoCounterRepository;
+
+    @Value("${app.todo.counter-reconcile.chunk-size:1000}")
+    private int chunkSize;
+
+    @Scheduled(cron = "${app.todo.counter-reconcile.cron:0 30 3 * * *}")
+    public void reconcile() {
+        Long maxId = todoCounterRepository.findMaxTodoId();
+        if (maxId == null) {
+            return;
+        }
+
+        int repaired = 0;
+        for (long fromId = 1; fromId <= maxId; fromId += chunkSize) {
+            repaired += todoCounterRepository.reconcile(fromId, fromId + chunkSize);
+        }
+
+        if (repaired > 0) {
+            todoCounterRepository.evictAll();
+            log.warn("할 일 카운터 보정: {}건", repaired);
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.todo.dto.request.TodoImportLine;
+import org.example.expert.domain.todo.dto.response.TodoImportResponse;
+import org.example.expert.domain.todo.event.TodosUpdatedEvent;
+import org.example.expert.domain.todo.repository.TodoImportRepository;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.weather.converter.WeatherCodes;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.RestClientException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 할 일 대량 가져오기 (NDJSON)
+ * - 요청 본문을 한 줄씩 읽어 파싱/검증 → 전체 본문을 메모리에 올리지 않음
+ * - batch-size 줄마다 작성자 존재 확인(IN 조회 1회) 후 할 일/담당자를 JDBC 배치로 INSERT, 배치마다 별도 트랜잭션으로 커밋
+ * - 날씨는 줄에 값이 없으면 날씨 API 스냅샷(캐시)에서 조회 → 건마다 외부 호출 없음
+ *   조회 실패는 배치 안에서 기억 (날짜에 데이터가 없으면 그 날짜, API 호출 실패면 배치 나머지 전체) → 장애 중 줄마다 다시 호출하지 않음
+ * - 새 날씨는 배치 트랜잭션 전에 사전에 등록 (트랜잭션 안에서 커넥션을 하나 더 잡지 않음)
+ * - 실패한 줄은 줄 번호와 사유를 응답에 담고 나머지는 계속 처리
+ * - 배치 저장이 실패하면 반씩 나눠 다시 저장 → 실제로 저장되지 않는 줄만 실패로 보고
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TodoImportService {
+
+    private final TodoImportRepository todoImportRepository;
+    private final UserRepository userRepository;
+    private final WeatherClient weatherClient;
+    private final WeatherCodes weatherCodes;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.todo.import.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.todo.import.max-reported-errors:1000}")
+    private int maxReportedErrors;
+
+    @Value("${app.todo.import.progress-log-every:10000}")
+    private int progressLogEvery;
+
+    public TodoImportResponse importTodos(InputStream body) throws IOException {
+        long started = System.currentTimeMillis();
+        ObjectReader lineReader = objectMapper.readerFor(TodoImportLine.class);
+        Progress progress = new Progress();
+        List<ParsedLine> batch = new ArrayList<>(batchSize);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            String text;
+            long lineNumber = 0;
+            while ((text = reader.readLine()) != null) {
+                lineNumber++;
+                if (text.isBlank()) {
+                    continue;
+                }
+                progress.total++;
+
+                ParsedLine parsed = parse(lineReader, lineNumber, text, progress);
+                if (parsed != null) {
+                    batch.add(parsed);
+                }
+                if (batch.size() >= batchSize) {
+                    flush(batch, progress);
+                    batch.clear();
+                }
+                if (progress.total % progressLogEvery == 0) {
+                    log.info("할 일 가져오기 진행 중: {}줄 처리, 성공 {}, 실패 {}",
+                            progress.total, progress.imported, progress.failed);
+                }
+            }
+        }
+        flush(batch, progress);
+
+        log.info("할 일 가져오기 완료: {}줄, 성공 {}, 실패 {}, {}ms",
+                progress.total, progress.imported, progress.failed, System.currentTimeMillis() - started);
+        return new TodoImportResponse(progress.total, progress.imported, progress.failed,
+                progress.errors, progress.failed > progress.errors.size());
+    }
+
+    private ParsedLine parse(ObjectReader lineReader, long lineNumber, String text, Progress progress) {
+        TodoImportLine line;
+        try {
+            line = lineReader.readValue(text);
+        } catch (JsonProcessingException e) {
+            progress.fail(lineNumber, "JSON 형식 오류: " + e.getOriginalMessage());
+            return null;
+        }
+
+        Set<ConstraintViolation<TodoImportLine>> violations = validator.validate(line);
+        if (!violations.isEmpty()) {
+            progress.fail(lineNumber, violations.stream()
+                    .map(v -> v.getPropertyPath() + " " + v.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+            return null;
+        }
+        return new ParsedLine(lineNumber, line);
+    }
+
+    private void flush(List<ParsedLine> batch, Progress progress) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        // 작성자 존재 여부를 배치당 IN 조회 한 번으로 확인 (primary)
+        Set<Long> userIds = batch.stream().map(p -> p.line().getUserId()).collect(Collectors.toSet());
+        Set<Long> existingUserIds = new HashSet<>(userRepository.findExistingIds(userIds));
+
+        LocalDateTime now = LocalDateTime.now();
+        WeatherLookups weatherLookups = new WeatherLookups();
+        List<ParsedLine> accepted = new ArrayList<>(batch.size());
+        List<TodoImportRepository.Row> rows = new ArrayList<>(batch.size());
+        for (ParsedLine parsed : batch) {
+            TodoImportLine line = parsed.line();
+            if (!existingUserIds.contains(line.getUserId())) {
+                progress.fail(parsed.lineNumber(), "존재하지 않는 유저입니다: " + line.getUserId());
+                continue;
+            }
+
+            LocalDateTime createdAt = line.getCreatedAt() != null ? line.getCreatedAt() : now;
+            LocalDateTime modifiedAt = line.getModifiedAt() != null ? line.getModifiedAt() : createdAt;
+            String weather = line.getWeather();
+            if (weather == null) {
+                try {
+                    weather = weatherLookups.weatherOf(createdAt.toLocalDate());
+                } catch (ServerException e) {
+                    progress.fail(parsed.lineNumber(), e.getMessage());
+                    continue;
+                }
+            }
+            if (!weatherLookups.register(weather, parsed, progress)) {
+                continue;
+            }
+
+            accepted.add(parsed);
+            rows.add(new TodoImportRepository.Row(
+                    line.getTitle(), line.getContents(), weather, line.getUserId(), createdAt, modifiedAt));
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        save(accepted, rows, progress);
+    }
+
+    /**
+     * 배치 단위 트랜잭션: 실패 시 이 배치만 롤백, 검색 색인은 커밋 후 반영
+     * - 실패하면 반으로 나눠 각각 다시 저장, 한 줄까지 나눠도 실패하면 그 줄을 실패로 기록
+     *   (문제 줄이 k개면 추가 저장 시도는 약 2k·log(배치 크기)회)
+     */
+    private void save(List<ParsedLine> accepted, List<TodoImportRepository.Row> rows, Progress progress) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                List<Long> todoIds = todoImportRepository.insertTodosWithOwners(rows);
+                eventPublisher.publishEvent(new TodosUpdatedEvent(todoIds));
+            });
+            progress.imported += rows.size();
+        } catch (DataAccessException e) {
+            if (rows.size() == 1) {
+                progress.fail(accepted.get(0).lineNumber(), "저장 실패: " + e.getMostSpecificCause().getMessage());
+                return;
+            }
+            log.warn("할 일 가져오기 배치 저장 실패 ({}건), 나눠서 다시 저장: {}", rows.size(), e.getMostSpecificCause().getMessage());
+            int half = rows.size() / 2;
+            save(accepted.subList(0, half), rows.subList(0, half), progress);
+            save(accepted.subList(half, rows.size()), rows.subList(half, rows.size()), progress);
+        }
+    }
+
+    private record ParsedLine(long lineNumber, TodoImportLine line) {
+    }
+
+    // 배치 하나 동안의 날씨 조회/등록 실패 기록
+    private class WeatherLookups {
+
+        private final Map<LocalDate, String> missingDates = new HashMap<>();
+        private final Map<String, String> failedRegistrations = new HashMap<>();
+        private String unavailable;
+
+        // 스냅샷 조회, 실패는 ServerException으로 다시 던짐
+
+        private String weatherOf(LocalDate date) {
+            if (unavailable != null) {
+                throw new ServerException(unavailable);
+            }
+            String missing = missingDates.get(date);
+            if (missing != null) {
+                throw new ServerException(missing);
+            }
+            try {
+                return weatherClient.getWeatherFromSnapshot(date);
+            } catch (ServerException e) {
+                missingDates.put(date, e.getMessage());
+                throw e;
+            } catch (RestClientException e) {
+                unavailable = "날씨 조회 실패: " + e.getMessage();
+                throw new ServerException(unavailable);
+            }
+        }
+
+        // 사전에 있으면 메모리 조회만, 없으면 자동 커밋 INSERT로 등록 (배치 트랜잭션 밖), 실패하면 줄을 실패로 기록
+        private boolean register(String weather, ParsedLine parsed, Progress progress) {
+            String failure = failedRegistrations.get(weather);
+            if (failure == null) {
+                try {
+                    weatherCodes.codeOrRegister(weather);
+                    return true;
+                } catch (DataAccessException e) {
+                    failure = "날씨 등록 실패: " + e.getMostSpecificCause().getMessage();
+                    failedRegistrations.put(weather, failure);
+                }
+            }
+            progress.fail(parsed.lineNumber(), failure);
+            return false;
+        }
+    }
+
+    // 진행 상황 집계 (요청 스레드 하나에서만 사용)
+    private class Progress {
+
+        private long total;
+        private long imported;
+        private long failed;
+        private final List<TodoImportResponse.LineError> errors = new ArrayList<>();
+
+        private void fail(long lineNumber, String message) {
+            failed++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new TodoImportResponse.LineError(lineNumber, message));
+            }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.repository.TodoReactiveRepository;
+import org.example.expert.domain.weather.converter.WeatherCodes;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 할 일 논블로킹 조회 (/rx/todos)
+ * - TodoService의 조회와 같은 조건/정렬/응답 DTO, DB 접근만 R2DBC
+ * - 보관 테이블 합치기(includeArchived)는 지원하지 않음, 단건 조회만 보관 테이블로 대체 조회
+ * - 날씨 코드는 메모리 사전에서만 찾고, 없을 때의 사전 재로딩(JDBC)은 boundedElastic 스레드에서 실행
+ */
+@Service
+@RequiredArgsConstructor
+public class TodoReactiveService {
+
+    private final TodoReactiveRepository todoReactiveRepository;
+    private final WeatherCodes weatherCodes;
+
+    // withTotal이 false면 COUNT 없이 size + 1개로 다음 페이지 여부만 판단 (Slice), true면 전체 건수 포함 (Page)
+    public Mono<Slice<TodoResponse>> getTodos(int page, int size, String weather, LocalDate from, LocalDate to, boolean withTotal) {
+        if (from != null && to != null && from.isAfter(to)) {
+            return Mono.error(new InvalidRequestException("from은 to보다 늦을 수 없습니다."));
+        }
+        Pageable pageable = PageRequest.of(page - 1, size);
+        LocalDateTime fromAt = from == null ? null : from.atStartOfDay();
+        LocalDateTime toAt = to == null ? null : to.plusDays(1).atStartOfDay();
+
+        if (weather == null) {
+            return findTodos(null, fromAt, toAt, pageable, withTotal);
+        }
+        return resolveWeatherCode(weather)
+                .flatMap(weatherCode -> findTodos(weatherCode, fromAt, toAt, pageable, withTotal))
+                .switchIfEmpty(Mono.fromSupplier(() -> Page.<TodoResponse>empty(pageable))); // 사전에 없는 날씨는 일치하는 행이 없음
+    }
+
+    public Mono<TodoResponse> getTodo(long todoId) {
+        return todoReactiveRepository.findById(todoId)
+                .switchIfEmpty(Mono.defer(() -> todoReactiveRepository.findArchivedById(todoId)))
+                .switchIfEmpty(Mono.error(() -> new InvalidRequestException("Todo not found")));
+    }
+
+    // 사전에 없으면 빈 Mono
+    private Mono<Short> resolveWeatherCode(String weather) {
+        Short cached = weatherCodes.cachedCodeOf(weather);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        return Mono.fromCallable(() -> weatherCodes.codeOf(weather)).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private Mono<Slice<TodoResponse>> findTodos(Short weatherCode, LocalDateTime fromAt, LocalDateTime toAt,
+                                                Pageable pageable, boolean withTotal) {
+        int size = pageable.getPageSize();
+        if (!withTotal) {
+            return todoReactiveRepository.findPage(weatherCode, fromAt, toAt, pageable.getOffset(), size + 1)
+                    .collectList()
+                    .map(rows -> {
+                        boolean hasNext = rows.size() > size;
+                        return new SliceImpl<>(hasNext ? rows.subList(0, size) : rows, pageable, hasNext);
+                    });
+        }
+        return Mono.zip(
+                todoReactiveRepository.findPage(weatherCode, fromAt, toAt, pageable.getOffset(), size).collectList(),
+                todoReactiveRepository.count(weatherCode, fromAt, toAt)
+        ).map(result -> new PageImpl<>(result.getT1(), pageable, result.getT2()));
+    }
+}
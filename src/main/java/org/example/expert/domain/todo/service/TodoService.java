@@ -2,34 +2,101 @@ package org.example.expert.domain.todo.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.archive.entity.ArchivedTodo;
+import org.example.expert.domain.archive.repository.ArchivedCommentRepository;
+import org.example.expert.domain.archive.repository.ArchivedManagerRepository;
+import org.example.expert.domain.archive.repository.ArchivedTodoRepository;
+import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.ConflictException;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.PreconditionFailedException;
+import org.example.expert.domain.manager.repository.ManagerRepository;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoUpdateRequest;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoScrollResponse;
+import org.example.expert.domain.todo.dto.response.TodoSummaryResponse;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.event.TodosDeletedEvent;
+import org.example.expert.domain.todo.event.TodosUpdatedEvent;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.repository.TodoSpecifications;
+import org.example.expert.domain.todo.search.TodoSearchIndex;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.weather.converter.WeatherCodes;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.ObjectUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class TodoService {
 
+    // 보관 테이블과 합쳐 정렬할 때 사용 (TodoRepository.LATEST_FIRST와 같은 순서)
+    private static final Comparator<TodoResponse> LATEST_FIRST =
+            latestFirst(TodoResponse::getModifiedAt, TodoResponse::getId);
+    private static final Comparator<TodoSummaryResponse> SUMMARY_LATEST_FIRST =
+            latestFirst(TodoSummaryResponse::getModifiedAt, TodoSummaryResponse::getId);
+
+    // 보관 테이블 포함 페이지 조회에서 허용하는 최대 깊이 (offset + size), 더 깊은 페이지는 /todos/scroll
+    static final int MAX_ARCHIVE_INCLUDED_WINDOW = 1000;
+
     private final TodoRepository todoRepository;
     private final WeatherClient weatherClient;
+    private final CommentRepository commentRepository;
+    private final ManagerRepository managerRepository;
+    private final ArchivedTodoRepository archivedTodoRepository;
+    private final ArchivedCommentRepository archivedCommentRepository;
+    private final ArchivedManagerRepository archivedManagerRepository;
+    private final TodoSearchIndex todoSearchIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final WeatherCodes weatherCodes;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
-    public TodoSaveResponse saveTodo(AuthUser authUser, TodoSaveRequest todoSaveRequest) {
-        User user = User.fromAuthUser(authUser);
+    // 요약 목록의 본문 미리보기 길이 (문자 수)
+    @Value("${app.todo.preview-length:100}")
+    private int previewLength;
 
+    // 날씨 조회(외부 호출)와 새 날씨 등록은 트랜잭션 밖에서, INSERT만 트랜잭션 안에서
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TodoSaveResponse saveTodo(AuthUser authUser, TodoSaveRequest todoSaveRequest) {
         String weather = weatherClient.getTodayWeather();
+        weatherCodes.codeOrRegister(weather);
+        return transactionTemplate.execute(status -> saveTodo(authUser, todoSaveRequest, weather));
+    }
+
+    // 날씨를 미리 조회/등록한 경우 (TodoAsyncService): INSERT만 수행
+    @Transactional
+    public TodoSaveResponse saveTodo(AuthUser authUser, TodoSaveRequest todoSaveRequest, String weather) {
+        User user = User.fromAuthUser(authUser);
 
         Todo newTodo = new Todo(
                 todoSaveRequest.getTitle(),
@@ -48,39 +115,337 @@ public class TodoService {
         );
     }
 
-    // Todo 목록 조회: @EntityGraph를 사용하여 'user' 연관 엔티티 즉시 로딩
-    public Page<TodoResponse> getTodos(int page, int size) {
-        Pageable pageable = PageRequest.of(page - 1, size);
+    /**
+     * Todo 목록 조회 (페이지 번호 방식)
+     * - weather / from / to 는 선택 조건, 전달된 조건만 WHERE에 포함
+     * - @EntityGraph로 'user' 연관 엔티티 즉시 로딩
+     * - includeArchived면 보관 테이블까지 포함 (getArchiveIncludedPage)
+     */
+    public Page<TodoResponse> getTodos(int page, int size, String weather, LocalDate from, LocalDate to, boolean includeArchived) {
+        Pageable pageable = PageRequest.of(page - 1, size, TodoRepository.LATEST_FIRST);
+        Specification<Todo> spec = toSpecification(weather, from, to);
+        if (includeArchived) {
+            Specification<ArchivedTodo> archiveSpec = toSpecification(weather, from, to);
+            return getArchiveIncludedPage(pageable, spec, archiveSpec,
+                    limit -> findLatestIncludingArchive(spec, archiveSpec, limit));
+        }
+
+        Page<Todo> todos = todoRepository.findAll(spec, pageable);
+
+        // Todo -> TodoResponse로 변환 (본문은 한 번에 조회)
+        return new PageImpl<>(toTodoResponses(todos.getContent()), pageable, todos.getTotalElements());
+    }
+
+    /**
+     * Todo 목록 조회 (페이지 번호 방식, 전체 건수 없음)
+     * - size + 1개를 읽어 다음 페이지 존재 여부만 판단 → COUNT 쿼리 없음
+     * - 조건/정렬/응답은 getTodos와 동일
+     */
+    public Slice<TodoResponse> getTodoSlice(int page, int size, String weather, LocalDate from, LocalDate to, boolean includeArchived) {
+        Pageable pageable = PageRequest.of(page - 1, size, TodoRepository.LATEST_FIRST);
+        Specification<Todo> spec = toSpecification(weather, from, to);
+        if (includeArchived) {
+            Specification<ArchivedTodo> archiveSpec = toSpecification(weather, from, to);
+            return getArchiveIncludedSlice(pageable, limit -> findLatestIncludingArchive(spec, archiveSpec, limit));
+        }
+
+        Slice<Todo> todos = toSlice(todoRepository.findLatest(spec, pageable.getOffset(), size + 1), pageable);
+        return new SliceImpl<>(toTodoResponses(todos.getContent()), pageable, todos.hasNext());
+    }
+
+    /**
+     * Todo 요약 목록 조회 (view=summary)
+     * - 본문은 SQL에서 앞 previewLength자만 잘라 조회 → 행마다 큰 본문을 읽지/보내지 않음
+     * - 전체 본문은 단건 조회(getTodo)에서만 반환
+     * - includeArchived면 보관 테이블도 같은 방식으로 잘라 조회해 병합
+     */
+    public Page<TodoSummaryResponse> getTodoSummaries(int page, int size, String weather, LocalDate from, LocalDate to, boolean includeArchived) {
+        Pageable pageable = PageRequest.of(page - 1, size, TodoRepository.LATEST_FIRST);
+        Specification<Todo> spec = toSpecification(weather, from, to);
+        if (includeArchived) {
+            Specification<ArchivedTodo> archiveSpec = toSpecification(weather, from, to);
+            return getArchiveIncludedPage(pageable, spec, archiveSpec,
+                    limit -> findSummariesIncludingArchive(spec, archiveSpec, limit));
+        }
+
+        List<TodoSummaryResponse> content = todoRepository.findSummaries(spec, pageable.getOffset(), size, previewLength);
+
+        // 첫 페이지가 덜 찼으면 COUNT 쿼리 생략
+        return PageableExecutionUtils.getPage(content, pageable, () -> todoRepository.count(spec));
+    }
+
+    // Todo 요약 목록 조회 (전체 건수 없음, size + 1개로 다음 페이지 여부 판단)
+    public Slice<TodoSummaryResponse> getTodoSummarySlice(int page, int size, String weather, LocalDate from, LocalDate to, boolean includeArchived) {
+        Pageable pageable = PageRequest.of(page - 1, size, TodoRepository.LATEST_FIRST);
+        Specification<Todo> spec = toSpecification(weather, from, to);
+        if (includeArchived) {
+            Specification<ArchivedTodo> archiveSpec = toSpecification(weather, from, to);
+            return getArchiveIncludedSlice(pageable, limit -> findSummariesIncludingArchive(spec, archiveSpec, limit));
+        }
 
-        // @EntityGraph가 적용된 findAllByOrderByModifiedAtDesc 메서드 호출
-        Page<Todo> todos = todoRepository.findAllByOrderByModifiedAtDesc(pageable);
+        return toSlice(todoRepository.findSummaries(spec, pageable.getOffset(), size + 1, previewLength), pageable);
+    }
+
+    /**
+     * Todo 목록 조회 (키셋 방식)
+     * - 직전 페이지 마지막 항목의 (modifiedAt, id)를 커서로 받아 그 이후만 조회 → 깊은 페이지도 OFFSET 스캔 없음
+     * - size + 1개를 읽어 다음 페이지 존재 여부 판단 (COUNT 쿼리 없음)
+     * - includeArchived면 두 테이블에서 각각 size + 1개를 읽어 병합 (보관 시 id가 유지되므로 같은 커서 사용)
+     * - 응답은 요약 목록과 같이 본문 미리보기만 포함 (전체 본문은 단건 조회)
+     */
+    public TodoScrollResponse scrollTodos(String weather, LocalDate from, LocalDate to, String cursor, int size, boolean includeArchived) {
+        Specification<Todo> spec = toSpecification(weather, from, to);
+        Specification<ArchivedTodo> archiveSpec = toSpecification(weather, from, to);
+        if (cursor != null) {
+            TodoCursor position = TodoCursor.decode(cursor);
+            spec = spec.and(TodoSpecifications.after(position.modifiedAt(), position.id()));
+            archiveSpec = archiveSpec.and(TodoSpecifications.after(position.modifiedAt(), position.id()));
+        }
+
+        List<TodoSummaryResponse> todos = includeArchived
+                ? findSummariesIncludingArchive(spec, archiveSpec, size + 1)
+                : todoRepository.findSummaries(spec, 0, size + 1, previewLength);
+
+        String nextCursor = null;
+        if (todos.size() > size) {
+            todos = todos.subList(0, size);
+            TodoSummaryResponse last = todos.get(size - 1);
+            nextCursor = new TodoCursor(last.getModifiedAt(), last.getId()).encode();
+        }
+
+        return new TodoScrollResponse(todos, nextCursor);
+    }
+
+    // Todo 단건 조회: @EntityGraph를 사용하여 'user' 연관 엔티티 즉시 로딩, 없으면 보관 테이블에서 조회
+    public TodoResponse getTodo(long todoId) {
+        return todoRepository.findById(todoId)
+                .map(todo -> toTodoResponse(todo, todo.getContents()))   // 본문은 지연 로딩 (SELECT 1회 추가)
+                .or(() -> archivedTodoRepository.findById(todoId).map(TodoService::toTodoResponse))
+                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+    }
+
+    /**
+     * Todo 부분 수정: 전달된 컬럼만 조건부 UPDATE 한 번으로 반영
+     * - 조건: id + 작성자 + 버전(If-Match) 일치 → 비관적 락 없이 동시 수정 감지
+     * - 응답은 수정 후 전체 표현(GET과 같은 TodoResponse, 새 버전 포함), UPDATE 뒤 프로젝션 SELECT 1회
+     * - 실패(0건)한 경우에만 원인 판별을 위해 작성자 id를 조회
+     * - 보관된 할 일은 읽기 전용이므로 ConflictException(409)
+     */
+    @Transactional
+    public TodoResponse updateTodo(AuthUser authUser, long todoId, long expectedVersion, TodoUpdateRequest todoUpdateRequest) {
+        LocalDateTime modifiedAt = LocalDateTime.now();
+
+        int updated = todoRepository.updatePartially(
+                todoId,
+                authUser.getId(),
+                expectedVersion,
+                todoUpdateRequest.getTitle(),
+                todoUpdateRequest.getContents(),
+                modifiedAt
+        );
+
+        if (updated == 0) {
+            Long ownerId = todoRepository.findOwnerIdById(todoId).orElseThrow(() -> archivedTodoRepository.existsById(todoId)
+                    ? new ConflictException("보관된 할 일은 수정할 수 없습니다.")
+                    : new InvalidRequestException("Todo not found"));
+            if (!ObjectUtils.nullSafeEquals(authUser.getId(), ownerId)) {
+                throw new InvalidRequestException("일정을 만든 유저만 수정할 수 있습니다.");
+            }
+            throw new PreconditionFailedException("다른 요청에 의해 이미 수정된 할 일입니다. 최신 상태를 다시 조회해 주세요.");
+        }
+
+        // JDBC UPDATE는 엔티티 이벤트가 없으므로 검색 색인 갱신 이벤트를 직접 발행 (커밋 후 반영)
+        eventPublisher.publishEvent(new TodosUpdatedEvent(List.of(todoId)));
+
+        // 같은 트랜잭션(primary)에서 2차 캐시를 거치지 않고 조회 → 방금 반영한 값과 버전
+        return todoRepository.findResponseById(todoId)
+                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+    }
+
+    /**
+     * Todo 삭제: 댓글 → 담당자 → 할 일 순서로 집합 단위 DELETE
+     * - 엔티티를 로딩하지 않으므로 댓글 수와 무관하게 메모리/쿼리 수가 일정함 (SELECT 1 + DELETE 3)
+     * - 운영 테이블에 없으면 보관 테이블에서 같은 방식으로 삭제 (deleteArchivedTodo)
+     */
+    @Transactional
+    public void deleteTodo(AuthUser authUser, long todoId) {
+        Long ownerId = todoRepository.findOwnerIdById(todoId).orElse(null);
+        if (ownerId == null) {
+            deleteArchivedTodo(authUser, todoId);
+            return;
+        }
 
-        // Todo -> TodoResponse로 변환
-        return todos.map(todo -> new TodoResponse(
+        if (!ObjectUtils.nullSafeEquals(authUser.getId(), ownerId)) {
+            throw new InvalidRequestException("일정을 만든 유저만 삭제할 수 있습니다.");
+        }
+
+        List<Long> todoIds = List.of(todoId);
+        commentRepository.deleteAllByTodoIdIn(todoIds);
+        managerRepository.deleteAllByTodoIdIn(todoIds);
+        todoRepository.deleteAllByIdIn(todoIds);
+
+        eventPublisher.publishEvent(new TodosDeletedEvent(todoIds));
+    }
+
+    // 보관된 할 일 삭제: 보관 댓글 → 보관 담당자 → 보관 할 일 (검색 색인에서는 보관 시 이미 빠졌으므로 이벤트 없음)
+    private void deleteArchivedTodo(AuthUser authUser, long todoId) {
+        Long ownerId = archivedTodoRepository.findOwnerIdById(todoId)
+                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+
+        if (!ObjectUtils.nullSafeEquals(authUser.getId(), ownerId)) {
+            throw new InvalidRequestException("일정을 만든 유저만 삭제할 수 있습니다.");
+        }
+
+        List<Long> todoIds = List.of(todoId);
+        archivedCommentRepository.deleteAllByTodoIdIn(todoIds);
+        archivedManagerRepository.deleteAllByTodoIdIn(todoIds);
+        archivedTodoRepository.deleteAllByIdIn(todoIds);
+    }
+
+    /**
+     * Todo 검색: 메모리 역색인에서 관련도/최신도 순 상위 id를 구한 뒤 IN 조건 요약 조회 한 번으로 변환
+     * - 목록과 같이 본문 미리보기만 포함 (전체 본문은 단건 조회)
+     * - 색인 반영 직후 삭제된 id는 조회 결과에서 자연스럽게 빠짐
+     */
+    public List<TodoSummaryResponse> searchTodos(String query, int size) {
+        List<Long> rankedIds = todoSearchIndex.search(query, size);
+        if (rankedIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, TodoSummaryResponse> todosById = todoRepository
+                .findSummaries(TodoSpecifications.idIn(rankedIds), 0, rankedIds.size(), previewLength).stream()
+                .collect(Collectors.toMap(TodoSummaryResponse::getId, Function.identity()));
+
+        // 색인 순위 유지
+        return rankedIds.stream()
+                .map(todosById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * 보관 테이블 포함 페이지 조회
+     * - 두 테이블에서 각각 (offset + size)개를 최근 순으로 읽어 병합(findLatest)한 뒤 offset만큼 건너뜀
+     * - 읽는 양이 페이지 깊이에 비례하므로 MAX_ARCHIVE_INCLUDED_WINDOW까지만 허용, 더 깊은 페이지는 키셋 방식(scrollTodos)
+     */
+    private <T> Page<T> getArchiveIncludedPage(Pageable pageable, Specification<Todo> spec,
+                                               Specification<ArchivedTodo> archiveSpec, IntFunction<List<T>> findLatest) {
+        int window = archiveIncludedWindow(pageable, 0);
+        List<T> content = findLatest.apply(window).stream()
+                .skip(pageable.getOffset())
+                .toList();
+        long total = todoRepository.count(spec) + archivedTodoRepository.count(archiveSpec);
+
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    // 보관 테이블 포함 페이지 조회 (전체 건수 없음): 병합 범위를 1개 늘려 다음 페이지 여부 판단
+    private <T> Slice<T> getArchiveIncludedSlice(Pageable pageable, IntFunction<List<T>> findLatest) {
+        int window = archiveIncludedWindow(pageable, 1);
+        List<T> rows = findLatest.apply(window).stream()
+                .skip(pageable.getOffset())
+                .toList();
+        return toSlice(rows, pageable);
+    }
+
+    // 두 테이블에서 각각 읽을 행 수 (offset + size + extra), 최대 깊이를 넘으면 예외
+    private static int archiveIncludedWindow(Pageable pageable, int extra) {
+        long window = pageable.getOffset() + pageable.getPageSize();
+        if (window > MAX_ARCHIVE_INCLUDED_WINDOW) {
+            throw new InvalidRequestException("보관 포함 목록은 최근 " + MAX_ARCHIVE_INCLUDED_WINDOW
+                    + "건까지만 페이지 번호로 조회할 수 있습니다. 더 이전 항목은 /todos/scroll?includeArchived=true를 사용하세요.");
+        }
+        return (int) window + extra;
+    }
+
+    // size + 1개 조회 결과 → 초과분을 잘라 Slice로 (초과분이 있으면 다음 페이지 있음)
+    private static <T> Slice<T> toSlice(List<T> rows, Pageable pageable) {
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? rows.subList(0, pageable.getPageSize()) : rows, pageable, hasNext);
+    }
+
+    // 운영/보관 테이블에서 각각 최근 limit개를 읽어 병합 후 상위 limit개
+    private List<TodoResponse> findLatestIncludingArchive(Specification<Todo> spec, Specification<ArchivedTodo> archiveSpec, int limit) {
+        return Stream.concat(
+                        toTodoResponses(todoRepository.findLatest(spec, limit)).stream(),
+                        archivedTodoRepository.findLatest(archiveSpec, limit).stream().map(TodoService::toTodoResponse)
+                )
+                .sorted(LATEST_FIRST)
+                .limit(limit)
+                .toList();
+    }
+
+    // findLatestIncludingArchive의 요약 버전 (본문은 두 테이블 모두 SQL에서 잘라 조회)
+    private List<TodoSummaryResponse> findSummariesIncludingArchive(Specification<Todo> spec, Specification<ArchivedTodo> archiveSpec, int limit) {
+        return Stream.concat(
+                        todoRepository.findSummaries(spec, 0, limit, previewLength).stream(),
+                        archivedTodoRepository.findSummaries(archiveSpec, limit, previewLength).stream()
+                )
+                .sorted(SUMMARY_LATEST_FIRST)
+                .limit(limit)
+                .toList();
+    }
+
+    // 최근 수정 순, 같은 시각이면 id 역순 (TodoRepository.LATEST_FIRST와 같은 순서)
+    private static <T> Comparator<T> latestFirst(Function<T, LocalDateTime> modifiedAt, Function<T, Long> id) {
+        return Comparator.comparing(modifiedAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparing(id)
+                .reversed();
+    }
+
+    // 날짜 조건은 [from 00:00, to 다음날 00:00) 범위로 변환
+    private <T> Specification<T> toSpecification(String weather, LocalDate from, LocalDate to) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new InvalidRequestException("from은 to보다 늦을 수 없습니다.");
+        }
+        return TodoSpecifications.filter(
+                weatherCodes,
+                weather,
+                from == null ? null : from.atStartOfDay(),
+                to == null ? null : to.plusDays(1).atStartOfDay()
+        );
+    }
+
+    // 목록 변환: 지연 로딩 본문을 행마다 읽지 않고 IN 조회 한 번으로 채움
+    private List<TodoResponse> toTodoResponses(List<Todo> todos) {
+        if (todos.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, String> contentsById = new HashMap<>();
+        for (Object[] row : todoRepository.findContentsByIdIn(todos.stream().map(Todo::getId).toList())) {
+            contentsById.put((Long) row[0], (String) row[1]);
+        }
+        return todos.stream()
+                .map(todo -> toTodoResponse(todo, contentsById.get(todo.getId())))
+                .toList();
+    }
+
+    private static TodoResponse toTodoResponse(Todo todo, String contents) {
+        return new TodoResponse(
                 todo.getId(),
                 todo.getTitle(),
-                todo.getContents(),
+                contents,
                 todo.getWeather(),
                 new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
+                todo.getVersion(),
+                todo.getCommentCount(),
+                todo.getManagerCount(),
                 todo.getCreatedAt(),
                 todo.getModifiedAt()
-        ));
+        );
     }
 
-    // Todo 단건 조회: @EntityGraph를 사용하여 'user' 연관 엔티티 즉시 로딩
-    public TodoResponse getTodo(long todoId) {
-        Todo todo = todoRepository.findById(todoId)
-                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
-
-        // User 정보를 가져와서 TodoResponse 반환
-        User user = todo.getUser();
-
+    private static TodoResponse toTodoResponse(ArchivedTodo todo) {
         return new TodoResponse(
                 todo.getId(),
                 todo.getTitle(),
                 todo.getContents(),
                 todo.getWeather(),
-                new UserResponse(user.getId(), user.getEmail()),
+                new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
+                todo.getVersion(),
+                todo.getCommentCount(),
+                todo.getManagerCount(),
                 todo.getCreatedAt(),
                 todo.getModifiedAt()
         );
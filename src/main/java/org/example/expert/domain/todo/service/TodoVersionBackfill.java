@@ -0,0 +1,63 @@
+package org.example.expert.domain.todo.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.entity.Todo;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 기동 시 todos.version NULL 보정
+ * - version 컬럼이 nullable로 추가된 기존 DB에서는 이전 행이 NULL → ETag가 없고 PATCH가 항상 412
+ * - 0으로 채워 두면 GET이 ETag "0"을 내려주고 If-Match: "0"으로 수정 가능
+ * - 이미 채워진 DB에서는 MIN/MAX 확인 쿼리 한 번으로 끝
+ * - id 구간 batch-size 건씩 자동 커밋 UPDATE → 큰 트랜잭션/긴 잠금 없음, version이 NULL인 행만 갱신하므로 여러 노드가 동시에 실행해도 결과는 같음
+ * <pre>
+ * app.version.backfill.enabled=true     # false면 실행하지 않음
+ * app.version.backfill.batch-size=1000  # UPDATE 한 번에 다루는 id 구간 크기
+ * </pre>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TodoVersionBackfill {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Value("${app.version.backfill.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.version.backfill.batch-size:1000}")
+    private int batchSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (!enabled) {
+            return;
+        }
+        Map<String, Object> range = jdbcTemplate.queryForMap(
+                "SELECT MIN(id) AS min_id, MAX(id) AS max_id FROM todos WHERE version IS NULL");
+        if (range.get("min_id") == null) {
+            return;
+        }
+        long minId = ((Number) range.get("min_id")).longValue();
+        long maxId = ((Number) range.get("max_id")).longValue();
+
+        long updated = 0;
+        for (long from = minId; from <= maxId; from += batchSize) {
+            updated += jdbcTemplate.update("UPDATE todos SET version = 0 WHERE id >= ? AND id < ? AND version IS NULL",
+                    from, from + batchSize);
+        }
+        if (updated > 0) {
+            entityManagerFactory.getCache().evict(Todo.class); // version이 null로 캐시된 항목 제거
+            log.warn("할 일 version NULL 보정: {}건", updated);
+        }
+    }
+}
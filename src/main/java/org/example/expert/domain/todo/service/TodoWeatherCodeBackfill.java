@@ -0,0 +1,103 @@
+package org.example.expert.domain.todo.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.archive.entity.ArchivedTodo;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.weather.converter.WeatherCodes;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 기동 시 이전 weather(문자열) 컬럼 → weather_code 보정
+ * - ddl-auto는 weather_code 컬럼만 추가하고 이전 weather 컬럼을 남겨 두므로, 이름 변경 전 행은 weather_code가 NULL
+ * - weather 컬럼이 없는 DB(새로 만든 DB, 보정 후 컬럼을 지운 DB)에서는 확인 쿼리 한 번으로 끝
+ * - 남은 날씨 문자열을 먼저 사전에 등록(트랜잭션 밖)한 뒤, id 구간 batch-size 건씩 자동 커밋 UPDATE
+ *   → 큰 트랜잭션/긴 잠금 없음, weather_code가 NULL인 행만 갱신하므로 여러 노드가 동시에 실행해도 결과는 같음
+ * - weathers에 등록할 수 없는 값(길이 초과 등)은 경고만 남기고 해당 행은 NULL로 둠
+ * <pre>
+ * app.weather.backfill.enabled=true     # false면 실행하지 않음
+ * app.weather.backfill.batch-size=1000  # UPDATE 한 번에 다루는 id 구간 크기
+ * </pre>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TodoWeatherCodeBackfill {
+
+    private static final List<String> TABLES = List.of("todos", "todos_archive");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final WeatherCodes weatherCodes;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Value("${app.weather.backfill.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.weather.backfill.batch-size:1000}")
+    private int batchSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (!enabled) {
+            return;
+        }
+        long updated = 0;
+        for (String table : TABLES) {
+            if (hasLegacyColumn(table)) {
+                updated += backfill(table);
+            }
+        }
+        if (updated > 0) {
+            entityManagerFactory.getCache().evict(Todo.class); // 날씨가 null로 캐시된 항목 제거
+            entityManagerFactory.getCache().evict(ArchivedTodo.class);
+            log.warn("할 일 weather_code 보정: {}건", updated);
+        }
+    }
+
+    // 보정한 행 수 반환
+    private long backfill(String table) {
+        String pending = " FROM " + table + " WHERE weather_code IS NULL AND weather IS NOT NULL";
+        for (String weather : jdbcTemplate.queryForList("SELECT DISTINCT weather" + pending, String.class)) {
+            try {
+                weatherCodes.codeOrRegister(weather);
+            } catch (DataAccessException e) {
+                log.warn("날씨 등록 실패로 weather_code 보정 제외: {} ({})", weather, e.getMostSpecificCause().getMessage());
+            }
+        }
+
+        Map<String, Object> range = jdbcTemplate.queryForMap("SELECT MIN(id) AS min_id, MAX(id) AS max_id" + pending);
+        if (range.get("min_id") == null) {
+            return 0;
+        }
+        long minId = ((Number) range.get("min_id")).longValue();
+        long maxId = ((Number) range.get("max_id")).longValue();
+
+        String code = "SELECT w.id FROM weathers w WHERE w.name = " + table + ".weather";
+        String updateSql = "UPDATE " + table + " SET weather_code = (" + code + ")"
+                + " WHERE id >= ? AND id < ? AND weather_code IS NULL AND EXISTS (" + code + ")";
+        long updated = 0;
+        for (long from = minId; from <= maxId; from += batchSize) {
+            updated += jdbcTemplate.update(updateSql, from, from + batchSize);
+        }
+        return updated;
+    }
+
+    private boolean hasLegacyColumn(String table) {
+        try {
+            jdbcTemplate.queryForList("SELECT weather FROM " + table + " WHERE 1 = 0");
+            return true;
+        } catch (BadSqlGrammarException e) {
+            return false;
+        }
+    }
+}
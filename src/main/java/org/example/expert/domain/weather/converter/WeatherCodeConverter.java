@@ -0,0 +1,30 @@
+package org.example.expert.domain.weather.converter;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 날씨 문자열 ↔ weather_code(SMALLINT) 변환
+ * - Hibernate가 Spring 빈 컨테이너로 생성하므로 WeatherCodes 빈을 주입받음
+ * - 쓰기/조건 값: 사전의 코드, 없으면 예외 (새 날씨는 쓰기 트랜잭션 전에 WeatherCodes.codeOrRegister로 등록)
+ * - 읽기: 사전의 공유 문자열 인스턴스 반환
+ */
+@Component
+@Converter
+@RequiredArgsConstructor
+public class WeatherCodeConverter implements AttributeConverter<String, Short> {
+
+    private final WeatherCodes weatherCodes;
+
+    @Override
+    public Short convertToDatabaseColumn(String attribute) {
+        return attribute == null ? null : weatherCodes.requireCodeOf(attribute);
+    }
+
+    @Override
+    public String convertToEntityAttribute(Short dbData) {
+        return dbData == null ? null : weatherCodes.valueOf(dbData);
+    }
+}
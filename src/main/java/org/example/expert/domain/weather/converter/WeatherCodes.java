@@ -0,0 +1,234 @@
+package org.example.expert.domain.weather.converter;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * 날씨 문자열 ↔ 코드 양방향 사전 (메모리)
+ * - 불변 스냅샷(Map + 코드 인덱스 배열)을 volatile로 교체하는 copy-on-write 방식, 조회는 잠금 없음
+ * - 코드 → 문자열은 스냅샷이 가진 같은 인스턴스를 반환하므로 엔티티마다 문자열을 따로 들고 있지 않음
+ * - 원본(Source)은 weathers 테이블(WeatherDictionary), 원본 없이 고정 사전이 필요하면(JMH, 단위 테스트) of 사용
+ * - 원본은 첫 조회 때 읽음 (엔티티 매니저 부트스트랩 중 컨버터 생성 시점에는 스키마가 없을 수 있음)
+ * - 교체는 원본(DB) 조회를 기다리므로 synchronized 대신 ReentrantLock 사용 (가상 스레드 고정 방지)
+ * - 조회(codeOf)의 미스는 사용자 입력(?weather=)으로 만들 수 있으므로 재로딩은 RELOAD_INTERVAL마다 최대 한 번,
+ *   재로딩 후에도 없는 값은 크기 제한이 있는 부정 캐시에 기록해 같은 값으로는 원본을 다시 읽지 않음
+ * - 등록(codeOrRegister)은 트랜잭션 밖에서 호출 (쓰기 트랜잭션 전에 미리 등록, 컨버터는 등록하지 않음)
+ */
+@Component
+public class WeatherCodes {
+
+    public interface Source {
+
+        // 전체 (문자열 → 코드)
+        Map<String, Short> loadAll();
+
+        // 새 문자열 등록 후 코드 반환 (이미 있으면 기존 코드)
+        short register(String value);
+    }
+
+    private record Snapshot(Map<String, Short> codes, String[] values) {
+
+        static Snapshot of(Map<String, Short> codes) {
+            int maxCode = codes.values().stream().mapToInt(Short::intValue).max().orElse(0);
+            String[] values = new String[maxCode + 1];
+            codes.forEach((value, code) -> values[code] = value);
+            return new Snapshot(Map.copyOf(codes), values);
+        }
+
+        String valueAt(short code) {
+            return code >= 0 && code < values.length ? values[code] : null;
+        }
+    }
+
+    // 미스로 인한 재로딩 최소 간격, 부정 캐시 항목 유효 시간도 같음
+    static final Duration RELOAD_INTERVAL = Duration.ofSeconds(5);
+    static final int MAX_NEGATIVE_ENTRIES = 1024;
+
+    private final Source source;
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile Snapshot snapshot; // 원본을 처음 읽기 전에는 null
+
+    // 재로딩 후에도 없던 문자열/코드 → 기록 시각(nanoTime), 가득 차면 비움
+    private final Map<String, Long> missingValues = new ConcurrentHashMap<>();
+    private final Map<Short, Long> missingCodes = new ConcurrentHashMap<>();
+    LongSupplier nanoClock = System::nanoTime; // 테스트에서 교체 (첫 조회 전)
+    private volatile long lastReloadAt;
+
+    @Autowired
+    public WeatherCodes(Source source) {
+        this.source = source;
+    }
+
+    private WeatherCodes(Map<String, Short> codes) {
+        this.source = null;
+        this.snapshot = Snapshot.of(codes);
+    }
+
+    // 원본 없이 내용이 고정된 사전 (벤치마크 / 단위 테스트용), 등록은 불가
+    public static WeatherCodes of(Map<String, Short> codes) {
+        return new WeatherCodes(codes);
+    }
+
+    /**
+     * 문자열의 코드 조회, 사전에 없으면 null (등록하지 않음)
+     * - 다른 인스턴스가 등록했을 수 있으므로 없으면 원본을 다시 읽되, 간격 제한과 부정 캐시를 거침
+     */
+    public Short codeOf(String value) {
+        Short code = snapshot().codes().get(value);
+        if (code != null || isRecentlyMissing(missingValues, value)) {
+            return code;
+        }
+        if (reloadIfDue()) {
+            code = snapshot.codes().get(value);
+        }
+        if (code == null) {
+            markMissing(missingValues, value);
+        }
+        return code;
+    }
+
+    // 쓰기(컨버터)용: 미리 등록되지 않은 날씨면 예외
+    public short requireCodeOf(String value) {
+        Short code = codeOf(value);
+        if (code == null) {
+            throw new IllegalStateException("등록되지 않은 날씨입니다: " + value);
+        }
+        return code;
+    }
+
+    // 메모리 스냅샷에서만 조회 (원본 접근 없음), 없으면 null
+    public Short cachedCodeOf(String value) {
+        Snapshot current = snapshot;
+        return current == null ? null : current.codes().get(value);
+    }
+
+    // 쓰기 트랜잭션 전에 호출: 사전에 없으면 원본에 등록
+    public short codeOrRegister(String value) {
+        Short code = codeOf(value);
+        return code != null ? code : register(value);
+    }
+
+    /**
+     * 코드의 문자열 조회, 없으면 예외
+     * - 코드는 DB 행에서 오므로 미스는 다른 인스턴스의 등록 → 간격 제한 없이 다시 읽음
+     *   (잠금 대기 중 다른 스레드가 이미 읽었으면 생략, 다시 읽어도 없는 코드는 부정 캐시로 반복 로딩 방지)
+     */
+    public String valueOf(short code) {
+        String value = snapshot().valueAt(code);
+        if (value == null && !isRecentlyMissing(missingCodes, code)) {
+            value = reloadFor(code);
+            if (value == null) {
+                markMissing(missingCodes, code);
+            }
+        }
+        if (value == null) {
+            throw new IllegalStateException("알 수 없는 날씨 코드입니다: " + code);
+        }
+        return value;
+    }
+
+    // 메모리 스냅샷에서만 조회 (원본 접근 없음), 없으면 null
+    public String cachedValueOf(short code) {
+        Snapshot current = snapshot;
+        return current == null ? null : current.valueAt(code);
+    }
+
+    private short register(String value) {
+        lock.lock();
+        try {
+            Short code = snapshot().codes().get(value);
+            if (code != null) {
+                return code;
+            }
+            if (source == null) {
+                throw new IllegalStateException("고정된 날씨 사전에는 등록할 수 없습니다: " + value);
+            }
+            short registered = source.register(value);
+            Map<String, Short> codes = new HashMap<>(snapshot.codes());
+            codes.put(value, registered);
+            snapshot = Snapshot.of(codes);
+            missingValues.remove(value);
+            missingCodes.remove(registered);
+            return registered;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 처음 호출될 때 원본 전체를 읽음
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        lock.lock();
+        try {
+            if (snapshot == null) {
+                reload();
+            }
+            return snapshot;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 마지막 재로딩 후 RELOAD_INTERVAL이 지났을 때만 다시 읽음, 다른 스레드가 읽는 중이면 기다리지 않음
+    private boolean reloadIfDue() {
+        if (source == null || nanoClock.getAsLong() - lastReloadAt < RELOAD_INTERVAL.toNanos() || !lock.tryLock()) {
+            return false;
+        }
+        try {
+            if (nanoClock.getAsLong() - lastReloadAt < RELOAD_INTERVAL.toNanos()) {
+                return false;
+            }
+            reload();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private String reloadFor(short code) {
+        if (source == null) {
+            return null;
+        }
+        lock.lock();
+        try {
+            String value = snapshot.valueAt(code);
+            if (value == null) {
+                reload();
+                value = snapshot.valueAt(code);
+            }
+            return value;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // lock 보유 상태에서 호출, 원본이 있는 경우에만
+    private void reload() {
+        snapshot = Snapshot.of(source.loadAll());
+        lastReloadAt = nanoClock.getAsLong();
+        missingValues.clear();
+        missingCodes.clear();
+    }
+
+    private <K> boolean isRecentlyMissing(Map<K, Long> missing, K key) {
+        Long markedAt = missing.get(key);
+        return markedAt != null && nanoClock.getAsLong() - markedAt < RELOAD_INTERVAL.toNanos();
+    }
+
+    private <K> void markMissing(Map<K, Long> missing, K key) {
+        if (missing.size() >= MAX_NEGATIVE_ENTRIES) {
+            missing.clear();
+        }
+        missing.put(key, nanoClock.getAsLong());
+    }
+}
@@ -0,0 +1,27 @@
+package org.example.expert.domain.weather.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 날씨 사전 (weathers)
+ * - todos / todos_archive 는 날씨 문자열 대신 이 테이블의 id(SMALLINT)를 weather_code 로 저장
+ * - 행 추가는 WeatherDictionary 의 JDBC 경로로만 수행
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "weathers")
+public class Weather {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Short id;
+
+    @Column(nullable = false, unique = true, length = 50)
+    private String name;
+
+    public Weather(String name) {
+        this.name = name;
+    }
+}
@@ -0,0 +1,53 @@
+package org.example.expert.domain.weather.service;
+
+import org.example.expert.domain.weather.converter.WeatherCodes;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * weathers 테이블 = WeatherCodes의 원본
+ * - 전체 로드(첫 조회, 미스 시 재로딩)는 트랜잭션을 새로 열지 않고 호출 측 커넥션(없으면 자동 커밋)으로 SELECT 한 번
+ * - 등록은 트랜잭션 밖에서만 허용, 자동 커밋 INSERT 한 번
+ *   → 호출 측 트랜잭션이 롤백돼도 등록된 코드는 남음 (다른 요청이 이미 같은 코드를 썼을 수 있음)
+ *   → 트랜잭션 안에서 두 번째 커넥션(REQUIRES_NEW)을 잡지 않음, 쓰기 경로는 트랜잭션 전에 미리 등록
+ */
+@Service
+public class WeatherDictionary implements WeatherCodes.Source {
+
+    private static final String SELECT_ALL_SQL = "SELECT id, name FROM weathers";
+    private static final String SELECT_ID_SQL = "SELECT id FROM weathers WHERE name = ?";
+    private static final String INSERT_SQL = "INSERT INTO weathers (name) VALUES (?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public WeatherDictionary(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Map<String, Short> loadAll() {
+        Map<String, Short> codes = new HashMap<>();
+        jdbcTemplate.query(SELECT_ALL_SQL, rs -> {
+            codes.put(rs.getString("name"), rs.getShort("id"));
+        });
+        return codes;
+    }
+
+    @Override
+    public short register(String value) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("날씨 등록은 트랜잭션 밖에서 해야 합니다: " + value);
+        }
+        try {
+            jdbcTemplate.update(INSERT_SQL, value);
+        } catch (DuplicateKeyException e) {
+            // 다른 인스턴스가 먼저 등록한 경우 해당 코드 사용
+        }
+        return jdbcTemplate.queryForObject(SELECT_ID_SQL, Short.class, value);
+    }
+}
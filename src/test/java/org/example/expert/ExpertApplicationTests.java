@@ -1,13 +1,39 @@
 package org.example.expert;
 
+import io.r2dbc.spi.ConnectionFactory;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
 
-@SpringBootTest
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "jwt.secret.key=c2VjcmV0LWtleS1mb3ItY29udGV4dC1sb2FkLXRlc3QtMzItYnl0ZXM=",
+        "app.datasource.routing.enabled=false"
+})
 class ExpertApplicationTests {
 
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ConnectionFactory connectionFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Test
     void contextLoads() {
     }
 
+    @Test
+    void R2DBC가_있어도_라우팅을_끄면_JDBC_DataSource가_만들어진다() {
+        // then: /rx/**용 ConnectionFactory와 JPA/JdbcTemplate용 DataSource가 함께 존재
+        assertNotNull(connectionFactory);
+        assertNotNull(dataSource);
+        assertEquals(0L, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM todos", Long.class));
+    }
 }
@@ -0,0 +1,91 @@
+package org.example.expert.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.idempotency.repository.InMemoryIdempotencyStore;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdempotencyFilterTest {
+
+    private final AtomicInteger executions = new AtomicInteger();
+    private final IdempotencyFilter filter = new IdempotencyFilter(
+            new InMemoryIdempotencyStore(Duration.ofHours(1), 100, System::nanoTime),
+            new ObjectMapper(),
+            new IdempotencyProperties());
+
+    // 요청 본문을 읽어 id를 붙여 201로 응답하는 컨트롤러 대역
+    private final HttpServlet controller = new HttpServlet() {
+        @Override
+        protected void doPost(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+            String body = new String(req.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+            resp.setStatus(201);
+            resp.setContentType("application/json");
+            resp.getWriter().write("{\"id\":" + executions.incrementAndGet() + ",\"request\":" + body + "}");
+        }
+    };
+
+    @Test
+    void 같은_키로_재시도하면_컨트롤러를_거치지_않고_첫_응답을_반환한다() throws Exception {
+        // when
+        MockHttpServletResponse first = send("key-1", "{\"title\":\"a\"}");
+        MockHttpServletResponse retry = send("key-1", "{\"title\":\"a\"}");
+
+        // then
+        assertEquals(1, executions.get());
+        assertEquals(201, retry.getStatus());
+        assertEquals(first.getContentAsString(), retry.getContentAsString());
+        assertEquals("{\"id\":1,\"request\":{\"title\":\"a\"}}", retry.getContentAsString());
+        assertEquals("true", retry.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+        assertNull(first.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+    }
+
+    @Test
+    void 같은_키로_다른_본문을_보내면_422를_반환한다() throws Exception {
+        // given
+        send("key-1", "{\"title\":\"a\"}");
+
+        // when
+        MockHttpServletResponse res = send("key-1", "{\"title\":\"b\"}");
+
+        // then
+        assertEquals(422, res.getStatus());
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    void 키가_없으면_매번_실행한다() throws Exception {
+        // when
+        send(null, "{}");
+        send(null, "{}");
+
+        // then
+        assertEquals(2, executions.get());
+    }
+
+    private MockHttpServletResponse send(String key, String body) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/todos");
+        request.setAttribute("authUser", new AuthUser(1L, "a@ex.com", UserRole.USER));
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        if (key != null) {
+            request.addHeader(IdempotencyFilter.HEADER, key);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain(controller));
+        return response;
+    }
+}
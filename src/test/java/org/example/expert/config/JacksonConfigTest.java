@@ -0,0 +1,47 @@
+package org.example.expert.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.web.PagedModel;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JacksonConfigTest {
+
+    private final JacksonConfig jacksonConfig = new JacksonConfig();
+
+    @Test
+    void Blackbird_적용_전후의_직렬화_결과가_같다() throws Exception {
+        // given
+        ObjectMapper reflective = baseMapper();
+        ObjectMapper blackbird = baseMapper().registerModule(jacksonConfig.blackbirdModule());
+        LocalDateTime now = LocalDateTime.of(2024, 6, 1, 12, 0, 30);
+        PagedModel<TodoResponse> page = new PagedModel<>(new PageImpl<>(List.of(
+                new TodoResponse(1L, "title", "contents", "Sunny", new UserResponse(1L, "a@ex.com"),
+                        3L, 2, 1, now, now.plusMinutes(5))
+        ), PageRequest.of(0, 10), 1));
+
+        // when
+        String expected = reflective.writeValueAsString(page);
+        String actual = blackbird.writeValueAsString(page);
+
+        // then
+        assertEquals(expected, actual);
+        assertTrue(actual.contains("\"modifiedAt\":\"2024-06-01T12:05:30\""));
+    }
+
+    private static ObjectMapper baseMapper() {
+        return new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+}
@@ -0,0 +1,65 @@
+package org.example.expert.config;
+
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.TooManyRequestsException;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitInterceptorTest {
+
+    @Test
+    void 그룹에_지정된_경로는_그룹_한도로_제한하고_헤더를_붙인다() {
+        // given: 댓글 작성만 분당 1건
+        RateLimitProperties.Group group = new RateLimitProperties.Group();
+        group.setCapacity(1);
+        group.setPeriod(Duration.ofMinutes(1));
+        group.setRoutes(List.of("POST /todos/{todoId}/comments"));
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getGroups().put("comment-write", group);
+        RateLimitInterceptor interceptor = new RateLimitInterceptor(properties, () -> 0L);
+
+        // when
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        interceptor.preHandle(request("POST", "/todos/{todoId}/comments"), first, null);
+
+        // then
+        assertEquals("1", first.getHeader(RateLimitInterceptor.LIMIT_HEADER));
+        assertEquals("0", first.getHeader(RateLimitInterceptor.REMAINING_HEADER));
+        assertEquals("1;w=60", first.getHeader(RateLimitInterceptor.POLICY_HEADER));
+        TooManyRequestsException ex = assertThrows(TooManyRequestsException.class, () ->
+                interceptor.preHandle(request("POST", "/todos/{todoId}/comments"), new MockHttpServletResponse(), null));
+        assertEquals(60, ex.getRetryAfterSeconds());
+
+        // 다른 경로는 기본 버킷
+        MockHttpServletResponse other = new MockHttpServletResponse();
+        assertTrue(interceptor.preHandle(request("GET", "/todos"), other, null));
+        assertEquals("120", other.getHeader(RateLimitInterceptor.LIMIT_HEADER));
+    }
+
+    @Test
+    void 인증되지_않은_요청은_제한하지_않는다() {
+        // given
+        RateLimitInterceptor interceptor = new RateLimitInterceptor(new RateLimitProperties(), () -> 0L);
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/auth/signin");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when & then
+        assertTrue(interceptor.preHandle(request, response, null));
+        assertNull(response.getHeader(RateLimitInterceptor.LIMIT_HEADER));
+    }
+
+    private static MockHttpServletRequest request(String method, String pattern) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, pattern);
+        request.setAttribute("authUser", new AuthUser(1L, "a@ex.com", UserRole.USER));
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+        return request;
+    }
+}
@@ -0,0 +1,60 @@
+package org.example.expert.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    // 3초에 3건 (1초마다 1건 충전)
+    private final RateLimiter limiter = new RateLimiter("test", 3, 3 * SECOND, 4, 10 * SECOND);
+
+    @Test
+    void 용량만큼_허용한_뒤_거절하고_충전_시각을_알려준다() {
+        // when
+        RateLimiter.Decision first = limiter.tryAcquire(1L, 0);
+        limiter.tryAcquire(1L, 0);
+        RateLimiter.Decision third = limiter.tryAcquire(1L, 0);
+        RateLimiter.Decision rejected = limiter.tryAcquire(1L, 0);
+
+        // then
+        assertTrue(first.allowed());
+        assertEquals(2, first.remaining());
+        assertTrue(third.allowed());
+        assertEquals(0, third.remaining());
+        assertEquals(3 * SECOND, third.resetNanos());
+        assertFalse(rejected.allowed());
+        assertEquals(SECOND, rejected.retryAfterNanos());
+    }
+
+    @Test
+    void 시간이_지나면_충전되고_사용자별로_따로_집계한다() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire(1L, 0);
+        }
+
+        // when & then
+        assertFalse(limiter.tryAcquire(1L, SECOND / 2).allowed());
+        assertTrue(limiter.tryAcquire(1L, SECOND).allowed());
+        assertTrue(limiter.tryAcquire(2L, SECOND).allowed());
+    }
+
+    @Test
+    void 가득_찬_뒤_유휴_시간이_지난_버킷만_제거한다() {
+        // given: 1번은 0초에 1건(1초에 가득 참), 2번은 10초에 1건
+        limiter.tryAcquire(1L, 0);
+        limiter.tryAcquire(2L, 10 * SECOND);
+
+        // when
+        int evicted = limiter.evictIdle(12 * SECOND);
+
+        // then
+        assertEquals(1, evicted);
+        assertEquals(1, limiter.size());
+    }
+}
@@ -0,0 +1,153 @@
+package org.example.expert.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 두 개의 로컬 H2 DB(primary / replica)로 라우팅 동작 검증
+ * - 각 DB의 node 테이블에 자기 이름을 넣어두고, 어느 DB에서 읽었는지 확인
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private DataSource primary;
+    private DataSource replica;
+
+    @BeforeEach
+    void setUp() {
+        primary = h2("primary");
+        replica = h2("replica");
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        new JdbcTemplate(primary).execute("DROP ALL OBJECTS");
+        new JdbcTemplate(replica).execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    void readOnly_트랜잭션은_레플리카_그_외는_primary로_라우팅된다() {
+        // given
+        Routing routing = routing(List.of(replica), Duration.ZERO);
+
+        // when & then
+        assertEquals("replica", routing.read());
+        assertEquals("primary", routing.write());
+    }
+
+    @Test
+    void 헬스_체크에_실패한_레플리카는_건너뛰고_모두_실패하면_primary로_간다() {
+        // given: 첫 번째 레플리카는 연결 불가
+        DataSource broken = new DriverManagerDataSource("jdbc:invalid:nothing");
+        Routing onlyBroken = routing(List.of(broken), Duration.ZERO);
+        Routing brokenAndHealthy = routing(List.of(broken, replica), Duration.ZERO);
+
+        // when
+        onlyBroken.dataSource.checkReplicaHealth(1);
+        brokenAndHealthy.dataSource.checkReplicaHealth(1);
+
+        // then: 정상 레플리카만 라운드 로빈 대상, 정상 레플리카가 없으면 primary
+        assertEquals("primary", onlyBroken.read());
+        assertEquals("replica", brokenAndHealthy.read());
+        assertEquals("replica", brokenAndHealthy.read());
+    }
+
+    @Test
+    void 쓰기_직후_같은_유저의_읽기는_primary에_고정된다() {
+        // given: 쓰기 후 1분간 primary 고정
+        Routing routing = routing(List.of(replica), Duration.ofMinutes(1));
+        bindUser(1L);
+
+        // when & then: 쓰기 전에는 레플리카
+        assertEquals("replica", routing.read());
+
+        routing.write();
+        assertEquals("primary", routing.read());
+
+        // 다른 유저는 영향 없음
+        bindUser(2L);
+        assertEquals("replica", routing.read());
+    }
+
+    @Test
+    void 요청_스레드_밖의_쓰기도_지정한_유저를_primary에_고정한다() {
+        // given: request attribute 없음 (IoExecutor 스레드 상황)
+        Routing routing = routing(List.of(replica), Duration.ofMinutes(1));
+
+        // when
+        ReadWriteRoutingDataSource.callAsUser(1L, routing::write);
+
+        // then
+        bindUser(1L);
+        assertEquals("primary", routing.read());
+        bindUser(2L);
+        assertEquals("replica", routing.read());
+    }
+
+    private DataSource h2(String name) {
+        DriverManagerDataSource dataSource =
+                new DriverManagerDataSource("jdbc:h2:mem:" + name + "-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE node (name VARCHAR(20))");
+        jdbcTemplate.update("INSERT INTO node (name) VALUES (?)", name);
+        return dataSource;
+    }
+
+    private Routing routing(List<DataSource> replicas, Duration pinAfterWrite) {
+        ReadWriteRoutingDataSource dataSource = new ReadWriteRoutingDataSource(primary, replicas, pinAfterWrite);
+        dataSource.afterPropertiesSet();
+        return new Routing(dataSource);
+    }
+
+    private void bindUser(long userId) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute("userId", userId);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    // 트랜잭션 안에서 node 이름을 읽어 실제로 연결된 DB를 확인
+    private static class Routing {
+
+        private final ReadWriteRoutingDataSource dataSource;
+        private final JdbcTemplate jdbcTemplate;
+        private final TransactionTemplate readOnlyTx;
+        private final TransactionTemplate writeTx;
+
+        Routing(ReadWriteRoutingDataSource dataSource) {
+            this.dataSource = dataSource;
+            DataSource lazy = new LazyConnectionDataSourceProxy(dataSource);
+            DataSourceTransactionManager txManager = new DataSourceTransactionManager(lazy);
+            this.jdbcTemplate = new JdbcTemplate(lazy);
+            this.readOnlyTx = new TransactionTemplate(txManager);
+            this.readOnlyTx.setReadOnly(true);
+            this.writeTx = new TransactionTemplate(txManager);
+        }
+
+        String read() {
+            return readOnlyTx.execute(status -> currentNode());
+        }
+
+        String write() {
+            return writeTx.execute(status -> currentNode());
+        }
+
+        private String currentNode() {
+            return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+        }
+    }
+}
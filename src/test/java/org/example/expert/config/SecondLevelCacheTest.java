@@ -0,0 +1,185 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.example.expert.domain.common.converter.CompressedTextConverter;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
+import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.UserAdminService;
+import org.example.expert.domain.user.service.UserService;
+import org.example.expert.domain.weather.converter.FixedWeatherCodesConfig;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Todo / User 2차 캐시 동작 확인
+ * - 커밋 후 캐시 갱신/제거를 보기 위해 테스트 트랜잭션 없이 실행, 데이터는 매 테스트 후 직접 삭제
+ */
+@DataJpaTest
+@Import({HibernateCacheConfig.class, CompressedTextConverter.class, FixedWeatherCodesConfig.class, UserService.class, UserAdminService.class, PasswordEncoder.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheTest {
+
+    @Autowired private TodoRepository todoRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private PlatformTransactionManager transactionManager;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private UserService userService;
+    @Autowired private UserAdminService userAdminService;
+    @Autowired private PasswordEncoder passwordEncoder;
+    @Autowired private MeterBinder secondLevelCacheHitRatio;
+
+    private TransactionTemplate tx;
+    private Statistics statistics;
+    private User owner;
+    private Todo first;
+    private Todo second;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        owner = tx.execute(status -> userRepository.save(new User("owner@ex.com", passwordEncoder.encode("Password1"), UserRole.USER)));
+        first = tx.execute(status -> todoRepository.save(new Todo("first", "contents", "Sunny", owner)));
+        second = tx.execute(status -> todoRepository.save(new Todo("second", "contents", "Sunny", owner)));
+        entityManagerFactory.getCache().evictAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM managers");
+        jdbcTemplate.update("DELETE FROM comments");
+        jdbcTemplate.update("DELETE FROM todos");
+        jdbcTemplate.update("DELETE FROM users");
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void 같은_할_일을_다시_조회하면_2차_캐시에서_읽는다() {
+        // when: 트랜잭션(영속성 컨텍스트)을 달리해 두 번 조회
+        tx.executeWithoutResult(status -> todoRepository.findById(first.getId()));
+        long queriesAfterFirst = statistics.getPrepareStatementCount();
+        Todo cached = tx.execute(status -> todoRepository.findById(first.getId()).orElseThrow());
+
+        // then
+        assertEquals("first", cached.getTitle());
+        assertEquals(queriesAfterFirst, statistics.getPrepareStatementCount()); // 두 번째는 SELECT 없음
+        assertEquals(1, regionHits(Todo.class));
+        assertEquals(1, statistics.getDomainDataRegionStatistics(Todo.class.getName()).getMissCount());
+    }
+
+    @Test
+    void 권한_변경_후에는_변경된_유저를_읽는다() {
+        // given
+        tx.executeWithoutResult(status -> userRepository.findById(owner.getId()));
+        assertTrue(isCached(User.class, owner.getId()));
+
+        // when
+        userAdminService.changeUserRole(owner.getId(), new UserRoleChangeRequest("ADMIN"));
+
+        // then: 오래된 값(USER)이 캐시에서 나오지 않음
+        User reloaded = tx.execute(status -> userRepository.findById(owner.getId()).orElseThrow());
+        assertEquals(UserRole.ADMIN, reloaded.getUserRole());
+    }
+
+    @Test
+    void 비밀번호_변경_후에는_변경된_유저를_읽는다() {
+        // given
+        tx.executeWithoutResult(status -> userRepository.findById(owner.getId()));
+        assertTrue(isCached(User.class, owner.getId()));
+
+        // when
+        userService.changePassword(owner.getId(), new UserChangePasswordRequest("Password1", "NewPassword2"));
+
+        // then
+        User reloaded = tx.execute(status -> userRepository.findById(owner.getId()).orElseThrow());
+        assertTrue(passwordEncoder.matches("NewPassword2", reloaded.getPassword()));
+    }
+
+    @Test
+    void 삭제한_할_일은_캐시에서_제거된다() {
+        // given
+        tx.executeWithoutResult(status -> todoRepository.findById(first.getId()));
+        assertTrue(isCached(Todo.class, first.getId()));
+
+        // when
+        tx.executeWithoutResult(status -> {
+            jdbcTemplate.update("DELETE FROM managers WHERE todo_id = ?", first.getId());
+            todoRepository.deleteAllByIdIn(List.of(first.getId()));
+        });
+
+        // then
+        assertFalse(isCached(Todo.class, first.getId()));
+        assertTrue(tx.execute(status -> todoRepository.findById(first.getId())).isEmpty());
+    }
+
+    @Test
+    void 캐시_적중률_게이지는_리전별_적중_비율을_보고한다() {
+        // given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        secondLevelCacheHitRatio.bindTo(registry);
+
+        // when: 미스 1 + 적중 1
+        tx.executeWithoutResult(status -> todoRepository.findById(first.getId()));
+        tx.executeWithoutResult(status -> todoRepository.findById(first.getId()));
+
+        // then
+        assertEquals(0.5, registry.get("hibernate.cache.hit.ratio").tag("region", Todo.class.getName()).gauge().value());
+        assertEquals(0.0, registry.get("hibernate.cache.hit.ratio").tag("region", User.class.getName()).gauge().value());
+    }
+
+    @Test
+    void 부분_수정은_수정한_할_일만_캐시에서_제거한다() {
+        // given: 두 할 일 모두 캐시됨
+        tx.executeWithoutResult(status -> {
+            todoRepository.findById(first.getId());
+            todoRepository.findById(second.getId());
+        });
+        assertTrue(isCached(Todo.class, first.getId()));
+        assertTrue(isCached(Todo.class, second.getId()));
+
+        // when
+        int updated = tx.execute(status -> todoRepository.updatePartially(
+                first.getId(), owner.getId(), first.getVersion(), "new title", null, LocalDateTime.now()));
+
+        // then: 다른 할 일의 캐시는 유지, 수정한 할 일은 다시 읽으면 새 값
+        assertEquals(1, updated);
+        assertFalse(isCached(Todo.class, first.getId()));
+        assertTrue(isCached(Todo.class, second.getId()));
+        Todo reloaded = tx.execute(status -> todoRepository.findById(first.getId()).orElseThrow());
+        assertEquals("new title", reloaded.getTitle());
+        assertEquals(first.getVersion() + 1, reloaded.getVersion());
+    }
+
+    private long regionHits(Class<?> entity) {
+        return statistics.getDomainDataRegionStatistics(entity.getName()).getHitCount();
+    }
+
+    private boolean isCached(Class<?> entity, Object id) {
+        return entityManagerFactory.getCache().contains(entity, id);
+    }
+}
@@ -0,0 +1,59 @@
+package org.example.expert.config;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.function.ThrowingSupplier;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+
+/**
+ * 테스트에서 서비스 메서드별 SQL 문 수를 정확히 검증하기 위한 JUnit 확장
+ * - DataSource가 QueryTimingConfig의 프록시로 감싸져 있어야 함 (슬라이스 테스트는 @Import(QueryTimingConfig.class))
+ * - Hibernate와 JdbcTemplate SQL을 모두 집계 (JDBC 배치는 1건)
+ * <pre>
+ * &#64;RegisterExtension
+ * SqlStatementCountExtension sql = new SqlStatementCountExtension();
+ *
+ * List&lt;TodoSummaryResponse&gt; todos = sql.expect(1, () -> todoService.searchTodos("q", 10));
+ * </pre>
+ */
+public class SqlStatementCountExtension implements BeforeEachCallback, AfterEachCallback {
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        SqlStatementCounter.start(true);
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        SqlStatementCounter.stop();
+    }
+
+    // 집계를 0부터 다시 시작 (테스트 데이터 준비 후 호출)
+    public void reset() {
+        SqlStatementCounter.start(true);
+    }
+
+    public int count() {
+        return SqlStatementCounter.count();
+    }
+
+    // reset() 이후 실행된 SQL 문 수 검증, 실패 시 실행된 SQL 목록을 함께 출력
+    public void assertCount(int expected) {
+        List<String> statements = SqlStatementCounter.statements();
+        assertEquals(expected, SqlStatementCounter.count(),
+                () -> "실행된 SQL 문 수가 다릅니다:\n  " + String.join("\n  ", statements));
+    }
+
+    // action 실행 중 SQL 문 수가 expected와 같은지 검증하고 결과 반환
+    public <T> T expect(int expected, ThrowingSupplier<T> action) {
+        reset();
+        T result = assertDoesNotThrow(action);
+        assertCount(expected);
+        return result;
+    }
+}
@@ -0,0 +1,162 @@
+package org.example.expert.domain.archive.service;
+
+import org.example.expert.domain.archive.repository.ArchivedCommentRepository;
+import org.example.expert.domain.archive.repository.ArchivedManagerRepository;
+import org.example.expert.domain.archive.repository.ArchivedTodoRepository;
+import org.example.expert.domain.archive.repository.TodoArchiveRepository;
+import org.example.expert.domain.common.converter.CompressedTextConverter;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.weather.converter.FixedWeatherCodesConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 보관 작업을 H2에서 실제 SQL로 확인
+ * - 배치마다 별도 트랜잭션으로 커밋하므로 테스트 트랜잭션 없이 실행하고 데이터는 직접 삭제
+ */
+@DataJpaTest(properties = {
+        "app.archive.batch-size=2",
+        "app.archive.pause-ms=0"
+})
+@Import({TodoArchiveJob.class, TodoArchiveRepository.class, CompressedTextConverter.class, FixedWeatherCodesConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TodoArchiveJobTest {
+
+    private static final LocalDateTime OLD = LocalDateTime.of(2000, 1, 1, 0, 0);
+
+    @Autowired private TodoArchiveJob todoArchiveJob;
+    @Autowired private TodoArchiveRepository todoArchiveRepository;
+    @Autowired private ArchivedTodoRepository archivedTodoRepository;
+    @Autowired private ArchivedCommentRepository archivedCommentRepository;
+    @Autowired private ArchivedManagerRepository archivedManagerRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private TransactionTemplate transactionTemplate;
+
+    private long userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = userRepository.save(new User("owner@ex.com", "pw", UserRole.USER)).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (String table : List.of("comments_archive", "managers_archive", "todos_archive",
+                "comments", "managers", "todos", "users")) {
+            jdbcTemplate.update("DELETE FROM " + table);
+        }
+    }
+
+    @Test
+    void 오래된_할_일은_댓글_담당자와_함께_보관_테이블로_이동한다() {
+        // given
+        long oldTodo = insertTodo("old", OLD);
+        long recentTodo = insertTodo("recent", LocalDateTime.now());
+        long liveComment = insertComment(oldTodo, null);
+        insertComment(oldTodo, OLD); // 삭제 표시된 댓글은 보관하지 않고 삭제
+        insertManager(oldTodo);
+        for (int i = 0; i < 3; i++) {
+            insertTodo("old-" + i, OLD.plusDays(i + 1)); // 배치 크기(2)를 넘겨 여러 배치로 처리
+        }
+
+        // when
+        todoArchiveJob.archive();
+
+        // then
+        assertEquals(List.of(recentTodo), jdbcTemplate.queryForList("SELECT id FROM todos", Long.class));
+        assertEquals(4, count("todos_archive"));
+        assertEquals(List.of(liveComment), jdbcTemplate.queryForList("SELECT id FROM comments_archive", Long.class));
+        assertEquals(0, count("comments"));
+        assertEquals(1, count("managers_archive"));
+        assertEquals(0, count("managers"));
+    }
+
+    @Test
+    void 후보_조회_후_수정된_할_일은_이동하지_않는다() {
+        // given: 후보로 고른 뒤 한쪽이 수정된 상황
+        long oldTodo = insertTodo("old", OLD);
+        long touchedTodo = insertTodo("touched", OLD);
+        insertComment(touchedTodo, null);
+        insertManager(touchedTodo);
+        LocalDateTime before = LocalDateTime.now().minusDays(1);
+        List<Long> candidates = todoArchiveRepository.findArchivableIds(before, 10);
+        jdbcTemplate.update("UPDATE todos SET modified_at = ? WHERE id = ?", Timestamp.valueOf(LocalDateTime.now()), touchedTodo);
+
+        // when
+        List<Long> archived = transactionTemplate.execute(status ->
+                todoArchiveRepository.archive(candidates, before, LocalDateTime.now()));
+
+        // then
+        assertEquals(List.of(oldTodo), archived);
+        assertEquals(List.of(touchedTodo), jdbcTemplate.queryForList("SELECT id FROM todos", Long.class));
+        assertEquals(List.of(oldTodo), jdbcTemplate.queryForList("SELECT id FROM todos_archive", Long.class));
+        assertEquals(1, count("comments"));
+        assertEquals(0, count("comments_archive"));
+        assertEquals(1, count("managers"));
+        assertEquals(0, count("managers_archive"));
+    }
+
+    @Test
+    void 보관된_할_일은_댓글_담당자와_함께_보관_테이블에서_삭제된다() {
+        // given: 보관된 할 일 2건 중 하나를 삭제
+        long deletedTodo = insertTodo("deleted", OLD);
+        long keptTodo = insertTodo("kept", OLD);
+        for (long todoId : List.of(deletedTodo, keptTodo)) {
+            insertComment(todoId, null);
+            insertManager(todoId);
+        }
+        todoArchiveJob.archive();
+
+        // when: TodoService.deleteTodo의 보관 테이블 경로와 같은 순서
+        List<Long> todoIds = List.of(deletedTodo);
+        transactionTemplate.executeWithoutResult(status -> {
+            archivedCommentRepository.deleteAllByTodoIdIn(todoIds);
+            archivedManagerRepository.deleteAllByTodoIdIn(todoIds);
+            archivedTodoRepository.deleteAllByIdIn(todoIds);
+        });
+
+        // then
+        assertEquals(List.of(keptTodo), jdbcTemplate.queryForList("SELECT id FROM todos_archive", Long.class));
+        assertEquals(List.of(keptTodo), jdbcTemplate.queryForList("SELECT todo_id FROM comments_archive", Long.class));
+        assertEquals(List.of(keptTodo), jdbcTemplate.queryForList("SELECT todo_id FROM managers_archive", Long.class));
+        assertEquals(userId, archivedTodoRepository.findOwnerIdById(keptTodo).orElseThrow());
+    }
+
+    private long insertTodo(String title, LocalDateTime modifiedAt) {
+        jdbcTemplate.update("INSERT INTO todos (title, contents, user_id, version, comment_count, manager_count, created_at, modified_at) "
+                + "VALUES (?, 'contents', ?, 0, 0, 0, ?, ?)", title, userId, Timestamp.valueOf(modifiedAt), Timestamp.valueOf(modifiedAt));
+        return jdbcTemplate.queryForObject("SELECT id FROM todos WHERE title = ?", Long.class, title);
+    }
+
+    private long insertComment(long todoId, LocalDateTime deletedAt) {
+        jdbcTemplate.update("INSERT INTO comments (contents, user_id, todo_id, created_at, modified_at, deleted_at) "
+                        + "VALUES ('comment', ?, ?, ?, ?, ?)", userId, todoId, Timestamp.valueOf(OLD), Timestamp.valueOf(OLD),
+                deletedAt == null ? null : Timestamp.valueOf(deletedAt));
+        return jdbcTemplate.queryForObject("SELECT MAX(id) FROM comments", Long.class);
+    }
+
+    private void insertManager(long todoId) {
+        jdbcTemplate.update("INSERT INTO managers (user_id, todo_id) VALUES (?, ?)", userId, todoId);
+    }
+
+    private int count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+    }
+}
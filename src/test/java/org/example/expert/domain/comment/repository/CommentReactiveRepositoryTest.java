@@ -0,0 +1,140 @@
+package org.example.expert.domain.comment.repository;
+
+import io.r2dbc.spi.ConnectionFactories;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.common.converter.CompressedTextConverter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.BaseSubscriber;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 직접 작성한 R2DBC SQL을 r2dbc-h2(메모리 DB)에서 실행해 검증
+class CommentReactiveRepositoryTest {
+
+    private final DatabaseClient databaseClient = DatabaseClient.create(
+            ConnectionFactories.get("r2dbc:h2:mem:///rx-comments;DB_CLOSE_DELAY=-1"));
+    private final CommentReactiveRepository commentReactiveRepository = new CommentReactiveRepository(
+            databaseClient, new CompressedTextConverter());
+
+    @BeforeEach
+    void setUp() {
+        execute("CREATE TABLE IF NOT EXISTS users (id BIGINT PRIMARY KEY, email VARCHAR(255))");
+        execute("CREATE TABLE IF NOT EXISTS comments (id BIGINT PRIMARY KEY, contents VARCHAR(20000), "
+                + "todo_id BIGINT, user_id BIGINT, deleted_at TIMESTAMP)");
+        execute("CREATE TABLE IF NOT EXISTS comments_archive (id BIGINT PRIMARY KEY, contents VARCHAR(20000), "
+                + "todo_id BIGINT, user_id BIGINT)");
+        execute("DELETE FROM comments");
+        execute("DELETE FROM comments_archive");
+        execute("DELETE FROM users");
+        execute("INSERT INTO users (id, email) VALUES (1, 'a@ex.com'), (2, 'b@ex.com')");
+    }
+
+    @Test
+    void 삭제_표시되지_않은_댓글만_id_순으로_조회한다() {
+        // given: 3은 다른 할 일, 2는 삭제 표시
+        insertComment(4L, "네 번째", 10L, 2L, null);
+        insertComment(1L, "첫 번째", 10L, 1L, null);
+        insertComment(2L, "삭제됨", 10L, 1L, LocalDateTime.of(2024, 1, 1, 0, 0));
+        insertComment(3L, "다른 할 일", 11L, 1L, null);
+
+        // when
+        List<CommentResponse> comments = commentReactiveRepository.findByTodoId(10L).collectList().block();
+
+        // then
+        assertNotNull(comments);
+        assertEquals(List.of(1L, 4L), comments.stream().map(CommentResponse::getId).toList());
+        assertEquals("b@ex.com", comments.get(1).getUser().getEmail());
+    }
+
+    @Test
+    void 압축된_본문은_풀어서_반환한다() {
+        // given
+        String contents = "긴 댓글 ".repeat(100);
+        insertComment(1L, new CompressedTextConverter(true, 10).convertToDatabaseColumn(contents), 10L, 1L, null);
+
+        // when
+        List<CommentResponse> comments = commentReactiveRepository.findByTodoId(10L).collectList().block();
+
+        // then
+        assertNotNull(comments);
+        assertEquals(contents, comments.get(0).getContents());
+    }
+
+    @Test
+    void 요청한_만큼만_행을_내보낸다() throws InterruptedException {
+        // given
+        for (long id = 1; id <= 5; id++) {
+            insertComment(id, "댓글" + id, 10L, 1L, null);
+        }
+
+        List<Long> received = new CopyOnWriteArrayList<>();
+        CountDownLatch completed = new CountDownLatch(1);
+        BaseSubscriber<CommentResponse> subscriber = new BaseSubscriber<>() {
+            @Override
+            protected void hookOnSubscribe(Subscription subscription) {
+                request(2);
+            }
+
+            @Override
+            protected void hookOnNext(CommentResponse comment) {
+                received.add(comment.getId());
+            }
+
+            @Override
+            protected void hookOnComplete() {
+                completed.countDown();
+            }
+        };
+
+        // when: 두 건만 요청
+        commentReactiveRepository.findByTodoId(10L).subscribe(subscriber);
+
+        // then: 요청한 두 건 뒤에는 더 내보내지 않고, 나머지를 요청하면 끝까지 전달
+        assertFalse(completed.await(200, TimeUnit.MILLISECONDS));
+        assertEquals(List.of(1L, 2L), received);
+        subscriber.request(3);
+        assertTrue(completed.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), received);
+    }
+
+    @Test
+    void 보관된_댓글은_보관_테이블에서_조회한다() {
+        // given
+        databaseClient.sql("INSERT INTO comments_archive (id, contents, todo_id, user_id) VALUES (9, '보관', 10, 1)")
+                .then()
+                .block();
+
+        // when
+        List<CommentResponse> archived = commentReactiveRepository.findArchivedByTodoId(10L).collectList().block();
+
+        // then
+        assertNotNull(archived);
+        assertEquals(1, archived.size());
+        assertEquals("보관", archived.get(0).getContents());
+        assertTrue(commentReactiveRepository.findByTodoId(10L).collectList().block().isEmpty());
+    }
+
+    private void insertComment(long id, String contents, long todoId, long userId, LocalDateTime deletedAt) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql("INSERT INTO comments"
+                        + " (id, contents, todo_id, user_id, deleted_at) VALUES (:id, :contents, :todoId, :userId, :deletedAt)")
+                .bind("id", id)
+                .bind("contents", contents)
+                .bind("todoId", todoId)
+                .bind("userId", userId);
+        spec = deletedAt == null ? spec.bindNull("deletedAt", LocalDateTime.class) : spec.bind("deletedAt", deletedAt);
+        spec.then().block();
+    }
+
+    private void execute(String sql) {
+        databaseClient.sql(sql).then().block();
+    }
+}
@@ -0,0 +1,65 @@
+package org.example.expert.domain.comment.service;
+
+import org.example.expert.domain.comment.dto.request.CommentBulkDeleteRequest;
+import org.example.expert.domain.comment.dto.response.CommentBulkDeleteResponse;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.todo.repository.TodoCounterRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CommentAdminServiceTest {
+
+    @Mock private CommentRepository commentRepository;
+    @Mock private TodoCounterRepository todoCounterRepository;
+
+    @InjectMocks
+    private CommentAdminService commentAdminService;
+
+    @Test
+    void 댓글_일괄_삭제시_삭제_표시된_수만큼_할일별_댓글수를_줄인다() {
+        // given: 중복 id 포함 요청, 할 일 10에 2건 / 20에 1건 삭제 표시
+        given(commentRepository.lockLiveTodoIdsByIdIn(Set.of(1L, 2L, 3L))).willReturn(List.of(20L, 10L, 10L));
+        given(commentRepository.softDeleteAllByIdIn(eq(Set.of(1L, 2L, 3L)), any())).willReturn(3);
+
+        // when
+        CommentBulkDeleteResponse response = commentAdminService.deleteComments(
+                new CommentBulkDeleteRequest(List.of(1L, 2L, 2L, 3L)));
+
+        // then
+        assertEquals(3, response.getDeletedCount());
+        verify(todoCounterRepository).addCommentCount(10L, -2);
+        verify(todoCounterRepository).addCommentCount(20L, -1);
+    }
+
+    @Test
+    void 없거나_이미_삭제된_댓글을_삭제하면_404() {
+        // given: 잠글 행 없음
+        given(commentRepository.lockLiveTodoIdsByIdIn(List.of(1L))).willReturn(List.of());
+
+        // when & then
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+                () -> commentAdminService.deleteComment(1L));
+
+        assertEquals(HttpStatus.NOT_FOUND, ex.getStatusCode());
+        verify(commentRepository, never()).softDeleteAllByIdIn(any(), any());
+        verify(todoCounterRepository, never()).addCommentCount(anyLong(), anyInt());
+    }
+}
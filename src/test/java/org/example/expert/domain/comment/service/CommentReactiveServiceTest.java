@@ -0,0 +1,77 @@
+package org.example.expert.domain.comment.service;
+
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.repository.CommentReactiveRepository;
+import org.example.expert.domain.todo.repository.TodoReactiveRepository;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CommentReactiveServiceTest {
+
+    @Mock
+    private CommentReactiveRepository commentReactiveRepository;
+    @Mock
+    private TodoReactiveRepository todoReactiveRepository;
+    @InjectMocks
+    private CommentReactiveService commentReactiveService;
+
+    @Test
+    void 댓글은_요청한_만큼씩_전달된다() {
+        // given
+        given(todoReactiveRepository.existsById(anyLong())).willReturn(Mono.just(true));
+        given(commentReactiveRepository.findByTodoId(anyLong())).willReturn(Flux.range(1, 100)
+                .map(i -> new CommentResponse((long) i, "c" + i, new UserResponse(1L, "a@ex.com"))));
+
+        // when: 앞의 3건만 요청
+        List<CommentResponse> res = commentReactiveService.getComments(1L).limitRate(3).take(3).collectList().block();
+
+        // then
+        assertNotNull(res);
+        assertEquals(List.of(1L, 2L, 3L), res.stream().map(CommentResponse::getId).toList());
+    }
+
+    @Test
+    void 보관된_할_일의_댓글은_보관_테이블에서_조회한다() {
+        // given
+        given(todoReactiveRepository.existsById(anyLong())).willReturn(Mono.just(false));
+        given(todoReactiveRepository.existsArchivedById(anyLong())).willReturn(Mono.just(true));
+        given(commentReactiveRepository.findArchivedByTodoId(anyLong()))
+                .willReturn(Flux.just(new CommentResponse(1L, "c", new UserResponse(1L, "a@ex.com"))));
+
+        // when
+        List<CommentResponse> res = commentReactiveService.getComments(1L).collectList().block();
+
+        // then
+        assertEquals(1, res.size());
+        verify(commentReactiveRepository, never()).findByTodoId(anyLong());
+    }
+
+    @Test
+    void 할_일이_없으면_404_에러가_발생한다() {
+        // given
+        given(todoReactiveRepository.existsById(anyLong())).willReturn(Mono.just(false));
+        given(todoReactiveRepository.existsArchivedById(anyLong())).willReturn(Mono.just(false));
+
+        // when & then
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+                () -> commentReactiveService.getComments(1L).collectList().block());
+        assertEquals(HttpStatus.NOT_FOUND, ex.getStatusCode());
+    }
+}
@@ -1,11 +1,15 @@
 package org.example.expert.domain.comment.service;
 
+import org.example.expert.domain.archive.entity.ArchivedComment;
+import org.example.expert.domain.archive.repository.ArchivedCommentRepository;
+import org.example.expert.domain.archive.repository.ArchivedTodoRepository;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoCounterRepository;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
@@ -15,6 +19,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
@@ -24,6 +29,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class CommentServiceTest {
@@ -32,6 +38,12 @@ class CommentServiceTest {
     private CommentRepository commentRepository;
     @Mock
     private TodoRepository todoRepository;
+    @Mock
+    private TodoCounterRepository todoCounterRepository;
+    @Mock
+    private ArchivedTodoRepository archivedTodoRepository;
+    @Mock
+    private ArchivedCommentRepository archivedCommentRepository;
     @InjectMocks
     private CommentService commentService;
 
@@ -73,8 +85,9 @@ class CommentServiceTest {
         // when: 댓글 저장 실행
         CommentSaveResponse result = commentService.saveComment(authUser, todoId, request);
 
-        // then: 반환 결과가 null이 아님을 확인
+        // then: 반환 결과가 null이 아님을 확인, 댓글 수 1 증가
         assertNotNull(result);
+        verify(todoCounterRepository).addCommentCount(todoId, 1);
     }
 
     @Test
@@ -128,4 +141,27 @@ class CommentServiceTest {
         assertEquals(1L, list.get(0).getUser().getId());
         assertEquals("email@ex.com", list.get(0).getUser().getEmail());
     }
-}
\ No newline at end of file
+
+    @Test
+    void getComments_보관된_할일이면_보관_댓글을_반환한다() {
+        // given: 운영 테이블에는 없고 보관 테이블에만 존재
+        long todoId = 1L;
+        given(todoRepository.existsById(todoId)).willReturn(false);
+        given(archivedTodoRepository.existsById(todoId)).willReturn(true);
+
+        User user = User.fromAuthUser(new AuthUser(1L, "email@ex.com", UserRole.USER));
+        ArchivedComment comment = new ArchivedComment();
+        ReflectionTestUtils.setField(comment, "id", 7L);
+        ReflectionTestUtils.setField(comment, "contents", "old");
+        ReflectionTestUtils.setField(comment, "user", user);
+        given(archivedCommentRepository.findByTodoIdWithUser(todoId)).willReturn(List.of(comment));
+
+        // when
+        var list = commentService.getComments(todoId);
+
+        // then
+        assertEquals(1, list.size());
+        assertEquals(7L, list.get(0).getId());
+        assertEquals("old", list.get(0).getContents());
+    }
+}
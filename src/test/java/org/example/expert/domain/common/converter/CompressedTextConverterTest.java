@@ -0,0 +1,101 @@
+package org.example.expert.domain.common.converter;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompressedTextConverterTest {
+
+    private final CompressedTextConverter converter = new CompressedTextConverter(true, 100);
+
+    @Test
+    void 기준보다_긴_텍스트는_압축되고_그대로_복원된다() {
+        // given
+        String text = "오늘 할 일: 장보기, 운동, 보고서 작성. ".repeat(200);
+
+        // when
+        String stored = converter.convertToDatabaseColumn(text);
+
+        // then
+        assertTrue(CompressedTextConverter.isCompressed(stored));
+        assertTrue(stored.length() < text.length() / 4);
+        assertEquals(text, converter.convertToEntityAttribute(stored));
+    }
+
+    @Test
+    void 짧은_텍스트와_null은_그대로_저장된다() {
+        assertEquals("short", converter.convertToDatabaseColumn("short"));
+        assertNull(converter.convertToDatabaseColumn(null));
+        assertNull(converter.convertToEntityAttribute(null));
+    }
+
+    @Test
+    void 기존_평문_행은_그대로_읽힌다() {
+        String legacy = "압축 도입 전에 저장된 본문 ".repeat(50);
+
+        assertEquals(legacy, converter.convertToEntityAttribute(legacy));
+    }
+
+    @Test
+    void 압축을_꺼도_이미_압축된_행은_읽힌다() {
+        // given
+        String text = "contents ".repeat(500);
+        String stored = converter.convertToDatabaseColumn(text);
+        CompressedTextConverter disabled = new CompressedTextConverter(false, 100);
+
+        // when & then
+        assertEquals(text, disabled.convertToDatabaseColumn(text));
+        assertEquals(text, disabled.convertToEntityAttribute(stored));
+    }
+
+    @Test
+    void 마커로_시작하지만_압축_형식이_아니면_원문을_반환한다() {
+        String odd = CompressedTextConverter.MARKER + "not compressed";
+
+        assertEquals(odd, converter.convertToEntityAttribute(odd));
+    }
+
+    @Test
+    void 마커로_시작하는_평문은_이스케이프되어_보낸_값_그대로_읽힌다() {
+        // given: 클라이언트가 압축 형식을 흉내 낸 값 (압축을 끈 경우와 켠 경우 모두)
+        String forged = new CompressedTextConverter(true, 0).convertToDatabaseColumn("x".repeat(10_000));
+        CompressedTextConverter disabled = new CompressedTextConverter(false, 100);
+
+        for (CompressedTextConverter each : new CompressedTextConverter[]{disabled, converter}) {
+            // when
+            String stored = each.convertToDatabaseColumn(forged);
+
+            // then: 풀리지 않고 보낸 값 그대로
+            assertNotEquals(forged, stored);
+            assertEquals(forged, each.convertToEntityAttribute(stored));
+        }
+    }
+
+    @Test
+    void 허용_크기를_넘게_풀리는_값은_손상된_값으로_보고_풀지_않는다() {
+        // given: 이스케이프 도입 전에 저장된, 풀면 매우 커지는 값
+        String bomb = new CompressedTextConverter(true, 0, Integer.MAX_VALUE).convertToDatabaseColumn("0".repeat(1_000_000));
+        CompressedTextConverter limited = new CompressedTextConverter(true, 100, 64 * 1024);
+
+        // when
+        String read = limited.convertToEntityAttribute(bomb);
+
+        // then
+        assertTrue(bomb.length() < 10_000);
+        assertEquals(bomb, read);
+    }
+
+    @Test
+    void 허용_크기를_넘는_원문은_압축하지_않는다() {
+        // given
+        CompressedTextConverter limited = new CompressedTextConverter(true, 100, 1000);
+        String text = "contents ".repeat(500);
+
+        // when
+        String stored = limited.convertToDatabaseColumn(text);
+
+        // then
+        assertEquals(text, stored);
+        assertEquals(text, limited.convertToEntityAttribute(stored));
+    }
+}
@@ -0,0 +1,57 @@
+package org.example.expert.domain.common.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.web.PagedModel;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PageResponseTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void 전체_건수가_없으면_total을_생략한다() throws Exception {
+        // given
+        PageResponse<String> res = PageResponse.from(new SliceImpl<>(List.of("a", "b"), PageRequest.of(1, 2), true));
+
+        // when
+        String json = objectMapper.writeValueAsString(res);
+
+        // then
+        assertEquals("{\"items\":[\"a\",\"b\"],\"page\":2,\"size\":2,\"hasNext\":true}", json);
+    }
+
+    @Test
+    void 페이지는_전체_건수를_포함한다() throws Exception {
+        // given
+        PageResponse<String> res = PageResponse.from(new PageImpl<>(List.of("a"), PageRequest.of(0, 10), 1));
+
+        // when
+        String json = objectMapper.writeValueAsString(res);
+
+        // then
+        assertEquals("{\"items\":[\"a\"],\"page\":1,\"size\":10,\"hasNext\":false,\"total\":1}", json);
+    }
+
+    @Test
+    void 이전_형식으로_변환하면_페이지_메타데이터가_유지된다() {
+        // given
+        PageResponse<String> res = new PageResponse<>(List.of("a", "b"), 2, 2, true, 7L);
+
+        // when
+        PagedModel<String> legacy = res.toPagedModel();
+
+        // then
+        assertEquals(List.of("a", "b"), legacy.getContent());
+        assertNotNull(legacy.getMetadata());
+        assertEquals(1, legacy.getMetadata().number());
+        assertEquals(7, legacy.getMetadata().totalElements());
+        assertEquals(4, legacy.getMetadata().totalPages());
+    }
+}
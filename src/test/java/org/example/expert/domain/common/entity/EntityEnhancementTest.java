@@ -0,0 +1,62 @@
+package org.example.expert.domain.common.entity;
+
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.hibernate.engine.spi.ManagedEntity;
+import org.hibernate.engine.spi.PersistentAttributeInterceptable;
+import org.hibernate.engine.spi.SelfDirtinessTracker;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 빌드 타임 바이트코드 향상(build.gradle의 hibernate.enhancement) 적용 여부 확인
+ * - Gradle 빌드로 컴파일된 클래스 기준 (-PhibernateEnhance=false 빌드에서는 실패함)
+ */
+class EntityEnhancementTest {
+
+    @ParameterizedTest
+    @ValueSource(classes = {Todo.class, User.class, Comment.class, Manager.class})
+    void 엔티티는_변경_추적과_지연_로딩용으로_향상된다(Class<?> entity) {
+        assertTrue(ManagedEntity.class.isAssignableFrom(entity));
+        assertTrue(SelfDirtinessTracker.class.isAssignableFrom(entity));
+        assertTrue(PersistentAttributeInterceptable.class.isAssignableFrom(entity));
+    }
+
+    @Test
+    void 필드_변경은_엔티티가_직접_기록한다() {
+        // given
+        Todo todo = new Todo("title", "contents", "Sunny", new User("a@ex.com", "pw", UserRole.USER));
+        SelfDirtinessTracker tracker = (SelfDirtinessTracker) todo;
+        tracker.$$_hibernate_clearDirtyAttributes();
+
+        // when
+        todo.update("new title", "contents");
+
+        // then: 스냅샷 비교 없이 변경된 속성만 남음
+        assertTrue(tracker.$$_hibernate_hasDirtyAttributes());
+        assertTrue(Arrays.asList(tracker.$$_hibernate_getDirtyAttributes()).contains("title"));
+    }
+
+    @Test
+    void 담당자는_할_일의_담당자_목록에_한_번만_추가된다() {
+        // given
+        User owner = new User("owner@ex.com", "pw", UserRole.USER);
+        User member = new User("member@ex.com", "pw", UserRole.USER);
+        Todo todo = new Todo("title", "contents", "Sunny", owner);
+
+        // when: 반대편 컬렉션은 연관관계 관리로 자동 동기화
+        Manager manager = new Manager(member, todo);
+
+        // then
+        assertEquals(2, todo.getManagers().size());
+        assertTrue(todo.getManagers().contains(manager));
+    }
+}
@@ -0,0 +1,111 @@
+package org.example.expert.domain.diagnostics.service;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.diagnostics.dto.response.QueryStatsResponse;
+import org.example.expert.domain.diagnostics.enums.QuerySortKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryTimingServiceTest {
+
+    private QueryTimingService queryTimingService;
+
+    @BeforeEach
+    void setUp() {
+        queryTimingService = new QueryTimingService();
+        ReflectionTestUtils.setField(queryTimingService, "slowQueryMs", 60_000L);
+        ReflectionTestUtils.setField(queryTimingService, "maxShapes", 2);
+    }
+
+    @Test
+    void 공백과_IN_목록_길이가_달라도_같은_형태로_집계한다() {
+        // when & then
+        assertEquals("select * from todos where id in (?...)",
+                QueryTimingService.toShape("select *\n  from todos where id in (?, ?, ?)"));
+        assertEquals("select * from todos where id in (?...)",
+                QueryTimingService.toShape("select * from todos where id in (?,?)"));
+        assertEquals("select * from todos where id = ?",
+                QueryTimingService.toShape("select * from todos where id = ?"));
+    }
+
+    @Test
+    void 실행_횟수_순으로_상위_형태를_반환한다() {
+        // given
+        execute("select * from todos where id = ?", 3);
+        execute("select * from users where id = ?", 1);
+
+        // when
+        List<QueryStatsResponse> top = queryTimingService.getTopQueries(QuerySortKey.COUNT, 10);
+
+        // then
+        assertEquals(2, top.size());
+        assertEquals("select * from todos where id = ?", top.get(0).getSql());
+        assertEquals(3, top.get(0).getCount());
+        assertEquals(1, top.get(1).getCount());
+    }
+
+    @Test
+    void 형태_수가_한도를_넘으면_기타로_합산한다() {
+        // given: 한도 2
+        execute("select 1", 1);
+        execute("select 2", 1);
+        execute("select 3", 1);
+        execute("select 4", 1);
+
+        // when
+        List<QueryStatsResponse> top = queryTimingService.getTopQueries(QuerySortKey.COUNT, 10);
+
+        // then
+        assertEquals(3, top.size());
+        assertEquals(QueryTimingService.OTHER_SHAPE, top.get(0).getSql());
+        assertEquals(2, top.get(0).getCount());
+    }
+
+    @Test
+    void 느린_쿼리_로그의_문자열_파라미터는_값_대신_길이만_남긴다() throws Exception {
+        // given: UPDATE users SET password = ? WHERE email = ? AND id = ?
+        QueryInfo query = new QueryInfo("update users set password = ?, modified_at = ? where email = ? and id = ?");
+        query.getParametersList().add(List.of(
+                new ParameterSetOperation(PreparedStatement.class.getMethod("setString", int.class, String.class),
+                        new Object[]{1, "$2a$10$abcdefghijklmnopqrstuv"}),
+                new ParameterSetOperation(PreparedStatement.class.getMethod("setTimestamp", int.class, Timestamp.class),
+                        new Object[]{2, Timestamp.valueOf(LocalDateTime.of(2024, 1, 1, 0, 0))}),
+                new ParameterSetOperation(PreparedStatement.class.getMethod("setString", int.class, String.class),
+                        new Object[]{3, "owner@ex.com"}),
+                new ParameterSetOperation(PreparedStatement.class.getMethod("setLong", int.class, long.class),
+                        new Object[]{4, 7L})
+        ));
+
+        // when
+        String formatted = QueryTimingService.formatParameters(query);
+
+        // then
+        assertEquals("[[1=String(29), 2=2024-01-01 00:00:00.0, 3=String(12), 4=7]]", formatted);
+        assertFalse(formatted.contains("owner@ex.com"));
+    }
+
+    @Test
+    void 잘못된_정렬_기준이면_예외가_발생한다() {
+        assertEquals(QuerySortKey.P99, QuerySortKey.of("p99"));
+        assertThrows(InvalidRequestException.class, () -> QuerySortKey.of("latency"));
+    }
+
+    private void execute(String sql, int times) {
+        for (int i = 0; i < times; i++) {
+            List<QueryInfo> queries = List.of(new QueryInfo(sql));
+            queryTimingService.beforeQuery(new ExecutionInfo(), queries);
+            queryTimingService.afterQuery(new ExecutionInfo(), queries);
+        }
+    }
+}
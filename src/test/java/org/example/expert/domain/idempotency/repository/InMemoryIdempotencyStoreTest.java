@@ -0,0 +1,114 @@
+package org.example.expert.domain.idempotency.repository;
+
+import org.example.expert.domain.idempotency.dto.IdempotencyRecord;
+import org.example.expert.domain.idempotency.dto.StoredResponse;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryIdempotencyStoreTest {
+
+    private static final String TOKEN = "token";
+
+    private final AtomicLong now = new AtomicLong();
+    private final InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(Duration.ofNanos(100), 2, now::get);
+
+    @Test
+    void 처음_선점하면_null이고_완료_후에는_저장된_응답을_반환한다() {
+        // given
+        assertNull(store.reserve("1:a", "fp", TOKEN));
+        assertFalse(store.reserve("1:a", "fp", TOKEN).isCompleted()); // 처리 중
+
+        // when
+        store.complete("1:a", TOKEN, new StoredResponse(201, "application/json", "{}".getBytes()));
+        IdempotencyRecord record = store.reserve("1:a", "fp", TOKEN);
+
+        // then
+        assertTrue(record.isCompleted());
+        assertEquals(201, record.response().status());
+    }
+
+    @Test
+    void 선점을_해제하거나_만료되면_다시_선점할_수_있다() {
+        // given
+        store.reserve("1:a", "fp", TOKEN);
+        store.release("1:a", TOKEN);
+        assertNull(store.reserve("1:a", "fp", TOKEN));
+        store.complete("1:a", TOKEN, new StoredResponse(201, null, new byte[0]));
+
+        // when: 완료된 기록은 해제되지 않고, TTL이 지나면 없는 것으로 취급
+        store.release("1:a", TOKEN);
+        assertNotNull(store.reserve("1:a", "fp", TOKEN));
+        now.addAndGet(100);
+
+        // then
+        assertNull(store.reserve("1:a", "fp", TOKEN));
+    }
+
+    @Test
+    void 가득_차면_가장_먼저_만료될_완료_기록을_제거한다() {
+        // given
+        store.reserve("1:a", "fp", TOKEN);
+        store.complete("1:a", TOKEN, new StoredResponse(201, null, new byte[0]));
+        now.addAndGet(10);
+        store.reserve("1:b", "fp", TOKEN);
+
+        // when
+        assertNull(store.reserve("1:c", "fp", TOKEN));
+
+        // then: 처리 중인 1:b는 남고 완료된 1:a가 제거됨
+        assertEquals(2, store.size());
+        assertNull(store.reserve("1:a", "fp2", TOKEN));
+    }
+
+    @Test
+    void 해제된_키와_처리_중인_키를_건너뛰고_선점_순서대로_제거한다() {
+        // given: 최대 3건, a 해제 / b 처리 중 / c, d 완료
+        InMemoryIdempotencyStore small = new InMemoryIdempotencyStore(Duration.ofNanos(100), 3, now::get);
+        small.reserve("1:a", "fp", TOKEN);
+        small.release("1:a", TOKEN);
+        small.reserve("1:b", "fp", TOKEN);
+        now.addAndGet(1);
+        small.reserve("1:c", "fp", TOKEN);
+        small.complete("1:c", TOKEN, new StoredResponse(201, null, new byte[0]));
+        now.addAndGet(1);
+        small.reserve("1:d", "fp", TOKEN);
+        small.complete("1:d", TOKEN, new StoredResponse(201, null, new byte[0]));
+
+        // when
+        small.reserve("1:e", "fp", TOKEN);
+        small.reserve("1:f", "fp", TOKEN);
+
+        // then: 먼저 선점된 완료 기록부터 c, d 순서로 제거
+        assertEquals(3, small.size());
+        assertFalse(small.reserve("1:b", "fp", TOKEN).isCompleted());
+        assertNotNull(small.reserve("1:e", "fp", TOKEN));
+        assertNotNull(small.reserve("1:f", "fp", TOKEN));
+
+        // 만료되면 주기 삭제로 모두 정리
+        now.addAndGet(100);
+        assertEquals(3, small.purgeExpired());
+        assertEquals(0, small.size());
+    }
+
+    @Test
+    void 다른_토큰으로는_완료하거나_해제할_수_없다() {
+        // given
+        store.reserve("1:a", "fp", TOKEN);
+
+        // when
+        boolean completed = store.complete("1:a", "other", new StoredResponse(201, null, new byte[0]));
+        store.release("1:a", "other");
+
+        // then: 선점은 그대로 처리 중, 원래 토큰으로만 완료
+        assertFalse(completed);
+        assertFalse(store.renew("1:a", "other"));
+        assertTrue(store.renew("1:a", TOKEN));
+        assertFalse(store.reserve("1:a", "fp", "other").isCompleted());
+        assertTrue(store.complete("1:a", TOKEN, new StoredResponse(201, null, new byte[0])));
+        assertFalse(store.renew("1:a", TOKEN)); // 완료 후에는 갱신 대상 아님
+    }
+}
@@ -0,0 +1,149 @@
+package org.example.expert.domain.idempotency.repository;
+
+import org.example.expert.domain.common.converter.CompressedTextConverter;
+import org.example.expert.domain.idempotency.dto.IdempotencyRecord;
+import org.example.expert.domain.idempotency.dto.StoredResponse;
+import org.example.expert.domain.weather.converter.FixedWeatherCodesConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({CompressedTextConverter.class, FixedWeatherCodesConfig.class})
+class JdbcIdempotencyStoreTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final MutableClock clock = new MutableClock(START.toInstant(ZoneOffset.UTC));
+    private JdbcIdempotencyStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new JdbcIdempotencyStore(jdbcTemplate, Duration.ofHours(24), Duration.ofSeconds(10), clock);
+    }
+
+    @Test
+    void 처리_중_선점은_lease가_지나면_다시_선점할_수_있다() {
+        // given: 선점한 노드가 응답 저장 전에 종료
+        assertNull(store.reserve("1:a", "fp", "token-a"));
+        assertEquals(START.plusSeconds(10), expiresAt("1:a"));
+
+        // when
+        clock.advance(Duration.ofSeconds(5));
+        IdempotencyRecord inFlight = store.reserve("1:a", "fp", "token-b");
+        clock.advance(Duration.ofSeconds(6));
+        IdempotencyRecord retried = store.reserve("1:a", "fp", "token-b");
+
+        // then
+        assertNotNull(inFlight);
+        assertFalse(inFlight.isCompleted());
+        assertNull(retried);
+    }
+
+    @Test
+    void 응답을_저장하면_만료가_ttl로_연장된다() {
+        // given
+        store.reserve("1:a", "fp", "token-a");
+        clock.advance(Duration.ofSeconds(3));
+
+        // when
+        store.complete("1:a", "token-a", new StoredResponse(201, "application/json", "{}".getBytes()));
+        clock.advance(Duration.ofHours(1));
+        IdempotencyRecord record = store.reserve("1:a", "fp", "token-a");
+
+        // then
+        assertEquals(START.plusSeconds(3).plusHours(24), expiresAt("1:a"));
+        assertTrue(record.isCompleted());
+        assertEquals(201, record.response().status());
+    }
+
+    @Test
+    void lease가_지나_다시_선점되면_이전_선점은_응답을_덮어쓰거나_해제하지_못한다() {
+        // given: A 선점 후 lease 만료, B가 다시 선점
+        assertNull(store.reserve("1:a", "fp", "token-a"));
+        clock.advance(Duration.ofSeconds(11));
+        assertNull(store.reserve("1:a", "fp", "token-b"));
+
+        // when: 늦게 끝난 A의 갱신/해제/완료
+        boolean renewedA = store.renew("1:a", "token-a");
+        store.release("1:a", "token-a");
+        boolean completedA = store.complete("1:a", "token-a", new StoredResponse(201, "application/json", "{\"id\":1}".getBytes()));
+        boolean completedB = store.complete("1:a", "token-b", new StoredResponse(201, "application/json", "{\"id\":2}".getBytes()));
+        boolean completedAAgain = store.complete("1:a", "token-a", new StoredResponse(201, "application/json", "{\"id\":1}".getBytes()));
+
+        // then: B의 응답만 저장됨
+        assertFalse(renewedA);
+        assertFalse(completedA);
+        assertTrue(completedB);
+        assertFalse(completedAAgain);
+        IdempotencyRecord record = store.reserve("1:a", "fp", "token-c");
+        assertTrue(record.isCompleted());
+        assertEquals("{\"id\":2}", new String(record.response().body()));
+    }
+
+    @Test
+    void 처리_중_갱신하면_lease가_연장되어_다른_선점이_실패한다() {
+        // given
+        store.reserve("1:a", "fp", "token-a");
+        clock.advance(Duration.ofSeconds(8));
+
+        // when
+        boolean renewed = store.renew("1:a", "token-a");
+        clock.advance(Duration.ofSeconds(8)); // 첫 lease 기준으로는 만료된 시각
+        IdempotencyRecord other = store.reserve("1:a", "fp", "token-b");
+
+        // then
+        assertTrue(renewed);
+        assertEquals(START.plusSeconds(18), expiresAt("1:a"));
+        assertNotNull(other);
+        assertFalse(other.isCompleted());
+    }
+
+    private LocalDateTime expiresAt(String key) {
+        return jdbcTemplate.queryForObject("SELECT expires_at FROM idempotency_keys WHERE id = ?", LocalDateTime.class, key);
+    }
+
+    // 테스트에서 시간을 앞으로 돌리는 시계 (UTC)
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -1,13 +1,21 @@
 package org.example.expert.domain.manager.service;
 
+import org.example.expert.domain.archive.entity.ArchivedManager;
+import org.example.expert.domain.archive.repository.ArchivedManagerRepository;
+import org.example.expert.domain.archive.repository.ArchivedTodoRepository;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.dto.request.ManagerBulkSaveRequest;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
+import org.example.expert.domain.manager.dto.response.ManagerBulkSaveResponse;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
 import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.enums.ManagerAssignStatus;
+import org.example.expert.domain.manager.repository.ManagerBulkRepository;
 import org.example.expert.domain.manager.repository.ManagerRepository;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoCounterRepository;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
@@ -24,6 +32,8 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -34,6 +44,10 @@ class ManagerServiceTest {
     @Mock private ManagerRepository managerRepository;
     @Mock private UserRepository userRepository;
     @Mock private TodoRepository todoRepository;
+    @Mock private ManagerBulkRepository managerBulkRepository;
+    @Mock private TodoCounterRepository todoCounterRepository;
+    @Mock private ArchivedTodoRepository archivedTodoRepository;
+    @Mock private ArchivedManagerRepository archivedManagerRepository;
 
     @InjectMocks
     private ManagerService managerService;
@@ -127,6 +141,82 @@ class ManagerServiceTest {
         verify(managerRepository).save(any(Manager.class));
     }
 
+    // ===== saveManagers() 분기 =====
+
+    @Test
+    void 담당자_일괄_등록시_id별_처리_결과를_반환한다() {
+        // given: 작성자 ID=1, 요청 [2, 3, 2, 1, 4, 5]
+        //  - 2, 5: 신규 등록 / 3: 이미 담당자 / 2(두 번째): 요청 내 중복 / 1: 본인 / 4: 존재하지 않는 유저
+        AuthUser authUser = new AuthUser(1L, "owner@ex.com", UserRole.USER);
+        User owner = User.fromAuthUser(authUser);
+
+        Todo todo = new Todo("Title", "Contents", "Sunny", owner);
+        ReflectionTestUtils.setField(todo, "id", 10L);
+
+        User user2 = new User("u2@ex.com", "password", UserRole.USER);
+        ReflectionTestUtils.setField(user2, "id", 2L);
+        User user3 = new User("u3@ex.com", "password", UserRole.USER);
+        ReflectionTestUtils.setField(user3, "id", 3L);
+        User user5 = new User("u5@ex.com", "password", UserRole.USER);
+        ReflectionTestUtils.setField(user5, "id", 5L);
+
+        Manager manager2 = new Manager(user2, todo);
+        ReflectionTestUtils.setField(manager2, "id", 100L);
+        Manager manager3 = new Manager(user3, todo);
+        ReflectionTestUtils.setField(manager3, "id", 101L);
+        Manager manager5 = new Manager(user5, todo);
+        ReflectionTestUtils.setField(manager5, "id", 102L);
+
+        given(todoRepository.findById(10L)).willReturn(Optional.of(todo));
+        given(userRepository.findAllById(any())).willReturn(List.of(user2, user3, user5));
+        given(managerRepository.findUserIdsByTodoId(10L)).willReturn(List.of(1L, 3L));
+        given(managerRepository.findByTodoIdAndUserIdIn(eq(10L), any()))
+                .willReturn(List.of(manager2, manager3, manager5));
+
+        // when
+        ManagerBulkSaveResponse response = managerService.saveManagers(
+                authUser, 10L, new ManagerBulkSaveRequest(List.of(2L, 3L, 2L, 1L, 4L, 5L)));
+
+        // then: 신규 대상만 한 번의 배치로 INSERT, 결과는 요청 순서 유지
+        verify(managerBulkRepository).batchInsert(10L, List.of(2L, 5L));
+        verify(todoCounterRepository).addManagerCount(10L, 2);
+        assertEquals(2, response.getAssignedCount());
+
+        List<ManagerBulkSaveResponse.Result> results = response.getResults();
+        assertEquals(6, results.size());
+        assertEquals(ManagerAssignStatus.ASSIGNED, results.get(0).getStatus());
+        assertEquals(100L, results.get(0).getManagerId());
+        assertEquals(ManagerAssignStatus.ALREADY_ASSIGNED, results.get(1).getStatus());
+        assertEquals(101L, results.get(1).getManagerId());
+        assertEquals(ManagerAssignStatus.DUPLICATE, results.get(2).getStatus());
+        assertEquals(ManagerAssignStatus.SELF, results.get(3).getStatus());
+        assertEquals(ManagerAssignStatus.USER_NOT_FOUND, results.get(4).getStatus());
+        assertNull(results.get(4).getManagerId());
+        assertEquals(ManagerAssignStatus.ASSIGNED, results.get(5).getStatus());
+        assertEquals(102L, results.get(5).getManagerId());
+    }
+
+    @Test
+    void 담당자_일괄_등록_요청자가_일정_작성자가_아니면_예외가_발생한다() {
+        // given: 요청자 ID=1, 일정 작성자 ID=999
+        AuthUser authUser = new AuthUser(1L, "req@ex.com", UserRole.USER);
+        User todoOwner = new User("owner@ex.com", "password", UserRole.USER);
+        ReflectionTestUtils.setField(todoOwner, "id", 999L);
+
+        Todo todo = new Todo("Title", "Contents", "Sunny", todoOwner);
+        ReflectionTestUtils.setField(todo, "id", 10L);
+
+        given(todoRepository.findById(10L)).willReturn(Optional.of(todo));
+
+        // when & then: 검증 실패 시 유저 조회/INSERT 모두 수행하지 않음
+        InvalidRequestException ex = assertThrows(InvalidRequestException.class,
+                () -> managerService.saveManagers(authUser, 10L, new ManagerBulkSaveRequest(List.of(2L, 3L))));
+
+        assertEquals("담당자를 등록하려고 하는 유저가 일정을 만든 유저가 유효하지 않습니다.", ex.getMessage());
+        verify(userRepository, never()).findAllById(any());
+        verify(managerBulkRepository, never()).batchInsert(anyLong(), any());
+    }
+
     // ===== getManagers() 분기 =====
 
     @Test
@@ -181,6 +271,29 @@ class ManagerServiceTest {
         assertTrue(managerService.getManagers(todoId).isEmpty());
     }
 
+    @Test
+    void 보관된_할_일의_manager_목록을_조회한다() {
+        // given: 운영 테이블에는 없고 보관 테이블에만 존재
+        long todoId = 1L;
+        User user = new User("user1@example.com", "password", UserRole.USER);
+        ReflectionTestUtils.setField(user, "id", 777L);
+        ArchivedManager manager = new ArchivedManager();
+        ReflectionTestUtils.setField(manager, "id", 123L);
+        ReflectionTestUtils.setField(manager, "user", user);
+
+        given(todoRepository.findById(todoId)).willReturn(Optional.empty());
+        given(archivedTodoRepository.existsById(todoId)).willReturn(true);
+        given(archivedManagerRepository.findByTodoIdWithUser(todoId)).willReturn(List.of(manager));
+
+        // when
+        List<ManagerResponse> list = managerService.getManagers(todoId);
+
+        // then
+        assertEquals(1, list.size());
+        assertEquals(123L, list.get(0).getId());
+        verify(managerRepository, never()).findByTodoIdWithUser(anyLong());
+    }
+
     // ===== deleteManager() 분기 =====
 
     @Test
@@ -202,8 +315,9 @@ class ManagerServiceTest {
         // when: 삭제 실행
         managerService.deleteManager(1L, 10L, 100L);
 
-        // then: 실제 삭제 호출 여부 검증
+        // then: 실제 삭제 호출 여부 검증, 담당자 수 1 감소
         verify(managerRepository).delete(manager);
+        verify(todoCounterRepository).addManagerCount(10L, -1);
     }
 
     @Test
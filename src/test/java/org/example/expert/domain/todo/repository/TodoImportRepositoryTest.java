@@ -0,0 +1,62 @@
+package org.example.expert.domain.todo.repository;
+
+import org.example.expert.domain.common.converter.CompressedTextConverter;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.weather.converter.FixedWeatherCodesConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "app.text-compression.enabled=true",
+        "app.text-compression.min-length=100"
+})
+@Import({TodoImportRepository.class, CompressedTextConverter.class, FixedWeatherCodesConfig.class})
+class TodoImportRepositoryTest {
+
+    @Autowired private TodoImportRepository todoImportRepository;
+    @Autowired private TodoRepository todoRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(new User("owner@ex.com", "pw", UserRole.USER));
+    }
+
+    @Test
+    void 가져온_본문은_엔티티_매핑과_같은_설정으로_압축_저장된다() {
+        // given
+        String longContents = "가져온 긴 본문 ".repeat(100);
+        LocalDateTime now = LocalDateTime.now();
+        List<TodoImportRepository.Row> rows = List.of(
+                new TodoImportRepository.Row("long", longContents, "Sunny", owner.getId(), now, now),
+                new TodoImportRepository.Row("short", "짧은 본문", "Sunny", owner.getId(), now, now)
+        );
+
+        // when
+        List<Long> todoIds = todoImportRepository.insertTodosWithOwners(rows);
+
+        // then: 긴 본문만 압축되어 저장되고, 엔티티로는 원문 그대로 읽힘
+        String storedLong = jdbcTemplate.queryForObject("SELECT contents FROM todos WHERE id = ?", String.class, todoIds.get(0));
+        String storedShort = jdbcTemplate.queryForObject("SELECT contents FROM todos WHERE id = ?", String.class, todoIds.get(1));
+        assertTrue(CompressedTextConverter.isCompressed(storedLong));
+        assertEquals("짧은 본문", storedShort);
+
+        Todo todo = todoRepository.findById(todoIds.get(0)).orElseThrow();
+        assertEquals(longContents, todo.getContents());
+    }
+}
@@ -0,0 +1,133 @@
+package org.example.expert.domain.todo.repository;
+
+import io.r2dbc.spi.ConnectionFactories;
+import org.example.expert.domain.common.converter.CompressedTextConverter;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.weather.converter.WeatherCodes;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 직접 작성한 R2DBC SQL을 r2dbc-h2(메모리 DB)에서 실행해 검증
+class TodoReactiveRepositoryTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 10, 9, 0);
+
+    private final DatabaseClient databaseClient = DatabaseClient.create(
+            ConnectionFactories.get("r2dbc:h2:mem:///rx-todos;DB_CLOSE_DELAY=-1"));
+    private final TodoReactiveRepository todoReactiveRepository = new TodoReactiveRepository(
+            databaseClient, WeatherCodes.of(Map.of("Sunny", (short) 1, "Rainy", (short) 2)), new CompressedTextConverter());
+
+    @BeforeEach
+    void setUp() {
+        execute("CREATE TABLE IF NOT EXISTS users (id BIGINT PRIMARY KEY, email VARCHAR(255))");
+        for (String table : List.of("todos", "todos_archive")) {
+            execute("CREATE TABLE IF NOT EXISTS " + table + " (id BIGINT PRIMARY KEY, title VARCHAR(255), "
+                    + "contents VARCHAR(20000), weather_code SMALLINT, version BIGINT, comment_count INT, manager_count INT, "
+                    + "created_at TIMESTAMP, modified_at TIMESTAMP, user_id BIGINT)");
+        }
+        execute("DELETE FROM todos");
+        execute("DELETE FROM todos_archive");
+        execute("DELETE FROM users");
+        execute("INSERT INTO users (id, email) VALUES (1, 'a@ex.com')");
+    }
+
+    @Test
+    void 페이지_조회는_조건을_적용하고_수정일_최신순으로_자른다() {
+        // given: 1~4는 Sunny(하루씩 늦게 수정), 5는 Rainy
+        for (long id = 1; id <= 4; id++) {
+            insertTodo("todos", id, "contents", (short) 1, BASE.plusDays(id));
+        }
+        insertTodo("todos", 5L, "contents", (short) 2, BASE.plusDays(5));
+
+        // when: 날짜 범위 [2일 후, 5일 후) 안의 Sunny 중 첫 건을 건너뛰고 2건
+        List<TodoResponse> page = todoReactiveRepository
+                .findPage((short) 1, BASE.plusDays(2), BASE.plusDays(5), 1, 2)
+                .collectList()
+                .block();
+        Long count = todoReactiveRepository.count((short) 1, BASE.plusDays(2), BASE.plusDays(5)).block();
+
+        // then: 범위 안은 4, 3, 2 → 오프셋 1부터 3, 2
+        assertNotNull(page);
+        assertEquals(List.of(3L, 2L), page.stream().map(TodoResponse::getId).toList());
+        assertEquals(3L, count);
+    }
+
+    @Test
+    void 조건이_없으면_전체를_조회한다() {
+        // given
+        insertTodo("todos", 1L, "contents", null, BASE);
+        insertTodo("todos", 2L, "contents", (short) 2, BASE);
+
+        // when
+        List<TodoResponse> page = todoReactiveRepository.findPage(null, null, null, 0, 10).collectList().block();
+
+        // then: 수정 시각이 같으면 id 역순
+        assertNotNull(page);
+        assertEquals(List.of(2L, 1L), page.stream().map(TodoResponse::getId).toList());
+        assertEquals(2L, todoReactiveRepository.count(null, null, null).block());
+    }
+
+    @Test
+    void 단건_조회는_모든_컬럼을_응답으로_변환한다() {
+        // given: 압축 저장된 본문
+        String contents = "긴 본문 ".repeat(100);
+        insertTodo("todos", 1L, new CompressedTextConverter(true, 10).convertToDatabaseColumn(contents), (short) 2, BASE);
+
+        // when
+        TodoResponse res = todoReactiveRepository.findById(1L).block();
+
+        // then
+        assertNotNull(res);
+        assertEquals("title1", res.getTitle());
+        assertEquals(contents, res.getContents());
+        assertEquals("Rainy", res.getWeather());
+        assertEquals(1L, res.getUser().getId());
+        assertEquals("a@ex.com", res.getUser().getEmail());
+        assertEquals(3L, res.getVersion());
+        assertEquals(2, res.getCommentCount());
+        assertEquals(1, res.getManagerCount());
+        assertEquals(BASE, res.getModifiedAt());
+        assertNull(todoReactiveRepository.findById(2L).block());
+    }
+
+    @Test
+    void 보관된_할_일은_보관_테이블에서만_조회된다() {
+        // given
+        insertTodo("todos_archive", 7L, "archived", null, BASE);
+
+        // when & then
+        assertNull(todoReactiveRepository.findById(7L).block());
+        assertFalse(todoReactiveRepository.existsById(7L).block());
+        assertTrue(todoReactiveRepository.existsArchivedById(7L).block());
+
+        TodoResponse archived = todoReactiveRepository.findArchivedById(7L).block();
+        assertNotNull(archived);
+        assertEquals("archived", archived.getContents());
+        assertNull(archived.getWeather());
+    }
+
+    private void insertTodo(String table, long id, String contents, Short weatherCode, LocalDateTime modifiedAt) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql("INSERT INTO " + table
+                        + " (id, title, contents, weather_code, version, comment_count, manager_count,"
+                        + " created_at, modified_at, user_id)"
+                        + " VALUES (:id, :title, :contents, :weatherCode, 3, 2, 1, :createdAt, :modifiedAt, 1)")
+                .bind("id", id)
+                .bind("title", "title" + id)
+                .bind("contents", contents)
+                .bind("createdAt", BASE)
+                .bind("modifiedAt", modifiedAt);
+        spec = weatherCode == null ? spec.bindNull("weatherCode", Short.class) : spec.bind("weatherCode", weatherCode);
+        spec.then().block();
+    }
+
+    private void execute(String sql) {
+        databaseClient.sql(sql).then().block();
+    }
+}
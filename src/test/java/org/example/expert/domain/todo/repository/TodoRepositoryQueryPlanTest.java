@@ -0,0 +1,162 @@
+package org.example.expert.domain.todo.repository;
+
+import org.example.expert.domain.common.converter.CompressedTextConverter;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.weather.converter.FixedWeatherCodesConfig;
+import org.example.expert.domain.weather.converter.WeatherCodes;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 목록 조회 쿼리가 조건 조합과 무관하게 인덱스를 타는지 H2 EXPLAIN으로 확인
+ * - Hibernate가 실제로 생성한 SQL을 StatementInspector로 수집
+ * - 조건 값은 인라인 리터럴로 렌더링하여(value_handling_mode=inline) 남은 파라미터는 LIMIT/OFFSET뿐
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=org.example.expert.domain.todo.repository.TodoRepositoryQueryPlanTest$SqlCaptor",
+        "spring.jpa.properties.hibernate.criteria.value_handling_mode=inline"
+})
+@Import({CompressedTextConverter.class, FixedWeatherCodesConfig.class})
+class TodoRepositoryQueryPlanTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final String[] WEATHERS = {"Sunny", "Cloudy", "Rainy", "Snowy", "Windy"};
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private WeatherCodes weatherCodes;
+
+    public static class SqlCaptor implements StatementInspector {
+
+        static final List<String> statements = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            statements.add(sql);
+            return sql;
+        }
+    }
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try (PreparedStatement user = connection.prepareStatement(
+                "INSERT INTO users (email, password, user_role) VALUES ('plan@ex.com', 'pw', 'USER')")) {
+            user.executeUpdate();
+        }
+        try (PreparedStatement todo = connection.prepareStatement(
+                "INSERT INTO todos (title, contents, weather_code, version, user_id, created_at, modified_at) "
+                        + "SELECT 'title', 'contents', ?, 0, id, ?, ? FROM users WHERE email = 'plan@ex.com'")) {
+            // 1년에 걸쳐 날씨 5종을 고르게 분포
+            for (int i = 0; i < 500; i++) {
+                Timestamp modifiedAt = Timestamp.valueOf(BASE.plusHours(i * 17L));
+                todo.setShort(1, FixedWeatherCodesConfig.CODES.get(WEATHERS[i % WEATHERS.length]));
+                todo.setTimestamp(2, modifiedAt);
+                todo.setTimestamp(3, modifiedAt);
+                todo.addBatch();
+            }
+            todo.executeBatch();
+        }
+        SqlCaptor.statements.clear();
+    }
+
+    @ParameterizedTest
+    @CsvSource(nullValues = "null", value = {
+            "Sunny, null, null",
+            "null,  30,   null",
+            "null,  null, 60",
+            "null,  30,   60",
+            "Sunny, 30,   null",
+            "Sunny, null, 60",
+            "Sunny, 30,   60"
+    })
+    void 페이지_목록_조회는_조건_조합과_무관하게_인덱스를_사용한다(String weather, Integer fromDay, Integer toDay) throws SQLException {
+        // when: 목록 + COUNT 쿼리
+        todoRepository.findAll(filter(weather, fromDay, toDay), PageRequest.of(1, 10, TodoRepository.LATEST_FIRST));
+
+        // then
+        assertAllTodoSelectsUseIndex();
+    }
+
+    @ParameterizedTest
+    @CsvSource(nullValues = "null", value = {
+            "null,  null, null",
+            "Sunny, null, null",
+            "null,  30,   null",
+            "null,  null, 60",
+            "Sunny, 30,   60"
+    })
+    void 키셋_목록_조회는_조건_조합과_무관하게_인덱스를_사용한다(String weather, Integer fromDay, Integer toDay) throws SQLException {
+        // given: 기간 중간의 커서
+        Specification<Todo> spec = filter(weather, fromDay, toDay)
+                .and(TodoSpecifications.after(BASE.plusDays(45), 250L));
+
+        // when
+        todoRepository.findLatest(spec, 11);
+
+        // then
+        assertAllTodoSelectsUseIndex();
+    }
+
+    private Specification<Todo> filter(String weather, Integer fromDay, Integer toDay) {
+        return TodoSpecifications.filter(
+                weatherCodes,
+                weather,
+                fromDay == null ? null : BASE.plusDays(fromDay),
+                toDay == null ? null : BASE.plusDays(toDay)
+        );
+    }
+
+    private void assertAllTodoSelectsUseIndex() throws SQLException {
+        List<String> selects = SqlCaptor.statements.stream()
+                .filter(sql -> sql.startsWith("select") && sql.contains(" from todos "))
+                .toList();
+        assertFalse(selects.isEmpty());
+
+        for (String sql : selects) {
+            String plan = explain(sql);
+            assertFalse(plan.contains("PUBLIC.TODOS.tableScan"), () -> "full scan:\n" + sql + "\n" + plan);
+            assertTrue(plan.contains("IDX_TODOS_"), () -> "index not used:\n" + sql + "\n" + plan);
+        }
+    }
+
+    // 남은 ? 파라미터(LIMIT/OFFSET)는 임의의 양수로 바인딩
+    private String explain(String sql) throws SQLException {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+            int parameterCount = (int) sql.chars().filter(c -> c == '?').count();
+            for (int i = 1; i <= parameterCount; i++) {
+                statement.setInt(i, 10);
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getString(1);
+            }
+        }
+    }
+}
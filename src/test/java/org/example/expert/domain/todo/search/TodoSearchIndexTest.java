@@ -0,0 +1,141 @@
+package org.example.expert.domain.todo.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TodoSearchIndexTest {
+
+    private static final long NO_BUDGET = Long.MAX_VALUE;
+
+    @Test
+    void 제목과_내용의_단어로_검색된다() {
+        // given
+        TodoSearchIndex index = new TodoSearchIndex(NO_BUDGET, 0.5, 30);
+        LocalDateTime now = LocalDateTime.now();
+        index.index(1L, "장보기 목록", "우유, 계란, Bread", now);
+        index.index(2L, "운동", "아침 러닝", now);
+
+        // when & then: 대소문자 무시, 구두점으로 단어 분리
+        assertEquals(List.of(1L), index.search("bread", 10));
+        assertEquals(List.of(2L), index.search("러닝", 10));
+        assertTrue(index.search("없는단어", 10).isEmpty());
+    }
+
+    @Test
+    void 관련도가_같으면_최근_수정된_할일이_먼저_나온다() {
+        // given: 같은 내용, 수정 시각만 다름
+        TodoSearchIndex index = new TodoSearchIndex(NO_BUDGET, 0.5, 30);
+        index.index(1L, "회의", "주간 회의 준비", LocalDateTime.now().minusDays(90));
+        index.index(2L, "회의", "주간 회의 준비", LocalDateTime.now());
+
+        // when
+        List<Long> result = index.search("회의", 10);
+
+        // then
+        assertEquals(List.of(2L, 1L), result);
+    }
+
+    @Test
+    void 제목에_나온_단어가_내용보다_높은_점수를_받는다() {
+        // given
+        TodoSearchIndex index = new TodoSearchIndex(NO_BUDGET, 0.5, 30);
+        LocalDateTime now = LocalDateTime.now();
+        index.index(1L, "보고서", "발표 자료 정리", now);
+        index.index(2L, "발표", "보고서 자료 정리", now);
+
+        // when & then
+        assertEquals(List.of(2L, 1L), index.search("발표", 10));
+    }
+
+    @Test
+    void 재색인하면_이전_내용으로는_검색되지_않는다() {
+        // given
+        TodoSearchIndex index = new TodoSearchIndex(NO_BUDGET, 0.5, 30);
+        LocalDateTime now = LocalDateTime.now();
+        index.index(1L, "old title", "contents", now);
+
+        // when
+        index.index(1L, "new title", "contents", now.plusSeconds(1));
+
+        // then
+        assertTrue(index.search("old", 10).isEmpty());
+        assertEquals(List.of(1L), index.search("new", 10));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void 더_오래된_수정본은_색인을_덮어쓰지_않는다() {
+        // given: 실시간 갱신이 먼저 반영된 뒤 초기 색인의 과거 데이터가 도착한 경우
+        TodoSearchIndex index = new TodoSearchIndex(NO_BUDGET, 0.5, 30);
+        LocalDateTime now = LocalDateTime.now();
+        index.index(1L, "new title", "contents", now);
+
+        // when
+        index.index(1L, "old title", "contents", now.minusMinutes(1));
+
+        // then
+        assertEquals(List.of(1L), index.search("new", 10));
+        assertTrue(index.search("old", 10).isEmpty());
+    }
+
+    @Test
+    void 삭제된_할일은_검색되지_않고_재구성_후에도_결과가_유지된다() {
+        // given: 재구성 기준(1024건) 이상 색인 후 절반 삭제
+        TodoSearchIndex index = new TodoSearchIndex(NO_BUDGET, 0.5, 30);
+        LocalDateTime now = LocalDateTime.now();
+        for (long id = 1; id <= 2000; id++) {
+            index.index(id, "todo " + id, id % 2 == 0 ? "even" : "odd", now);
+        }
+
+        // when
+        for (long id = 2; id <= 2000; id += 2) {
+            index.remove(id);
+        }
+
+        // then
+        assertEquals(1000, index.size());
+        assertTrue(index.search("even", 10).isEmpty());
+        assertEquals(10, index.search("odd", 10).size());
+        assertEquals(List.of(1999L), index.search("1999", 10));
+    }
+
+    @Test
+    void 메모리_예산을_넘으면_오래_색인된_문서부터_제외된다() {
+        // given: 작은 예산
+        TodoSearchIndex index = new TodoSearchIndex(256 * 1024, 0.5, 30);
+        LocalDateTime now = LocalDateTime.now();
+
+        // when
+        for (long id = 1; id <= 20_000; id++) {
+            index.index(id, "title" + id, "contents" + id, now);
+        }
+
+        // then: 예산 이내로 유지되고 가장 최근 문서는 남아 있음
+        assertTrue(index.estimatedBytes() <= 256 * 1024);
+        assertTrue(index.size() < 20_000);
+        assertEquals(List.of(20_000L), index.search("title20000", 10));
+        assertTrue(index.search("title1", 10).isEmpty());
+    }
+
+    @Test
+    void 메모리_예산을_넘으면_수정_시각이_오래된_문서부터_제외된다() {
+        // given: 먼저 색인한 문서일수록 최근에 수정된 문서
+        TodoSearchIndex index = new TodoSearchIndex(256 * 1024, 0.5, 30);
+        LocalDateTime now = LocalDateTime.now();
+
+        // when
+        for (long id = 1; id <= 20_000; id++) {
+            index.index(id, "title" + id, "contents" + id, now.minusMinutes(id));
+        }
+
+        // then: 먼저 색인됐어도 가장 최근 수정된 문서는 남고, 수정 시각이 오래된 문서는 제외됨
+        assertTrue(index.estimatedBytes() <= 256 * 1024);
+        assertTrue(index.size() < 20_000);
+        assertEquals(List.of(1L), index.search("title1", 10));
+        assertTrue(index.search("title10000", 10).isEmpty());
+    }
+}
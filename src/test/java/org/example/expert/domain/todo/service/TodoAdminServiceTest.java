@@ -0,0 +1,69 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.response.TodoExportRow;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class TodoAdminServiceTest {
+
+    @Mock private TodoRepository todoRepository;
+    @Mock private CommentRepository commentRepository;
+    @Mock private ManagerRepository managerRepository;
+    @Mock private ApplicationEventPublisher eventPublisher;
+    @Spy private ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @InjectMocks
+    private TodoAdminService todoAdminService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(todoAdminService, "exportFetchSize", 100);
+        ReflectionTestUtils.setField(todoAdminService, "exportFlushEvery", 1);
+    }
+
+    @Test
+    void 할일_내보내기는_한_줄에_한_건씩_NDJSON으로_쓴다() throws Exception {
+        // given
+        LocalDateTime at = LocalDateTime.of(2024, 1, 1, 9, 0);
+        given(todoRepository.streamExportRows(100)).willReturn(Stream.of(
+                new TodoExportRow(1L, "t1", "c1", "Sunny", 10L, 2, 1, at, at),
+                new TodoExportRow(2L, "t2", "c2", "Rainy", 11L, 0, 3, at, at)
+        ));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        long written = todoAdminService.exportTodos(out);
+
+        // then: 줄마다 독립된 JSON 객체
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, written);
+        assertEquals(2, lines.length);
+        assertEquals(1L, objectMapper.readTree(lines[0]).get("id").asLong());
+        assertEquals("Rainy", objectMapper.readTree(lines[1]).get("weather").asText());
+        assertEquals("2024-01-01T09:00:00", objectMapper.readTree(lines[1]).get("createdAt").asText());
+    }
+}
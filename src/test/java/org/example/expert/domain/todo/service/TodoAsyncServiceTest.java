@@ -0,0 +1,110 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.client.WeatherClient;
+import org.example.expert.config.IoExecutor;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.GatewayTimeoutException;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.weather.converter.WeatherCodes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TodoAsyncServiceTest {
+
+    @Mock
+    private TodoService todoService;
+    @Mock
+    private WeatherClient weatherClient;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private WeatherCodes weatherCodes;
+
+    private IoExecutor ioExecutor;
+    private TodoAsyncService todoAsyncService;
+
+    private final AuthUser authUser = new AuthUser(1L, "a@ex.com", UserRole.USER);
+    private final TodoSaveRequest request = new TodoSaveRequest("title", "contents");
+
+    @BeforeEach
+    void setUp() {
+        ioExecutor = new IoExecutor(false, 2, 10);
+        todoAsyncService = new TodoAsyncService(todoService, weatherClient, ioExecutor, weatherCodes, transactionManager,
+                Duration.ofMillis(100), Duration.ofSeconds(2));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        ioExecutor.destroy();
+    }
+
+    @Test
+    void 날씨를_조회한_뒤_할_일을_저장한다() {
+        // given
+        given(weatherClient.getTodayWeather()).willReturn("Sunny");
+        TodoSaveResponse saved = new TodoSaveResponse(1L, "title", "contents", "Sunny", new UserResponse(1L, "a@ex.com"));
+        given(todoService.saveTodo(any(AuthUser.class), any(TodoSaveRequest.class), eq("Sunny"))).willReturn(saved);
+
+        // when
+        TodoSaveResponse res = todoAsyncService.saveTodo(authUser, request).join();
+
+        // then: 날씨 등록은 INSERT 트랜잭션을 열기 전에
+        assertSame(saved, res);
+        InOrder order = inOrder(weatherCodes, transactionManager, todoService);
+        order.verify(weatherCodes).codeOrRegister("Sunny");
+        order.verify(transactionManager).getTransaction(any());
+        order.verify(todoService).saveTodo(any(AuthUser.class), any(TodoSaveRequest.class), eq("Sunny"));
+    }
+
+    @Test
+    void 날씨_조회가_제한_시간을_넘으면_504_예외로_끝나고_저장하지_않는다() {
+        // given
+        given(weatherClient.getTodayWeather()).willAnswer(invocation -> {
+            Thread.sleep(1000);
+            return "Sunny";
+        });
+
+        // when
+        CompletionException ex = assertThrows(CompletionException.class,
+                () -> todoAsyncService.saveTodo(authUser, request).join());
+
+        // then
+        assertInstanceOf(GatewayTimeoutException.class, ex.getCause());
+        verify(todoService, never()).saveTodo(any(), any(), any());
+    }
+
+    @Test
+    void 날씨_조회_실패는_원래_예외로_전달된다() {
+        // given
+        given(weatherClient.getTodayWeather()).willThrow(new ServerException("날씨 데이터가 없습니다."));
+
+        // when
+        CompletionException ex = assertThrows(CompletionException.class,
+                () -> todoAsyncService.saveTodo(authUser, request).join());
+
+        // then
+        assertInstanceOf(ServerException.class, ex.getCause());
+    }
+}
@@ -0,0 +1,213 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.todo.dto.response.TodoImportResponse;
+import org.example.expert.domain.todo.repository.TodoImportRepository;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.weather.converter.WeatherCodes;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TodoImportServiceTest {
+
+    @Mock private TodoImportRepository todoImportRepository;
+    @Mock private UserRepository userRepository;
+    @Mock private WeatherClient weatherClient;
+    @Mock private WeatherCodes weatherCodes;
+    @Mock private TransactionTemplate transactionTemplate;
+    @Mock private ApplicationEventPublisher eventPublisher;
+    @Spy private ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    @Spy private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @InjectMocks
+    private TodoImportService todoImportService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(todoImportService, "batchSize", 2);
+        ReflectionTestUtils.setField(todoImportService, "maxReportedErrors", 10);
+        ReflectionTestUtils.setField(todoImportService, "progressLogEvery", 1000);
+
+        // 트랜잭션 콜백을 바로 실행
+        willAnswer(invocation -> {
+            Consumer<TransactionStatus> callback = invocation.getArgument(0);
+            callback.accept(null);
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    void 정상_줄은_배치로_저장하고_실패한_줄은_줄번호와_함께_반환한다() throws Exception {
+        // given: 1,4,5줄 정상 / 2줄 JSON 오류 / 3줄 빈 제목 / 6줄 빈 줄 / 7줄 없는 유저
+        String body = String.join("\n",
+                "{\"title\":\"t1\",\"contents\":\"c1\",\"userId\":1,\"weather\":\"Sunny\"}",
+                "{\"title\":",
+                "{\"title\":\"\",\"contents\":\"c3\",\"userId\":1}",
+                "{\"title\":\"t4\",\"contents\":\"c4\",\"userId\":1,\"createdAt\":\"2024-03-01T10:00:00\"}",
+                "{\"title\":\"t5\",\"contents\":\"c5\",\"userId\":2,\"weather\":\"Rainy\"}",
+                "",
+                "{\"title\":\"t7\",\"contents\":\"c7\",\"userId\":99,\"weather\":\"Rainy\"}");
+        given(userRepository.findExistingIds(any())).willReturn(List.of(1L, 2L));
+        given(weatherClient.getWeatherFromSnapshot(LocalDate.of(2024, 3, 1))).willReturn("Cloudy");
+        given(todoImportRepository.insertTodosWithOwners(anyList())).willReturn(List.of(10L, 11L), List.of(12L));
+
+        // when
+        TodoImportResponse response = todoImportService.importTodos(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+
+        // then
+        assertEquals(6, response.getTotalLines());
+        assertEquals(3, response.getImportedCount());
+        assertEquals(3, response.getFailedCount());
+        assertEquals(List.of(2L, 3L, 7L), response.getErrors().stream().map(TodoImportResponse.LineError::getLine).toList());
+        assertFalse(response.isErrorsTruncated());
+
+        // 배치 크기 2 → [1,4] 저장, [5,7] 중 5만 저장
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<TodoImportRepository.Row>> rows = ArgumentCaptor.forClass(List.class);
+        verify(todoImportRepository, times(2)).insertTodosWithOwners(rows.capture());
+        assertEquals("Cloudy", rows.getAllValues().get(0).get(1).weather());
+        assertEquals(1, rows.getAllValues().get(1).size());
+        verify(eventPublisher, times(2)).publishEvent(any(Object.class));
+
+        // 저장한 줄의 날씨는 배치 트랜잭션 전에 사전에 등록 (없는 유저의 줄은 제외)
+        verify(weatherCodes).codeOrRegister("Sunny");
+        verify(weatherCodes).codeOrRegister("Cloudy");
+        verify(weatherCodes).codeOrRegister("Rainy");
+    }
+
+    @Test
+    void 날씨_등록에_실패한_줄은_저장하지_않고_보고한다() throws Exception {
+        // given
+        ReflectionTestUtils.setField(todoImportService, "batchSize", 3);
+        String body = String.join("\n",
+                "{\"title\":\"t1\",\"contents\":\"c1\",\"userId\":1,\"weather\":\"Sunny\"}",
+                "{\"title\":\"t2\",\"contents\":\"c2\",\"userId\":1,\"weather\":\"Broken\"}",
+                "{\"title\":\"t3\",\"contents\":\"c3\",\"userId\":1,\"weather\":\"Broken\"}");
+        given(userRepository.findExistingIds(any())).willReturn(List.of(1L));
+        given(weatherCodes.codeOrRegister("Broken")).willThrow(new DataIntegrityViolationException("weathers 등록 실패"));
+        given(todoImportRepository.insertTodosWithOwners(anyList())).willReturn(List.of(10L));
+
+        // when
+        TodoImportResponse response = todoImportService.importTodos(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+
+        // then: 같은 배치에서 실패한 날씨는 다시 등록하지 않음
+        assertEquals(1, response.getImportedCount());
+        assertEquals(List.of(2L, 3L), response.getErrors().stream().map(TodoImportResponse.LineError::getLine).toList());
+        verify(weatherCodes, times(1)).codeOrRegister("Broken");
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<TodoImportRepository.Row>> rows = ArgumentCaptor.forClass(List.class);
+        verify(todoImportRepository).insertTodosWithOwners(rows.capture());
+        assertEquals(List.of("t1"), rows.getValue().stream().map(TodoImportRepository.Row::title).toList());
+    }
+
+    @Test
+    void 날씨_API_호출이_실패하면_배치_나머지는_다시_호출하지_않고_줄마다_보고한다() throws Exception {
+        // given: 날씨 없는 줄 3개(날짜 모두 다름), 날씨 있는 줄 1개
+        ReflectionTestUtils.setField(todoImportService, "batchSize", 4);
+        String body = String.join("\n",
+                "{\"title\":\"t1\",\"contents\":\"c1\",\"userId\":1,\"createdAt\":\"2024-03-01T10:00:00\"}",
+                "{\"title\":\"t2\",\"contents\":\"c2\",\"userId\":1,\"createdAt\":\"2024-03-02T10:00:00\"}",
+                "{\"title\":\"t3\",\"contents\":\"c3\",\"userId\":1,\"weather\":\"Sunny\"}",
+                "{\"title\":\"t4\",\"contents\":\"c4\",\"userId\":1,\"createdAt\":\"2024-03-03T10:00:00\"}");
+        given(userRepository.findExistingIds(any())).willReturn(List.of(1L));
+        given(weatherClient.getWeatherFromSnapshot(any())).willThrow(new ResourceAccessException("Read timed out"));
+        given(todoImportRepository.insertTodosWithOwners(anyList())).willReturn(List.of(10L));
+
+        // when
+        TodoImportResponse response = todoImportService.importTodos(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+
+        // then
+        assertEquals(1, response.getImportedCount());
+        assertEquals(List.of(1L, 2L, 4L), response.getErrors().stream().map(TodoImportResponse.LineError::getLine).toList());
+        assertTrue(response.getErrors().get(2).getMessage().startsWith("날씨 조회 실패"));
+        verify(weatherClient, times(1)).getWeatherFromSnapshot(any());
+    }
+
+    @Test
+    void 날씨_데이터가_없는_날짜는_배치_안에서_다시_조회하지_않는다() throws Exception {
+        // given
+        ReflectionTestUtils.setField(todoImportService, "batchSize", 3);
+        String body = String.join("\n",
+                "{\"title\":\"t1\",\"contents\":\"c1\",\"userId\":1,\"createdAt\":\"2024-02-29T10:00:00\"}",
+                "{\"title\":\"t2\",\"contents\":\"c2\",\"userId\":1,\"createdAt\":\"2024-02-29T11:00:00\"}",
+                "{\"title\":\"t3\",\"contents\":\"c3\",\"userId\":1,\"createdAt\":\"2024-02-29T12:00:00\"}");
+        given(userRepository.findExistingIds(any())).willReturn(List.of(1L));
+        given(weatherClient.getWeatherFromSnapshot(LocalDate.of(2024, 2, 29)))
+                .willThrow(new ServerException("2024-02-29에 해당하는 날씨 데이터를 찾을 수 없습니다."));
+
+        // when
+        TodoImportResponse response = todoImportService.importTodos(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+
+        // then
+        assertEquals(3, response.getFailedCount());
+        verify(weatherClient, times(1)).getWeatherFromSnapshot(any());
+        verify(todoImportRepository, never()).insertTodosWithOwners(anyList());
+    }
+
+    @Test
+    void 배치_저장이_실패하면_나눠서_다시_저장하고_실패한_줄만_보고한다() throws Exception {
+        // given: 배치 크기 4, 3번째 줄만 DB 제약 위반
+        ReflectionTestUtils.setField(todoImportService, "batchSize", 4);
+        String body = String.join("\n",
+                "{\"title\":\"t1\",\"contents\":\"c1\",\"userId\":1,\"weather\":\"Sunny\"}",
+                "{\"title\":\"t2\",\"contents\":\"c2\",\"userId\":1,\"weather\":\"Sunny\"}",
+                "{\"title\":\"bad\",\"contents\":\"c3\",\"userId\":1,\"weather\":\"Sunny\"}",
+                "{\"title\":\"t4\",\"contents\":\"c4\",\"userId\":1,\"weather\":\"Sunny\"}");
+        given(userRepository.findExistingIds(any())).willReturn(List.of(1L));
+        given(todoImportRepository.insertTodosWithOwners(anyList())).willAnswer(invocation -> {
+            List<TodoImportRepository.Row> rows = invocation.getArgument(0);
+            if (rows.stream().anyMatch(row -> row.title().equals("bad"))) {
+                throw new DataIntegrityViolationException("title too long");
+            }
+            return rows.stream().map(row -> 1L).toList();
+        });
+
+        // when
+        TodoImportResponse response = todoImportService.importTodos(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+
+        // then: [1-4] 실패 → [1,2] 성공 / [3,4] 실패 → [3] 실패, [4] 성공
+        assertEquals(3, response.getImportedCount());
+        assertEquals(1, response.getFailedCount());
+        assertEquals(List.of(3L), response.getErrors().stream().map(TodoImportResponse.LineError::getLine).toList());
+        verify(todoImportRepository, times(5)).insertTodosWithOwners(anyList());
+        verify(eventPublisher, times(2)).publishEvent(any(Object.class));
+    }
+}
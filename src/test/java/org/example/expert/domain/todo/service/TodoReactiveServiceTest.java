@@ -0,0 +1,146 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.repository.TodoReactiveRepository;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.weather.converter.WeatherCodes;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class TodoReactiveServiceTest {
+
+    @Mock
+    private TodoReactiveRepository todoReactiveRepository;
+
+    private TodoReactiveService todoReactiveService;
+
+    @BeforeEach
+    void setUp() {
+        todoReactiveService = new TodoReactiveService(todoReactiveRepository, WeatherCodes.of(Map.of("Sunny", (short) 1)));
+    }
+
+    @Test
+    void 목록_조회는_날씨_코드와_날짜_범위로_조회한다() {
+        // given
+        LocalDateTime from = LocalDate.of(2024, 1, 1).atStartOfDay();
+        LocalDateTime to = LocalDate.of(2024, 1, 31).atStartOfDay();
+        given(todoReactiveRepository.findPage((short) 1, from, to, 10L, 10)).willReturn(Flux.just(todo(1L)));
+        given(todoReactiveRepository.count((short) 1, from, to)).willReturn(Mono.just(11L));
+
+        // when
+        Slice<TodoResponse> slice = todoReactiveService
+                .getTodos(2, 10, "Sunny", LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 30), true)
+                .block();
+
+        // then
+        Page<TodoResponse> page = assertInstanceOf(Page.class, slice);
+        assertEquals(1, page.getContent().size());
+        assertEquals(11, page.getTotalElements());
+    }
+
+    @Test
+    void 전체_건수가_필요_없으면_COUNT_없이_한_건_더_읽는다() {
+        // given
+        given(todoReactiveRepository.findPage(null, null, null, 0L, 3)).willReturn(Flux.just(todo(3L), todo(2L), todo(1L)));
+
+        // when
+        Slice<TodoResponse> slice = todoReactiveService.getTodos(1, 2, null, null, null, false).block();
+
+        // then
+        assertNotNull(slice);
+        assertEquals(2, slice.getContent().size());
+        assertTrue(slice.hasNext());
+        verify(todoReactiveRepository, never()).count(any(), any(), any());
+    }
+
+    @Test
+    void 사전에_없는_날씨는_조회_없이_빈_페이지를_반환한다() {
+        // when
+        Slice<TodoResponse> slice = todoReactiveService.getTodos(1, 10, "Foggy", null, null, false).block();
+
+        // then
+        assertNotNull(slice);
+        assertTrue(slice.isEmpty());
+        verifyNoInteractions(todoReactiveRepository);
+    }
+
+    @Test
+    void 사전에_있는_날씨는_원본을_다시_읽지_않는다() {
+        // given
+        int[] loadCount = {0};
+        todoReactiveService = new TodoReactiveService(todoReactiveRepository, new WeatherCodes(new WeatherCodes.Source() {
+            @Override
+            public Map<String, Short> loadAll() {
+                loadCount[0]++;
+                return Map.of("Sunny", (short) 1);
+            }
+
+            @Override
+            public short register(String value) {
+                throw new UnsupportedOperationException();
+            }
+        }));
+        given(todoReactiveRepository.findPage((short) 1, null, null, 0L, 11)).willReturn(Flux.just(todo(1L)));
+
+        // when
+        Slice<TodoResponse> first = todoReactiveService.getTodos(1, 10, "Sunny", null, null, false).block();
+        Slice<TodoResponse> second = todoReactiveService.getTodos(1, 10, "Sunny", null, null, false).block();
+
+        // then
+        assertNotNull(first);
+        assertNotNull(second);
+        assertEquals(1, second.getContent().size());
+        assertEquals(1, loadCount[0]); // 첫 조회 때 한 번만
+    }
+
+    @Test
+    void 단건_조회는_보관_테이블로_대체_조회한다() {
+        // given
+        given(todoReactiveRepository.findById(anyLong())).willReturn(Mono.empty());
+        given(todoReactiveRepository.findArchivedById(anyLong())).willReturn(Mono.just(todo(1L)));
+
+        // when
+        TodoResponse res = todoReactiveService.getTodo(1L).block();
+
+        // then
+        assertNotNull(res);
+        assertEquals(1L, res.getId());
+    }
+
+    @Test
+    void 어디에도_없는_할_일은_예외가_발생한다() {
+        // given
+        given(todoReactiveRepository.findById(anyLong())).willReturn(Mono.empty());
+        given(todoReactiveRepository.findArchivedById(anyLong())).willReturn(Mono.empty());
+
+        // when & then
+        InvalidRequestException ex = assertThrows(InvalidRequestException.class,
+                () -> todoReactiveService.getTodo(1L).block());
+        assertEquals("Todo not found", ex.getMessage());
+    }
+
+    private static TodoResponse todo(Long id) {
+        return new TodoResponse(id, "title", "contents", "Sunny", new UserResponse(1L, "a@ex.com"),
+                0L, 0, 1, LocalDateTime.now(), LocalDateTime.now());
+    }
+}
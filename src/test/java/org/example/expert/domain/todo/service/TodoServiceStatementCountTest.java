@@ -0,0 +1,200 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.client.WeatherClient;
+import org.example.expert.config.QueryTimingConfig;
+import org.example.expert.config.SqlStatementCountExtension;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.service.CommentService;
+import org.example.expert.domain.common.converter.CompressedTextConverter;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.repository.ManagerBulkRepository;
+import org.example.expert.domain.manager.service.ManagerService;
+import org.example.expert.domain.todo.dto.request.TodoUpdateRequest;
+import org.example.expert.domain.todo.dto.response.TodoImportResponse;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.dto.response.TodoScrollResponse;
+import org.example.expert.domain.todo.dto.response.TodoSummaryResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoCounterRepository;
+import org.example.expert.domain.todo.repository.TodoImportRepository;
+import org.example.expert.domain.todo.search.TodoSearchIndex;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.weather.converter.FixedWeatherCodesConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 서비스 메서드별 SQL 문 수 고정 (N+1 회귀 감지)
+ * - 할 일 15건, 각 할 일마다 담당자 2명 / 댓글 2개 → 연관 엔티티를 건드리면 건수가 곧바로 늘어남
+ * - JDBC 계층(datasource-proxy)에서 집계하므로 JdbcTemplate으로 실행하는 수정/가져오기 SQL도 포함
+ */
+@DataJpaTest(properties = "app.todo.import.batch-size=10")
+@ImportAutoConfiguration({JacksonAutoConfiguration.class, ValidationAutoConfiguration.class})
+@Import({TodoService.class, CommentService.class, ManagerService.class, TodoImportService.class,
+        TodoImportRepository.class, CompressedTextConverter.class, FixedWeatherCodesConfig.class, QueryTimingConfig.class})
+class TodoServiceStatementCountTest {
+
+    @RegisterExtension
+    SqlStatementCountExtension sql = new SqlStatementCountExtension();
+
+    @MockBean private WeatherClient weatherClient;
+    @MockBean private TodoSearchIndex todoSearchIndex;
+    @MockBean private TodoCounterRepository todoCounterRepository;
+    @MockBean private ManagerBulkRepository managerBulkRepository;
+
+    @Autowired private TestEntityManager em;
+    @Autowired private TodoService todoService;
+    @Autowired private CommentService commentService;
+    @Autowired private ManagerService managerService;
+    @Autowired private TodoImportService todoImportService;
+
+    private final List<Long> todoIds = new ArrayList<>();
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        owner = em.persist(new User("owner@ex.com", "pw", UserRole.USER));
+        User member = em.persist(new User("member@ex.com", "pw", UserRole.USER));
+        for (int i = 0; i < 15; i++) {
+            Todo todo = em.persist(new Todo("title" + i, "contents" + i, "Sunny", owner));
+            em.persist(new Manager(member, todo));
+            em.persist(new Comment("c1", owner, todo));
+            em.persist(new Comment("c2", member, todo));
+            todoIds.add(todo.getId());
+        }
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void 페이지_조회는_목록과_COUNT와_본문_세_번이다() {
+        Page<TodoResponse> page = sql.expect(3, () -> todoService.getTodos(1, 10, null, null, null, false));
+
+        assertEquals(10, page.getContent().size());
+        assertEquals(15, page.getTotalElements());
+        assertNotNull(page.getContent().get(0).getContents());
+    }
+
+    @Test
+    void 요약_페이지_조회는_목록과_COUNT_두_번이다() {
+        Page<TodoSummaryResponse> page = sql.expect(2, () -> todoService.getTodoSummaries(1, 10, null, null, null, false));
+
+        assertEquals(10, page.getContent().size());
+        assertEquals(15, page.getTotalElements());
+        assertTrue(page.getContent().get(0).getPreview().startsWith("contents"));
+        assertFalse(page.getContent().get(0).isContentsTruncated());
+    }
+
+    @Test
+    void 건수_없는_페이지_조회는_목록과_본문_두_번이다() {
+        Slice<TodoResponse> slice = sql.expect(2, () -> todoService.getTodoSlice(2, 10, null, null, null, false));
+
+        assertEquals(5, slice.getContent().size());
+        assertFalse(slice.hasNext());
+    }
+
+    @Test
+    void 건수_없는_요약_페이지_조회는_목록_한_번이다() {
+        Slice<TodoSummaryResponse> slice = sql.expect(1, () -> todoService.getTodoSummarySlice(1, 10, null, null, null, false));
+
+        assertEquals(10, slice.getContent().size());
+        assertTrue(slice.hasNext());
+    }
+
+    @Test
+    void 키셋_조회는_요약_목록_한_번이다() {
+        TodoScrollResponse response = sql.expect(1, () -> todoService.scrollTodos("Sunny", null, null, null, 10, false));
+
+        assertEquals(10, response.getItems().size());
+        assertTrue(response.getItems().get(0).getPreview().startsWith("contents"));
+    }
+
+    @Test
+    void 보관_포함_요약_조회는_두_테이블_요약_목록_두_번이다() {
+        Slice<TodoSummaryResponse> slice = sql.expect(2, () -> todoService.getTodoSummarySlice(1, 10, null, null, null, true));
+
+        assertEquals(10, slice.getContent().size());
+        assertTrue(slice.hasNext());
+    }
+
+    @Test
+    void 검색은_요약_목록_한_번이다() {
+        given(todoSearchIndex.search("title", 10)).willReturn(todoIds.subList(0, 3));
+
+        List<TodoSummaryResponse> result = sql.expect(1, () -> todoService.searchTodos("title", 10));
+
+        assertEquals(todoIds.subList(0, 3), result.stream().map(TodoSummaryResponse::getId).toList());
+    }
+
+    @Test
+    void 단건_조회는_작성자와_지연_로딩_본문까지_두_번이다() {
+        TodoResponse response = sql.expect(2, () -> todoService.getTodo(todoIds.get(0)));
+
+        assertEquals("owner@ex.com", response.getUser().getEmail());
+        assertEquals("contents0", response.getContents());
+    }
+
+    @Test
+    void 부분_수정은_조건부_UPDATE와_응답_조회_두_번이다() {
+        AuthUser authUser = new AuthUser(owner.getId(), owner.getEmail(), UserRole.USER);
+
+        TodoResponse response = sql.expect(2,
+                () -> todoService.updateTodo(authUser, todoIds.get(0), 0L, new TodoUpdateRequest("new title", null)));
+
+        assertEquals(1L, response.getVersion());
+        assertEquals("new title", response.getTitle());
+        assertEquals("contents0", response.getContents());
+    }
+
+    @Test
+    void 가져오기는_배치마다_작성자_확인과_INSERT_두_번이다() {
+        // 20줄, 배치 크기 10 → 배치 2개
+        String body = IntStream.range(0, 20)
+                .mapToObj(i -> "{\"title\":\"imported" + i + "\",\"contents\":\"c\",\"weather\":\"Sunny\",\"userId\":" + owner.getId() + "}")
+                .collect(Collectors.joining("\n"));
+
+        TodoImportResponse response = sql.expect(6,
+                () -> todoImportService.importTodos(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8))));
+
+        assertEquals(20, response.getImportedCount());
+        assertEquals(0, response.getFailedCount());
+    }
+
+    @Test
+    void 댓글_목록은_존재_확인과_조회_두_번이다() {
+        var comments = sql.expect(2, () -> commentService.getComments(todoIds.get(0)));
+
+        assertEquals(2, comments.size());
+    }
+
+    @Test
+    void 담당자_목록은_할_일_조회와_담당자_조회_두_번이다() {
+        List<ManagerResponse> managers = sql.expect(2, () -> managerService.getManagers(todoIds.get(0)));
+
+        assertEquals(2, managers.size());
+    }
+}
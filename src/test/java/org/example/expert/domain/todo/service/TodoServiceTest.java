@@ -0,0 +1,418 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.archive.entity.ArchivedTodo;
+import org.example.expert.domain.archive.repository.ArchivedCommentRepository;
+import org.example.expert.domain.archive.repository.ArchivedManagerRepository;
+import org.example.expert.domain.archive.repository.ArchivedTodoRepository;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.ConflictException;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.PreconditionFailedException;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.request.TodoUpdateRequest;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.dto.response.TodoScrollResponse;
+import org.example.expert.domain.todo.dto.response.TodoSummaryResponse;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.search.TodoSearchIndex;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.weather.converter.WeatherCodes;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class TodoServiceTest {
+
+    @Mock private TodoRepository todoRepository;
+    @Mock private WeatherClient weatherClient;
+    @Mock private CommentRepository commentRepository;
+    @Mock private ManagerRepository managerRepository;
+    @Mock private ArchivedTodoRepository archivedTodoRepository;
+    @Mock private ArchivedCommentRepository archivedCommentRepository;
+    @Mock private ArchivedManagerRepository archivedManagerRepository;
+    @Mock private TodoSearchIndex todoSearchIndex;
+    @Mock private ApplicationEventPublisher eventPublisher;
+    @Mock private WeatherCodes weatherCodes;
+
+    @InjectMocks
+    private TodoService todoService;
+
+    // ===== updateTodo() 분기 =====
+
+    @Test
+    void todo_부분_수정시_수정_후_전체_표현을_반환한다() {
+        // given: 제목만 수정, 현재 버전 3
+        AuthUser authUser = new AuthUser(1L, "owner@ex.com", UserRole.USER);
+        given(todoRepository.updatePartially(eq(10L), eq(1L), eq(3L), eq("new title"), isNull(), any()))
+                .willReturn(1);
+        given(todoRepository.findResponseById(10L)).willReturn(Optional.of(new TodoResponse(10L, "new title",
+                "old contents", "Sunny", new UserResponse(1L, "owner@ex.com"), 4L, 2, 1, null, null)));
+
+        // when
+        TodoResponse response = todoService.updateTodo(authUser, 10L, 3L, new TodoUpdateRequest("new title", null));
+
+        // then: 바꾸지 않은 본문/날씨/작성자도 포함, 실패 원인 조회는 없음
+        assertEquals(10L, response.getId());
+        assertEquals("new title", response.getTitle());
+        assertEquals("old contents", response.getContents());
+        assertEquals("Sunny", response.getWeather());
+        assertEquals(4L, response.getVersion());
+        verify(todoRepository, never()).findOwnerIdById(any());
+    }
+
+    @Test
+    void 버전이_일치하지_않으면_PreconditionFailedException이_발생한다() {
+        // given: UPDATE 0건, 작성자는 일치 → 버전 충돌
+        AuthUser authUser = new AuthUser(1L, "owner@ex.com", UserRole.USER);
+        given(todoRepository.updatePartially(eq(10L), eq(1L), eq(3L), any(), any(), any())).willReturn(0);
+        given(todoRepository.findOwnerIdById(10L)).willReturn(Optional.of(1L));
+
+        // when & then
+        assertThrows(PreconditionFailedException.class,
+                () -> todoService.updateTodo(authUser, 10L, 3L, new TodoUpdateRequest("new title", "new contents")));
+    }
+
+    @Test
+    void 작성자가_아니면_todo를_수정할_수_없다() {
+        // given: UPDATE 0건, 작성자 불일치
+        AuthUser authUser = new AuthUser(1L, "req@ex.com", UserRole.USER);
+        given(todoRepository.updatePartially(eq(10L), eq(1L), eq(3L), any(), any(), any())).willReturn(0);
+        given(todoRepository.findOwnerIdById(10L)).willReturn(Optional.of(999L));
+
+        // when & then
+        InvalidRequestException ex = assertThrows(InvalidRequestException.class,
+                () -> todoService.updateTodo(authUser, 10L, 3L, new TodoUpdateRequest(null, "new contents")));
+        assertEquals("일정을 만든 유저만 수정할 수 있습니다.", ex.getMessage());
+    }
+
+    @Test
+    void 보관된_todo를_수정하면_ConflictException이_발생한다() {
+        // given: 운영 테이블에는 없고 보관 테이블에만 있음
+        AuthUser authUser = new AuthUser(1L, "owner@ex.com", UserRole.USER);
+        given(todoRepository.updatePartially(eq(10L), eq(1L), eq(3L), any(), any(), any())).willReturn(0);
+        given(todoRepository.findOwnerIdById(10L)).willReturn(Optional.empty());
+        given(archivedTodoRepository.existsById(10L)).willReturn(true);
+
+        // when & then
+        ConflictException ex = assertThrows(ConflictException.class,
+                () -> todoService.updateTodo(authUser, 10L, 3L, new TodoUpdateRequest("new title", null)));
+        assertEquals("보관된 할 일은 수정할 수 없습니다.", ex.getMessage());
+    }
+
+    // ===== deleteTodo() 분기 =====
+
+    @Test
+    void todo를_삭제하면_댓글_담당자_할일_순으로_일괄_삭제된다() {
+        // given: 요청자 = 작성자
+        AuthUser authUser = new AuthUser(1L, "owner@ex.com", UserRole.USER);
+        given(todoRepository.findOwnerIdById(10L)).willReturn(Optional.of(1L));
+
+        // when
+        todoService.deleteTodo(authUser, 10L);
+
+        // then: 엔티티 로딩 없이 DELETE 문만 실행
+        verify(commentRepository).deleteAllByTodoIdIn(List.of(10L));
+        verify(managerRepository).deleteAllByTodoIdIn(List.of(10L));
+        verify(todoRepository).deleteAllByIdIn(List.of(10L));
+    }
+
+    @Test
+    void 작성자가_아니면_todo를_삭제할_수_없다() {
+        // given: 작성자 ID=999
+        AuthUser authUser = new AuthUser(1L, "req@ex.com", UserRole.USER);
+        given(todoRepository.findOwnerIdById(10L)).willReturn(Optional.of(999L));
+
+        // when & then
+        InvalidRequestException ex = assertThrows(InvalidRequestException.class,
+                () -> todoService.deleteTodo(authUser, 10L));
+
+        assertEquals("일정을 만든 유저만 삭제할 수 있습니다.", ex.getMessage());
+        verify(todoRepository, never()).deleteAllByIdIn(any());
+    }
+
+    @Test
+    void 보관된_todo를_삭제하면_보관_테이블에서_일괄_삭제된다() {
+        // given: 운영 테이블에는 없고 보관 테이블에만 있음, 요청자 = 작성자
+        AuthUser authUser = new AuthUser(1L, "owner@ex.com", UserRole.USER);
+        given(todoRepository.findOwnerIdById(10L)).willReturn(Optional.empty());
+        given(archivedTodoRepository.findOwnerIdById(10L)).willReturn(Optional.of(1L));
+
+        // when
+        todoService.deleteTodo(authUser, 10L);
+
+        // then: 보관 댓글 → 보관 담당자 → 보관 할 일, 운영 테이블은 건드리지 않음
+        InOrder inOrder = inOrder(archivedCommentRepository, archivedManagerRepository, archivedTodoRepository);
+        inOrder.verify(archivedCommentRepository).deleteAllByTodoIdIn(List.of(10L));
+        inOrder.verify(archivedManagerRepository).deleteAllByTodoIdIn(List.of(10L));
+        inOrder.verify(archivedTodoRepository).deleteAllByIdIn(List.of(10L));
+        verify(todoRepository, never()).deleteAllByIdIn(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void 작성자가_아니면_보관된_todo를_삭제할_수_없다() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "req@ex.com", UserRole.USER);
+        given(todoRepository.findOwnerIdById(10L)).willReturn(Optional.empty());
+        given(archivedTodoRepository.findOwnerIdById(10L)).willReturn(Optional.of(999L));
+
+        // when & then
+        InvalidRequestException ex = assertThrows(InvalidRequestException.class,
+                () -> todoService.deleteTodo(authUser, 10L));
+        assertEquals("일정을 만든 유저만 삭제할 수 있습니다.", ex.getMessage());
+        verify(archivedTodoRepository, never()).deleteAllByIdIn(any());
+    }
+
+    @Test
+    void 존재하지_않는_todo를_삭제하면_예외가_발생한다() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "owner@ex.com", UserRole.USER);
+        given(todoRepository.findOwnerIdById(10L)).willReturn(Optional.empty());
+
+        // when & then
+        InvalidRequestException ex = assertThrows(InvalidRequestException.class,
+                () -> todoService.deleteTodo(authUser, 10L));
+
+        assertEquals("Todo not found", ex.getMessage());
+        verify(commentRepository, never()).deleteAllByTodoIdIn(any());
+    }
+
+    // ===== searchTodos() =====
+
+    @Test
+    void 검색_결과는_색인_순위대로_요약으로_반환된다() {
+        // given: 색인 순위 30 → 10, IN 조회 결과는 최근 수정 순이라 순서가 다름
+        ReflectionTestUtils.setField(todoService, "previewLength", 20);
+        given(todoSearchIndex.search("title", 10)).willReturn(List.of(30L, 10L));
+        given(todoRepository.findSummaries(any(), eq(0L), eq(2), eq(20)))
+                .willReturn(List.of(summary(10L, null), summary(30L, null)));
+
+        // when
+        List<TodoSummaryResponse> result = todoService.searchTodos("title", 10);
+
+        // then
+        assertEquals(List.of(30L, 10L), result.stream().map(TodoSummaryResponse::getId).toList());
+        verify(todoRepository, never()).findContentsByIdIn(any());
+    }
+
+    @Test
+    void 검색_결과가_없으면_DB를_조회하지_않는다() {
+        // given
+        given(todoSearchIndex.search("nothing", 10)).willReturn(List.of());
+
+        // when
+        List<TodoSummaryResponse> result = todoService.searchTodos("nothing", 10);
+
+        // then
+        assertTrue(result.isEmpty());
+        verify(todoRepository, never()).findSummaries(any(), anyLong(), anyInt(), anyInt());
+    }
+
+    // ===== scrollTodos() =====
+
+    @Test
+    void 다음_페이지가_있으면_마지막_항목_기준_커서를_반환한다() {
+        // given: size=2 요청 → 3건 조회됨
+        ReflectionTestUtils.setField(todoService, "previewLength", 20);
+        LocalDateTime modifiedAt = LocalDateTime.of(2024, 5, 1, 12, 0, 0, 123_456_000);
+        given(todoRepository.findSummaries(any(), eq(0L), eq(3), eq(20)))
+                .willReturn(List.of(summary(3L, modifiedAt), summary(2L, modifiedAt), summary(1L, modifiedAt)));
+
+        // when
+        TodoScrollResponse response = todoService.scrollTodos("Sunny", null, null, null, 2, false);
+
+        // then: 2건만 반환, 커서는 두 번째 항목의 (modifiedAt, id)
+        assertEquals(2, response.getItems().size());
+        TodoCursor cursor = TodoCursor.decode(response.getNextCursor());
+        assertEquals(modifiedAt, cursor.modifiedAt());
+        assertEquals(2L, cursor.id());
+    }
+
+    @Test
+    void 마지막_페이지면_커서가_없다() {
+        // given
+        given(todoRepository.findSummaries(any(), anyLong(), anyInt(), anyInt())).willReturn(List.of());
+
+        // when
+        TodoScrollResponse response = todoService.scrollTodos(null, null, null, null, 10, false);
+
+        // then
+        assertTrue(response.getItems().isEmpty());
+        assertNull(response.getNextCursor());
+    }
+
+    @Test
+    void 잘못된_커서나_기간이면_예외가_발생한다() {
+        // when & then
+        assertThrows(InvalidRequestException.class,
+                () -> todoService.scrollTodos(null, null, null, "not-a-cursor", 10, false));
+        assertThrows(InvalidRequestException.class,
+                () -> todoService.getTodos(1, 10, null, LocalDate.of(2024, 2, 1), LocalDate.of(2024, 1, 1), false));
+    }
+
+    // ===== getTodoSummaries() =====
+
+    @Test
+    void 요약_목록_첫_페이지가_덜_찼으면_COUNT를_생략한다() {
+        // given
+        ReflectionTestUtils.setField(todoService, "previewLength", 20);
+        TodoSummaryResponse summary = new TodoSummaryResponse(1L, "title", "preview", true, "Sunny",
+                null, 0L, 0, 1, null, null);
+        given(todoRepository.findSummaries(any(), eq(0L), eq(10), eq(20))).willReturn(List.of(summary));
+
+        // when
+        Page<TodoSummaryResponse> page = todoService.getTodoSummaries(1, 10, null, null, null, false);
+
+        // then
+        assertEquals(1, page.getTotalElements());
+        assertTrue(page.getContent().get(0).isContentsTruncated());
+        verify(todoRepository, never()).count(any(Specification.class));
+    }
+
+    @Test
+    void 요약_슬라이스는_한_건_더_읽어_다음_페이지_여부만_판단한다() {
+        // given: size=1 요청 → 2건 조회됨
+        ReflectionTestUtils.setField(todoService, "previewLength", 20);
+        TodoSummaryResponse first = new TodoSummaryResponse(2L, "t2", "preview", false, "Sunny",
+                null, 0L, 0, 1, null, null);
+        TodoSummaryResponse second = new TodoSummaryResponse(1L, "t1", "preview", false, "Sunny",
+                null, 0L, 0, 1, null, null);
+        given(todoRepository.findSummaries(any(), eq(1L), eq(2), eq(20))).willReturn(List.of(first, second));
+
+        // when
+        Slice<TodoSummaryResponse> slice = todoService.getTodoSummarySlice(2, 1, null, null, null, false);
+
+        // then
+        assertEquals(List.of(2L), slice.getContent().stream().map(TodoSummaryResponse::getId).toList());
+        assertTrue(slice.hasNext());
+        verify(todoRepository, never()).count(any(Specification.class));
+    }
+
+    // ===== 보관 테이블 =====
+
+    @Test
+    void 운영_테이블에_없는_할_일은_보관_테이블에서_조회한다() {
+        // given
+        User user = User.fromAuthUser(new AuthUser(1L, "owner@ex.com", UserRole.USER));
+        ArchivedTodo archived = archivedTodo(10L, user, LocalDateTime.of(2023, 1, 1, 0, 0));
+        given(todoRepository.findById(10L)).willReturn(Optional.empty());
+        given(archivedTodoRepository.findById(10L)).willReturn(Optional.of(archived));
+
+        // when
+        TodoResponse response = todoService.getTodo(10L);
+
+        // then
+        assertEquals(10L, response.getId());
+        assertEquals("owner@ex.com", response.getUser().getEmail());
+    }
+
+    @Test
+    void 보관_포함_목록은_최대_깊이를_넘는_페이지를_거부한다() {
+        // given: 100 x 11 = 1,100건 깊이
+        int page = TodoService.MAX_ARCHIVE_INCLUDED_WINDOW / 100 + 1;
+
+        // when & then
+        InvalidRequestException ex = assertThrows(InvalidRequestException.class,
+                () -> todoService.getTodoSlice(page, 100, null, null, null, true));
+        assertTrue(ex.getMessage().contains("/todos/scroll"));
+        assertThrows(InvalidRequestException.class,
+                () -> todoService.getTodos(Integer.MAX_VALUE, 100, null, null, null, true)); // int 범위를 넘는 offset도 400
+        verifyNoInteractions(archivedTodoRepository);
+    }
+
+    @Test
+    void 어느_테이블에도_없으면_예외가_발생한다() {
+        // given
+        given(todoRepository.findById(10L)).willReturn(Optional.empty());
+        given(archivedTodoRepository.findById(10L)).willReturn(Optional.empty());
+
+        // when & then
+        assertThrows(InvalidRequestException.class, () -> todoService.getTodo(10L));
+    }
+
+    @Test
+    void 보관_포함_목록은_두_테이블을_최근_순으로_병합한다() {
+        // given: 운영 2건(5월, 3월) + 보관 2건(4월, 1월), size=3
+        ReflectionTestUtils.setField(todoService, "previewLength", 20);
+        given(todoRepository.findSummaries(any(), eq(0L), eq(4), eq(20))).willReturn(List.of(
+                summary(5L, LocalDateTime.of(2024, 5, 1, 0, 0)),
+                summary(3L, LocalDateTime.of(2024, 3, 1, 0, 0))
+        ));
+        given(archivedTodoRepository.findSummaries(any(), eq(4), eq(20))).willReturn(List.of(
+                summary(4L, LocalDateTime.of(2024, 4, 1, 0, 0)),
+                summary(1L, LocalDateTime.of(2024, 1, 1, 0, 0))
+        ));
+
+        // when
+        TodoScrollResponse response = todoService.scrollTodos(null, null, null, null, 3, true);
+
+        // then: 5월 → 4월(보관) → 3월, 다음 커서는 3월 항목 기준
+        assertEquals(List.of(5L, 4L, 3L), response.getItems().stream().map(TodoSummaryResponse::getId).toList());
+        assertEquals(3L, TodoCursor.decode(response.getNextCursor()).id());
+    }
+
+    @Test
+    void 보관_포함_요약_목록은_두_테이블의_요약을_병합한다() {
+        // given: 1페이지 size=2 → 각 테이블에서 3건씩 (다음 페이지 여부 판단용 1건 포함)
+        ReflectionTestUtils.setField(todoService, "previewLength", 20);
+        given(todoRepository.findSummaries(any(), eq(0L), eq(3), eq(20)))
+                .willReturn(List.of(summary(5L, LocalDateTime.of(2024, 5, 1, 0, 0))));
+        given(archivedTodoRepository.findSummaries(any(), eq(3), eq(20))).willReturn(List.of(
+                summary(4L, LocalDateTime.of(2024, 4, 1, 0, 0)),
+                summary(1L, LocalDateTime.of(2024, 1, 1, 0, 0))
+        ));
+
+        // when
+        Slice<TodoSummaryResponse> slice = todoService.getTodoSummarySlice(1, 2, null, null, null, true);
+
+        // then: 본문 전체는 어느 테이블에서도 읽지 않음
+        assertEquals(List.of(5L, 4L), slice.getContent().stream().map(TodoSummaryResponse::getId).toList());
+        assertTrue(slice.hasNext());
+        verify(todoRepository, never()).findContentsByIdIn(any());
+        verify(archivedTodoRepository, never()).findLatest(any(), anyInt());
+    }
+
+    private static TodoSummaryResponse summary(long id, LocalDateTime modifiedAt) {
+        return new TodoSummaryResponse(id, "title" + id, "preview", false, "Sunny",
+                null, 0L, 0, 0, null, modifiedAt);
+    }
+
+    private static ArchivedTodo archivedTodo(long id, User user, LocalDateTime modifiedAt) {
+        ArchivedTodo todo = new ArchivedTodo();
+        ReflectionTestUtils.setField(todo, "id", id);
+        ReflectionTestUtils.setField(todo, "title", "archived");
+        ReflectionTestUtils.setField(todo, "user", user);
+        ReflectionTestUtils.setField(todo, "modifiedAt", modifiedAt);
+        return todo;
+    }
+}
@@ -0,0 +1,112 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.common.converter.CompressedTextConverter;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.weather.converter.FixedWeatherCodesConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * version 컬럼이 nullable로 추가된 기존 DB 재현
+ * - DDL은 H2에서 자동 커밋되므로 테스트 트랜잭션 없이 실행하고 데이터/컬럼 제약은 직접 복구
+ */
+@DataJpaTest(properties = "app.version.backfill.batch-size=2")
+@Import({TodoVersionBackfill.class, CompressedTextConverter.class, FixedWeatherCodesConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TodoVersionBackfillTest {
+
+    @Autowired private TodoVersionBackfill todoVersionBackfill;
+    @Autowired private TodoRepository todoRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("ALTER TABLE todos ALTER COLUMN version SET NULL");
+        owner = userRepository.save(new User("owner@ex.com", "pw", UserRole.USER));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM todos");
+        jdbcTemplate.update("DELETE FROM users");
+        jdbcTemplate.execute("ALTER TABLE todos ALTER COLUMN version SET NOT NULL");
+    }
+
+    @Test
+    void version이_NULL인_행은_보정_전에는_수정되지_않는다() {
+        long legacyTodoId = insertTodo(null);
+
+        int updated = todoRepository.updatePartially(legacyTodoId, owner.getId(), 0L, "new title", null, LocalDateTime.now());
+
+        assertEquals(0, updated);
+    }
+
+    @Test
+    void version_NULL_행을_배치로_0으로_채우면_버전_0으로_수정할_수_있다() {
+        // given: 배치 크기(2)를 넘는 NULL 행, 사이에 이미 버전이 있는 행
+        long first = insertTodo(null);
+        long versioned = insertTodo(5L);
+        long second = insertTodo(null);
+        long third = insertTodo(null);
+
+        // when
+        todoVersionBackfill.backfill();
+
+        // then: NULL이던 행만 0, 기존 버전은 그대로
+        assertEquals(0L, versionOf(first));
+        assertEquals(5L, versionOf(versioned));
+        assertEquals(0L, versionOf(second));
+        assertEquals(0L, versionOf(third));
+        Todo todo = todoRepository.findById(first).orElseThrow();
+        assertEquals(0L, todo.getVersion());
+
+        int updated = todoRepository.updatePartially(first, owner.getId(), 0L, "new title", null, LocalDateTime.now());
+        assertEquals(1, updated);
+    }
+
+    @Test
+    void 비활성화하면_보정하지_않는다() {
+        // given
+        ReflectionTestUtils.setField(todoVersionBackfill, "enabled", false);
+        long legacyTodoId = insertTodo(null);
+
+        try {
+            // when
+            todoVersionBackfill.backfill();
+
+            // then
+            assertNull(versionOf(legacyTodoId));
+        } finally {
+            ReflectionTestUtils.setField(todoVersionBackfill, "enabled", true);
+        }
+    }
+
+    private long insertTodo(Long version) {
+        jdbcTemplate.update("INSERT INTO todos (title, contents, user_id, version, comment_count, manager_count, created_at, modified_at) "
+                + "VALUES ('legacy', 'contents', ?, ?, 0, 0, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", owner.getId(), version);
+        return jdbcTemplate.queryForObject("SELECT MAX(id) FROM todos", Long.class);
+    }
+
+    private Long versionOf(long todoId) {
+        return jdbcTemplate.queryForObject("SELECT version FROM todos WHERE id = ?", Long.class, todoId);
+    }
+}
@@ -0,0 +1,106 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.common.converter.CompressedTextConverter;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.weather.converter.WeatherCodes;
+import org.example.expert.domain.weather.service.WeatherDictionary;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 이전 weather 컬럼이 남아 있는 DB 재현
+ * - DDL은 H2에서 자동 커밋되므로 테스트 트랜잭션 없이 실행하고 데이터/컬럼은 직접 복구
+ */
+@DataJpaTest(properties = "app.weather.backfill.batch-size=2")
+@Import({TodoWeatherCodeBackfill.class, WeatherCodes.class, WeatherDictionary.class, CompressedTextConverter.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TodoWeatherCodeBackfillTest {
+
+    @Autowired private TodoWeatherCodeBackfill todoWeatherCodeBackfill;
+    @Autowired private TodoRepository todoRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    private long ownerId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("ALTER TABLE todos ADD COLUMN weather VARCHAR(100)");
+        ownerId = userRepository.save(new User("owner@ex.com", "pw", UserRole.USER)).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM todos");
+        jdbcTemplate.update("DELETE FROM users");
+        jdbcTemplate.execute("ALTER TABLE todos DROP COLUMN weather");
+    }
+
+    @Test
+    void 이전_weather_값을_사전에_등록하고_weather_code를_채운다() {
+        // given: 배치 크기(2)를 넘는 행, 날씨 없는 행, weathers에 넣을 수 없는 긴 값
+        long sunny = insertLegacyTodo("Sunny");
+        long foggy = insertLegacyTodo("Foggy");
+        long sunnyAgain = insertLegacyTodo("Sunny");
+        long rainy = insertLegacyTodo("Rainy");
+        long none = insertLegacyTodo(null);
+        long tooLong = insertLegacyTodo("x".repeat(60));
+
+        // when
+        todoWeatherCodeBackfill.backfill();
+
+        // then
+        assertEquals("Sunny", todoRepository.findById(sunny).orElseThrow().getWeather());
+        assertEquals("Foggy", todoRepository.findById(foggy).orElseThrow().getWeather());
+        assertEquals("Sunny", todoRepository.findById(sunnyAgain).orElseThrow().getWeather());
+        assertEquals("Rainy", todoRepository.findById(rainy).orElseThrow().getWeather());
+        assertNull(weatherCodeOf(none));
+        assertNull(weatherCodeOf(tooLong));
+        assertEquals(weatherCodeOf(sunny), weatherCodeOf(sunnyAgain));
+        assertTrue(jdbcTemplate.queryForList("SELECT name FROM weathers", String.class)
+                .containsAll(List.of("Sunny", "Foggy", "Rainy")));
+    }
+
+    @Test
+    void 비활성화하면_보정하지_않는다() {
+        // given
+        ReflectionTestUtils.setField(todoWeatherCodeBackfill, "enabled", false);
+        long sunny = insertLegacyTodo("Sunny");
+
+        try {
+            // when
+            todoWeatherCodeBackfill.backfill();
+
+            // then
+            assertNull(weatherCodeOf(sunny));
+        } finally {
+            ReflectionTestUtils.setField(todoWeatherCodeBackfill, "enabled", true);
+        }
+    }
+
+    private long insertLegacyTodo(String weather) {
+        jdbcTemplate.update("INSERT INTO todos (title, contents, weather, user_id, version, comment_count, manager_count, "
+                + "created_at, modified_at) VALUES ('legacy', 'contents', ?, ?, 0, 0, 0, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+                weather, ownerId);
+        return jdbcTemplate.queryForObject("SELECT MAX(id) FROM todos", Long.class);
+    }
+
+    private Short weatherCodeOf(long todoId) {
+        return jdbcTemplate.queryForObject("SELECT weather_code FROM todos WHERE id = ?", Short.class, todoId);
+    }
+}
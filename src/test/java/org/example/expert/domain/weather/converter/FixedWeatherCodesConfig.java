@@ -0,0 +1,28 @@
+package org.example.expert.domain.weather.converter;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import java.util.Map;
+
+/**
+ * JPA 슬라이스 테스트용 고정 날씨 사전 (weathers 테이블을 읽거나 쓰지 않음)
+ * - Todo / ArchivedTodo 매핑의 WeatherCodeConverter가 주입받을 빈
+ * - 테스트가 JDBC로 weather_code를 직접 넣을 때는 CODES의 값을 사용
+ */
+@TestConfiguration
+public class FixedWeatherCodesConfig {
+
+    public static final Map<String, Short> CODES = Map.of(
+            "Sunny", (short) 1,
+            "Cloudy", (short) 2,
+            "Rainy", (short) 3,
+            "Snowy", (short) 4,
+            "Windy", (short) 5
+    );
+
+    @Bean
+    public WeatherCodes weatherCodes() {
+        return WeatherCodes.of(CODES);
+    }
+}
@@ -0,0 +1,166 @@
+package org.example.expert.domain.weather.converter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeatherCodeConverterTest {
+
+    // weathers 테이블 대신 메모리 원본
+    private static class InMemorySource implements WeatherCodes.Source {
+
+        final Map<String, Short> rows = new HashMap<>();
+        int loadCount;
+
+        @Override
+        public Map<String, Short> loadAll() {
+            loadCount++;
+            return new HashMap<>(rows);
+        }
+
+        @Override
+        public short register(String value) {
+            return rows.computeIfAbsent(value, v -> (short) (rows.size() + 1));
+        }
+    }
+
+    @Test
+    void 코드에서_읽은_날씨는_같은_문자열_인스턴스다() {
+        // given
+        WeatherCodeConverter converter = new WeatherCodeConverter(WeatherCodes.of(Map.of("Sunny", (short) 1, "Rainy", (short) 2)));
+
+        // when
+        String first = converter.convertToEntityAttribute((short) 1);
+        String second = converter.convertToEntityAttribute((short) 1);
+
+        // then
+        assertEquals("Sunny", first);
+        assertSame(first, second);
+        assertEquals((short) 2, converter.convertToDatabaseColumn(new String("Rainy")));
+    }
+
+    @Test
+    void 새_날씨는_미리_등록해야_쓸_수_있다() {
+        // given
+        InMemorySource source = new InMemorySource();
+        source.rows.put("Sunny", (short) 1);
+        WeatherCodes weatherCodes = new WeatherCodes(source);
+        WeatherCodeConverter converter = new WeatherCodeConverter(weatherCodes);
+
+        // when: 컨버터(플러시 중)는 등록하지 않음
+        assertThrows(IllegalStateException.class, () -> converter.convertToDatabaseColumn("Snowy"));
+        short code = weatherCodes.codeOrRegister("Snowy");
+
+        // then
+        assertEquals((short) 2, code);
+        assertEquals((short) 2, source.rows.get("Snowy"));
+        assertEquals((short) 2, converter.convertToDatabaseColumn("Snowy"));
+        assertEquals("Snowy", converter.convertToEntityAttribute(code));
+    }
+
+    @Test
+    void 원본은_첫_조회_때_읽는다() {
+        // given
+        InMemorySource source = new InMemorySource();
+        source.rows.put("Sunny", (short) 1);
+
+        // when
+        WeatherCodes weatherCodes = new WeatherCodes(source);
+
+        // then
+        assertEquals(0, source.loadCount);
+        assertEquals((short) 1, weatherCodes.codeOf("Sunny"));
+        assertEquals((short) 1, weatherCodes.codeOf("Sunny"));
+        assertEquals(1, source.loadCount);
+    }
+
+    @Test
+    void 다른_인스턴스가_등록한_코드는_원본에서_다시_읽는다() {
+        // given
+        InMemorySource source = new InMemorySource();
+        WeatherCodes weatherCodes = new WeatherCodes(source);
+        assertNull(weatherCodes.codeOf("Windy")); // 첫 로드
+        source.rows.put("Windy", (short) 7);
+
+        // when
+        String weather = weatherCodes.valueOf((short) 7);
+
+        // then
+        assertEquals("Windy", weather);
+        assertEquals(2, source.loadCount);
+    }
+
+    @Test
+    void 조회는_사전에_없는_날씨를_등록하지_않는다() {
+        // given
+        InMemorySource source = new InMemorySource();
+        WeatherCodes weatherCodes = new WeatherCodes(source);
+
+        // when
+        Short code = weatherCodes.codeOf("Foggy");
+
+        // then
+        assertNull(code);
+        assertTrue(source.rows.isEmpty());
+    }
+
+    @Test
+    void 알_수_없는_코드는_예외가_발생한다() {
+        WeatherCodes weatherCodes = WeatherCodes.of(Map.of("Sunny", (short) 1));
+        WeatherCodeConverter converter = new WeatherCodeConverter(weatherCodes);
+
+        assertThrows(IllegalStateException.class, () -> converter.convertToEntityAttribute((short) 9));
+        assertThrows(IllegalStateException.class, () -> weatherCodes.codeOrRegister("Foggy")); // 고정 사전은 등록 불가
+        assertNull(converter.convertToDatabaseColumn(null));
+        assertNull(converter.convertToEntityAttribute(null));
+    }
+
+    @Test
+    void 사전에_없는_날씨_조회는_간격_안에서_원본을_다시_읽지_않는다() {
+        // given
+        long[] now = {0};
+        InMemorySource source = new InMemorySource();
+        WeatherCodes weatherCodes = new WeatherCodes(source);
+        weatherCodes.nanoClock = () -> now[0];
+
+        // when: 간격 안의 미스 (같은 값 반복, 다른 값 모두)
+        for (int i = 0; i < 100; i++) {
+            assertNull(weatherCodes.codeOf("random-" + i));
+            assertNull(weatherCodes.codeOf("Foggy"));
+        }
+
+        // then: 첫 로드 한 번뿐
+        assertEquals(1, source.loadCount);
+
+        // 간격이 지나면 한 번만 다시 읽고 다른 인스턴스가 등록한 값도 보임
+        source.rows.put("Foggy", (short) 3);
+        now[0] += WeatherCodes.RELOAD_INTERVAL.toNanos();
+        assertEquals((short) 3, weatherCodes.codeOf("Foggy"));
+        assertNull(weatherCodes.codeOf("random-x"));
+        assertEquals(2, source.loadCount);
+    }
+
+    @Test
+    void 메모리_조회는_원본을_읽지_않는다() {
+        // given
+        InMemorySource source = new InMemorySource();
+        source.rows.put("Sunny", (short) 1);
+        WeatherCodes weatherCodes = new WeatherCodes(source);
+
+        // when / then: 첫 로드 전에는 비어 있음
+        assertNull(weatherCodes.cachedCodeOf("Sunny"));
+        assertNull(weatherCodes.cachedValueOf((short) 1));
+        assertEquals(0, source.loadCount);
+
+        weatherCodes.codeOf("Sunny");
+        source.rows.put("Windy", (short) 2);
+        assertEquals((short) 1, weatherCodes.cachedCodeOf("Sunny"));
+        assertNull(weatherCodes.cachedCodeOf("Windy"));
+        assertEquals("Sunny", weatherCodes.cachedValueOf((short) 1));
+        assertNull(weatherCodes.cachedValueOf((short) 2));
+        assertEquals(1, source.loadCount);
+    }
+}